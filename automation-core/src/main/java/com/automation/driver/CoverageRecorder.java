@@ -0,0 +1,477 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.CoverageIndex;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records which client modules, stylesheets and server routes each test touches, for the CoverageIndex
+ * that TestSelectionEngine queries. Opt-in: coverage costs a little on every page, so it is meant for
+ * a periodic recording run rather than every run.
+ *
+ * Each Chromium session runs V8 precise coverage (function granularity) and CSS rule usage tracking
+ * over CDP, sharing the NetworkTracker's DevTools session when there is one. Executed functions are
+ * attributed to the webpack module around them in the dev bundle; used rules to the sources named in
+ * their stylesheet's source map. API requests the page makes are matched to the route declarations in
+ * the server file the way Express matches them (declaration order, :params). The deltas are taken when
+ * a test ends (or its session is released) and kept for passing tests only.
+ *
+ * Test frameworks call begin() and finish() around each test and writeIndex() at the end of the run.
+ *
+ * Configured through ConfigReader: coverage.record.enabled (default false), coverage.index.file
+ * (default build/coverage/coverage-index.properties), coverage.client.dir (default client),
+ * coverage.server.file (default server/index.js under the repository root), coverage.api.pattern
+ * (regex of request paths recorded as routes, default ^/api(/|$))
+ */
+public class CoverageRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoverageRecorder.class);
+    private static final Map<WebDriver, CoverageRecorder> recorders = new ConcurrentHashMap<>();
+    private static final Map<String, ScriptModules> scripts = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> recorded = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<Set<String>> currentUnits = new ThreadLocal<>();
+
+    private static final Pattern WEBPACK_MODULE = Pattern.compile("/\\*\\*\\*/ \"(\\./[^\"]+)\":");
+    private static final Pattern ROUTE_DECLARATION = Pattern.compile("\\bapp\\.(get|post|put|patch|delete)\\(\\s*['\"`]([^'\"`]+)['\"`]");
+    private static final int FETCH_TIMEOUT_MILLIS = 5000;
+
+    private static volatile List<Route> routes;
+
+    private final DevTools devTools;
+    private final boolean ownsSession;
+    private final Pattern apiPattern;
+    private final Set<String> requests = new HashSet<>();
+    private final Map<String, Set<String>> styleSheets = new ConcurrentHashMap<>();
+
+    private CoverageRecorder(DevTools devTools, boolean ownsSession, Pattern apiPattern) {
+        this.devTools = devTools;
+        this.ownsSession = ownsSession;
+        this.apiPattern = apiPattern;
+    }
+
+    /**
+     * Check if coverage recording is enabled
+     * @return true if coverage.record.enabled=true
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("coverage.record.enabled", false);
+    }
+
+    /**
+     * Start recording a new session
+     * Does nothing for drivers without DevTools; a failed attach is logged and the session runs unrecorded
+     * @param webDriver Newly created session
+     */
+    static void attach(WebDriver webDriver) {
+        if (!isEnabled() || !(webDriver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            NetworkTracker tracker = NetworkTracker.forDriver(webDriver);
+            DevTools devTools = tracker != null ? tracker.getDevTools() : ((HasDevTools) webDriver).getDevTools();
+            if (tracker == null) {
+                devTools.createSession();
+            }
+            CoverageRecorder recorder = new CoverageRecorder(devTools, tracker == null,
+                    Pattern.compile(ConfigReader.getInstance().getProperty("coverage.api.pattern", "^/api(/|$)")));
+
+            devTools.addListener(event("Network.requestWillBeSent"), recorder::onRequestWillBeSent);
+            devTools.addListener(event("CSS.styleSheetAdded"), recorder::onStyleSheetAdded);
+            if (tracker == null) {
+                devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+            }
+            Map<String, Object> precise = new HashMap<>();
+            precise.put("callCount", true);
+            precise.put("detailed", false);
+            devTools.send(new Command<>("Profiler.enable", Collections.emptyMap()));
+            devTools.send(new Command<>("Profiler.startPreciseCoverage", precise));
+            devTools.send(new Command<>("DOM.enable", Collections.emptyMap()));
+            devTools.send(new Command<>("CSS.enable", Collections.emptyMap()));
+            devTools.send(new Command<>("CSS.startRuleUsageTracking", Collections.emptyMap()));
+            recorders.put(webDriver, recorder);
+            logger.debug("Coverage recorder attached");
+        } catch (RuntimeException e) {
+            logger.warn("Could not attach coverage recorder, session runs unrecorded: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stop recording a session that is about to be quit
+     * @param webDriver Session being quit
+     */
+    static void detach(WebDriver webDriver) {
+        CoverageRecorder recorder = recorders.remove(webDriver);
+        if (recorder != null && recorder.ownsSession) {
+            try {
+                recorder.devTools.close();
+            } catch (RuntimeException e) {
+                logger.debug("Error closing DevTools connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop what a session recorded before the current test took it, e.g. the pool's session reset
+     * @param webDriver Session handed to the test
+     */
+    static void reset(WebDriver webDriver) {
+        CoverageRecorder recorder = recorders.get(webDriver);
+        if (recorder != null) {
+            recorder.takeDelta();
+        }
+    }
+
+    /**
+     * Add what a session recorded to the current test before the session is released
+     * @param webDriver Session being released
+     */
+    static void collect(WebDriver webDriver) {
+        CoverageRecorder recorder = recorders.get(webDriver);
+        if (recorder == null) {
+            return;
+        }
+        Set<String> delta = recorder.takeDelta();
+        Set<String> units = currentUnits.get();
+        if (units != null) {
+            units.addAll(delta);
+        }
+    }
+
+    /**
+     * Start recording a test on the current thread
+     * @param testId Test id: class#method for TestNG, Feature.feature:line for cucumber scenarios
+     */
+    public static void begin(String testId) {
+        if (!isEnabled()) {
+            return;
+        }
+        currentTest.set(testId);
+        currentUnits.set(new TreeSet<>());
+        if (WebDriverFactory.isDriverInitialized()) {
+            reset(WebDriverFactory.getDriver());
+        }
+    }
+
+    /**
+     * Finish the test on the current thread and keep its units when it passed
+     * @param passed Whether the test passed; failed and skipped tests may have stopped early and are not kept
+     */
+    public static void finish(boolean passed) {
+        String testId = currentTest.get();
+        if (testId == null) {
+            return;
+        }
+        if (WebDriverFactory.isDriverInitialized()) {
+            collect(WebDriverFactory.getDriver());
+        }
+        Set<String> units = currentUnits.get();
+        currentTest.remove();
+        currentUnits.remove();
+        if (passed && units != null && !units.isEmpty()) {
+            recorded.put(testId, units);
+        }
+    }
+
+    /**
+     * Merge the tests recorded in this run into the coverage index file
+     */
+    public static void writeIndex() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(ConfigReader.getInstance().getProperty("coverage.index.file", "build/coverage/coverage-index.properties"));
+        Map<String, Set<String>> tests = new HashMap<>(recorded);
+        try {
+            CoverageIndex.merge(file, tests);
+            recorded.keySet().removeAll(tests.keySet());
+            logger.info("Coverage index updated with {} tests: {}", tests.size(), file);
+        } catch (IOException e) {
+            logger.warn("Could not update coverage index {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Units touched since the previous call: executed modules, used stylesheets and requested routes
+     */
+    private synchronized Set<String> takeDelta() {
+        Set<String> units = new TreeSet<>();
+        try {
+            Map<String, Object> js = devTools.send(new Command<>("Profiler.takePreciseCoverage", Collections.emptyMap(),
+                    input -> input.read(Json.MAP_TYPE)));
+            for (Object script : list(js.get("result"))) {
+                Map<?, ?> coverage = (Map<?, ?>) script;
+                String url = String.valueOf(coverage.get("url"));
+                if (!url.startsWith("http")) {
+                    continue;
+                }
+                ScriptModules modules = scripts.computeIfAbsent(url, CoverageRecorder::loadModules);
+                for (Object function : list(coverage.get("functions"))) {
+                    List<?> ranges = list(((Map<?, ?>) function).get("ranges"));
+                    if (!ranges.isEmpty() && number(((Map<?, ?>) ranges.get(0)).get("count")) > 0) {
+                        String module = modules.moduleAt(number(((Map<?, ?>) ranges.get(0)).get("startOffset")));
+                        if (module != null) {
+                            units.add(module);
+                        }
+                    }
+                }
+            }
+
+            Map<String, Object> css = devTools.send(new Command<>("CSS.takeCoverageDelta", Collections.emptyMap(),
+                    input -> input.read(Json.MAP_TYPE)));
+            for (Object rule : list(css.get("coverage"))) {
+                Map<?, ?> usage = (Map<?, ?>) rule;
+                if (Boolean.TRUE.equals(usage.get("used"))) {
+                    units.addAll(styleSheets.getOrDefault(String.valueOf(usage.get("styleSheetId")), Collections.emptySet()));
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not take coverage: {}", e.getMessage());
+        }
+        synchronized (requests) {
+            requests.forEach(request -> units.add(CoverageIndex.ROUTE + route(request)));
+            requests.clear();
+        }
+        return units;
+    }
+
+    private void onRequestWillBeSent(Map<String, Object> params) {
+        Object request = params.get("request");
+        if (!(request instanceof Map)) {
+            return;
+        }
+        try {
+            String path = URI.create(String.valueOf(((Map<?, ?>) request).get("url"))).getPath();
+            if (path != null && apiPattern.matcher(path).find()) {
+                synchronized (requests) {
+                    requests.add(((Map<?, ?>) request).get("method") + " " + path);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a URL a route can match
+        }
+    }
+
+    private void onStyleSheetAdded(Map<String, Object> params) {
+        Object header = params.get("header");
+        if (!(header instanceof Map)) {
+            return;
+        }
+        Set<String> sources = styleSheetSources(String.valueOf(((Map<?, ?>) header).get("sourceURL")),
+                String.valueOf(((Map<?, ?>) header).get("sourceMapURL")));
+        if (!sources.isEmpty()) {
+            styleSheets.put(String.valueOf(((Map<?, ?>) header).get("styleSheetId")), sources);
+        }
+    }
+
+    /**
+     * Client sources of a stylesheet: from an inline source map (style-loader) or the stylesheet URL
+     */
+    private static Set<String> styleSheetSources(String sourceUrl, String sourceMapUrl) {
+        Set<String> sources = new TreeSet<>();
+        String base64 = ";base64,";
+        if (sourceMapUrl.startsWith("data:") && sourceMapUrl.contains(base64)) {
+            try {
+                String json = new String(Base64.getDecoder().decode(sourceMapUrl.substring(sourceMapUrl.indexOf(base64) + base64.length())),
+                        StandardCharsets.UTF_8);
+                Map<String, Object> sourceMap = new Json().toType(json, Json.MAP_TYPE);
+                for (Object source : list(sourceMap.get("sources"))) {
+                    String unit = clientPath(String.valueOf(source).replaceFirst("^webpack://[^/]*/", "./").replaceFirst("^webpack://", ""));
+                    if (unit != null) {
+                        sources.add(unit);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Unreadable stylesheet source map: {}", e.getMessage());
+            }
+        } else if (sourceUrl.startsWith("http")) {
+            String unit = clientPath(URI.create(sourceUrl).getPath());
+            if (unit != null) {
+                sources.add(unit);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Read a script once and find the webpack module boundaries in it
+     */
+    private static ScriptModules loadModules(String url) {
+        String source;
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(FETCH_TIMEOUT_MILLIS);
+            connection.setReadTimeout(FETCH_TIMEOUT_MILLIS);
+            try (InputStream input = connection.getInputStream()) {
+                source = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not read script {}: {}", url, e.getMessage());
+            return new ScriptModules(new int[0], new String[0], null);
+        }
+        List<Integer> offsets = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher module = WEBPACK_MODULE.matcher(source);
+        while (module.find()) {
+            offsets.add(module.start());
+            names.add(clientPath(module.group(1)));
+        }
+        // Unbundled scripts (native ESM dev servers) are one module each
+        String whole = offsets.isEmpty() ? clientPath(URI.create(url).getPath()) : null;
+        return new ScriptModules(offsets.stream().mapToInt(Integer::intValue).toArray(), names.toArray(new String[0]), whole);
+    }
+
+    /**
+     * Repository path of a client module path such as ./src/components/users/Users.js, or null for
+     * dependencies and paths outside src
+     */
+    private static String clientPath(String path) {
+        if (path == null || path.contains("node_modules")) {
+            return null;
+        }
+        int src = path.indexOf("src/");
+        if (src < 0 || (src > 0 && path.charAt(src - 1) != '/')) {
+            return null;
+        }
+        String clientDir = ConfigReader.getInstance().getProperty("coverage.client.dir", "client");
+        return clientDir + "/" + path.substring(src);
+    }
+
+    /**
+     * Route declaration a request matches, in Express order; the request itself when none matches
+     */
+    private static String route(String request) {
+        int space = request.indexOf(' ');
+        String method = request.substring(0, space).toLowerCase();
+        String path = request.substring(space + 1);
+        for (Route route : routes()) {
+            if (route.method.equals(method) && route.pattern.matcher(path).matches()) {
+                return method.toUpperCase() + " " + route.path;
+            }
+        }
+        return request;
+    }
+
+    private static List<Route> routes() {
+        List<Route> loaded = routes;
+        if (loaded == null) {
+            loaded = new ArrayList<>();
+            Path file = serverFile();
+            try {
+                Matcher declaration = ROUTE_DECLARATION.matcher(Files.readString(file, StandardCharsets.UTF_8));
+                while (declaration.find()) {
+                    loaded.add(new Route(declaration.group(1), declaration.group(2)));
+                }
+            } catch (IOException e) {
+                logger.warn("Could not read server routes from {}, recording request paths: {}", file, e.getMessage());
+            }
+            routes = loaded;
+        }
+        return loaded;
+    }
+
+    private static Path serverFile() {
+        String configured = ConfigReader.getInstance().getProperty("coverage.server.file");
+        if (configured != null && !configured.trim().isEmpty()) {
+            return Paths.get(configured.trim());
+        }
+        for (Path dir = Paths.get("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            if (Files.exists(dir.resolve(".git"))) {
+                return dir.resolve("server/index.js");
+            }
+        }
+        return Paths.get("server/index.js");
+    }
+
+    private static List<?> list(Object value) {
+        return value instanceof List ? (List<?>) value : Collections.emptyList();
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Module start offsets of one script
+     */
+    private static final class ScriptModules {
+        private final int[] offsets;
+        private final String[] names;
+        private final String whole;
+
+        private ScriptModules(int[] offsets, String[] names, String whole) {
+            this.offsets = offsets;
+            this.names = names;
+            this.whole = whole;
+        }
+
+        private String moduleAt(long offset) {
+            if (offsets.length == 0) {
+                return whole;
+            }
+            int low = 0;
+            int high = offsets.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (offsets[mid] <= offset) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found < 0 ? null : names[found];
+        }
+    }
+
+    /**
+     * One Express route declaration
+     */
+    private static final class Route {
+        private final String method;
+        private final String path;
+        private final Pattern pattern;
+
+        private Route(String method, String path) {
+            this.method = method;
+            this.path = path;
+            this.pattern = Pattern.compile(Pattern.quote(path).replaceAll(":\\w+", "\\\\E[^/]+\\\\Q"));
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Resolves browser driver binaries once per browser per JVM and records the result in an
+ * on-disk manifest (driver path, driver and browser version, SHA-256 checksum) shared by
+ * every surefire/Gradle fork, so later forks export the driver path without probing.
+ * When the browser updates itself within the TTL, the first session that fails with a driver/browser
+ * version mismatch drops the entry so the driver is resolved again.
+ *
+ * Configured through ConfigReader:
+ * driver.manifest.path - manifest location (default ~/.cache/automation/driver-manifest.properties)
+ * driver.manifest.ttl.hours - age after which an online run re-resolves (default 24)
+ * driver.offline - never contact WebDriverManager; fail fast when the manifest has no valid entry
+ */
+public final class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+    private static final Map<DriverManagerType, String> resolved = new ConcurrentHashMap<>();
+    private static final Set<DriverManagerType> overridden = ConcurrentHashMap.newKeySet();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Make sure the driver binary for the browser is resolved and exported as a system property.
+     * Only the first call per browser in a JVM does any work.
+     * @param type Browser driver type
+     */
+    public static void resolve(DriverManagerType type) {
+        resolved.computeIfAbsent(type, DriverBinaryResolver::resolveOnce);
+    }
+
+    /**
+     * Drop the resolved driver when a session could not be created because the browser has moved
+     * past the version the driver supports, so the next resolve() fetches a matching driver
+     * @param type Browser driver type
+     * @param e Session creation failure
+     * @return true if the driver was dropped and creating the session again may succeed
+     */
+    public static boolean invalidateOnVersionMismatch(DriverManagerType type, SessionNotCreatedException e) {
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+        String driverPath = resolved.get(type);
+        if (isOffline() || !message.contains("only supports") || driverPath == null || overridden.contains(type)) {
+            return false;
+        }
+        String[] recorded = new String[1];
+        updateManifest(manifestPath(), manifest -> {
+            if (driverPath.equals(manifest.getProperty(key(type, "driver.path")))) {
+                recorded[0] = manifest.getProperty(key(type, "browser.version"));
+                manifest.stringPropertyNames().stream()
+                        .filter(name -> name.startsWith(type.getNameLowerCase() + "."))
+                        .forEach(manifest::remove);
+            }
+        });
+        // Another thread or fork may have dropped or replaced the entry already; the retry then picks that up
+        if (driverPath.equals(resolved.get(type))) {
+            System.clearProperty(exportPropertyFor(type));
+            resolved.remove(type, driverPath);
+        }
+        logger.warn("{} driver {} does not support the installed browser (manifest recorded browser {}), re-resolving",
+                type, driverPath, recorded[0] == null ? "unknown" : recorded[0]);
+        return true;
+    }
+
+    /**
+     * Check if offline mode is enabled
+     * @return true if driver.offline is set
+     */
+    public static boolean isOffline() {
+        return ConfigReader.getInstance().getBooleanProperty("driver.offline", false);
+    }
+
+    private static String resolveOnce(DriverManagerType type) {
+        String exportProperty = exportPropertyFor(type);
+        String configuredPath = System.getProperty(exportProperty);
+        if (configuredPath != null && Files.isExecutable(Paths.get(configuredPath))) {
+            logger.info("Using {} from system property {}: {}", type, exportProperty, configuredPath);
+            overridden.add(type);
+            return configuredPath;
+        }
+
+        Path manifestPath = manifestPath();
+        Properties manifest = readManifest(manifestPath);
+        Optional<String> cachedPath = validEntry(type, manifest, !isOffline());
+        if (cachedPath.isPresent()) {
+            System.setProperty(exportProperty, cachedPath.get());
+            logger.info("Using {} driver from manifest {}: {} (version {})", type, manifestPath,
+                    cachedPath.get(), manifest.getProperty(key(type, "driver.version")));
+            return cachedPath.get();
+        }
+
+        if (isOffline()) {
+            throw new IllegalStateException(String.format(
+                    "Offline mode is enabled but %s has no valid %s driver entry. Run once online to populate it, "
+                    + "or set -D%s to a local driver binary.", manifestPath, type, exportProperty));
+        }
+
+        long start = System.currentTimeMillis();
+        WebDriverManager manager = WebDriverManager.getInstance(type);
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        String driverVersion = manager.getDownloadedDriverVersion();
+        String browserVersion = detectBrowserVersion(manager).orElse("unknown");
+        logger.info("Resolved {} driver {} for browser {} in {}ms", type, driverVersion, browserVersion,
+                System.currentTimeMillis() - start);
+
+        writeManifestEntry(manifestPath, type, driverPath, driverVersion, browserVersion);
+        return driverPath;
+    }
+
+    /**
+     * Return the cached driver path if the entry exists, the binary is intact and, when
+     * re-resolution is possible, the entry is younger than the configured TTL
+     */
+    private static Optional<String> validEntry(DriverManagerType type, Properties manifest, boolean enforceTtl) {
+        String driverPath = manifest.getProperty(key(type, "driver.path"));
+        String checksum = manifest.getProperty(key(type, "driver.sha256"));
+        if (driverPath == null || checksum == null || checksum.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path driverFile = Paths.get(driverPath);
+        if (!Files.isRegularFile(driverFile)) {
+            logger.warn("Manifest entry for {} points to a missing driver: {}", type, driverPath);
+            return Optional.empty();
+        }
+
+        if (enforceTtl) {
+            long resolvedAt;
+            try {
+                resolvedAt = Long.parseLong(manifest.getProperty(key(type, "resolved.at"), "0").trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Manifest entry for {} has an invalid resolved.at, re-resolving", type);
+                return Optional.empty();
+            }
+            long ttlMillis = TimeUnit.HOURS.toMillis(ConfigReader.getInstance().getLongProperty("driver.manifest.ttl.hours", 24));
+            if (System.currentTimeMillis() - resolvedAt > ttlMillis) {
+                logger.info("Manifest entry for {} is older than the TTL, re-resolving", type);
+                return Optional.empty();
+            }
+        }
+
+        Optional<String> actual = sha256(driverFile);
+        if (!actual.isPresent()) {
+            return Optional.empty();
+        }
+        if (!checksum.equals(actual.get())) {
+            logger.warn("Checksum mismatch for cached {} driver {}, re-resolving", type, driverPath);
+            return Optional.empty();
+        }
+        return Optional.of(driverPath);
+    }
+
+    private static Properties readManifest(Path manifestPath) {
+        Properties manifest = new Properties();
+        if (Files.isRegularFile(manifestPath)) {
+            try (InputStream input = Files.newInputStream(manifestPath)) {
+                manifest.load(input);
+            } catch (IOException e) {
+                logger.warn("Could not read driver manifest {}: {}", manifestPath, e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Merge one entry into the manifest; skipped when the driver cannot be checksummed, since an
+     * entry without a checksum could never be validated
+     */
+    private static void writeManifestEntry(Path manifestPath, DriverManagerType type, String driverPath,
+                                           String driverVersion, String browserVersion) {
+        Optional<String> checksum = sha256(Paths.get(driverPath));
+        if (!checksum.isPresent()) {
+            logger.warn("Not recording {} driver {} in manifest {}", type, driverPath, manifestPath);
+            return;
+        }
+        updateManifest(manifestPath, manifest -> {
+            manifest.setProperty(key(type, "driver.path"), driverPath);
+            manifest.setProperty(key(type, "driver.version"), String.valueOf(driverVersion));
+            manifest.setProperty(key(type, "browser.version"), browserVersion);
+            manifest.setProperty(key(type, "driver.sha256"), checksum.get());
+            manifest.setProperty(key(type, "resolved.at"), String.valueOf(System.currentTimeMillis()));
+        });
+    }
+
+    /**
+     * Change the manifest under an exclusive file lock so concurrent forks never lose each
+     * other's entries; the file is replaced atomically
+     */
+    private static void updateManifest(Path manifestPath, Consumer<Properties> change) {
+        try {
+            Files.createDirectories(manifestPath.toAbsolutePath().getParent());
+            Path lockPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Properties manifest = readManifest(manifestPath);
+                change.accept(manifest);
+
+                Path tempPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+                try (OutputStream output = Files.newOutputStream(tempPath)) {
+                    manifest.store(output, "WebDriver binary resolution manifest");
+                }
+                Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            logger.info("Driver manifest updated: {}", manifestPath);
+        } catch (IOException e) {
+            logger.warn("Could not update driver manifest {}: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Ask the browser binary for its version, best effort
+     */
+    private static Optional<String> detectBrowserVersion(WebDriverManager manager) {
+        try {
+            Optional<Path> browserPath = manager.getBrowserPath();
+            if (!browserPath.isPresent()) {
+                return Optional.empty();
+            }
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                    .redirectErrorStream(true)
+                    .start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return output.isEmpty() ? Optional.empty() : Optional.of(output.replaceAll("[^0-9.]", " ").trim().split("\\s+")[0]);
+        } catch (Exception e) {
+            logger.debug("Browser version detection failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * SHA-256 of the file as lowercase hex, or empty if the file cannot be read
+     */
+    private static Optional<String> sha256(Path file) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream input = Files.newInputStream(file)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return Optional.of(hex.toString());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Could not checksum {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Path manifestPath() {
+        String defaultPath = Paths.get(System.getProperty("user.home"), ".cache", "automation", "driver-manifest.properties").toString();
+        return Paths.get(ConfigReader.getInstance().getProperty("driver.manifest.path", defaultPath));
+    }
+
+    private static String exportPropertyFor(DriverManagerType type) {
+        switch (type) {
+            case FIREFOX:
+                return "webdriver.gecko.driver";
+            case EDGE:
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static String key(DriverManagerType type, String field) {
+        return type.getNameLowerCase() + "." + field;
+    }
+}
@@ -0,0 +1,326 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of warm WebDriver sessions, one sub-pool per browser type and mode.
+ * Sessions are pre-launched at suite start, leased to test threads and reset on return
+ * instead of being quit, so tests no longer pay a full browser cold start each.
+ * Returned sessions are wiped by the SessionResetEngine and parked on the base URL.
+ *
+ * Configured through ConfigReader:
+ * driver.pool.enabled, driver.pool.size, driver.pool.warmup, driver.pool.max.uses,
+ * driver.pool.idle.timeout (seconds) and driver.pool.lease.timeout (seconds)
+ */
+public class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static volatile DriverPool instance;
+
+    private final int maxSize;
+    private final int warmUpSize;
+    private final int maxUsesPerSession;
+    private final long idleTimeoutMillis;
+    private final long leaseTimeoutSeconds;
+    private final String baseUrl;
+
+    private final Map<String, SubPool> subPools = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean draining;
+
+    private DriverPool() {
+        ConfigReader config = ConfigReader.getInstance();
+        this.maxSize = Math.max(1, config.getIntProperty("driver.pool.size", 3));
+        this.warmUpSize = Math.min(maxSize, Math.max(0, config.getIntProperty("driver.pool.warmup", maxSize)));
+        this.maxUsesPerSession = Math.max(1, config.getIntProperty("driver.pool.max.uses", 20));
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getLongProperty("driver.pool.idle.timeout", 300));
+        this.leaseTimeoutSeconds = config.getLongProperty("driver.pool.lease.timeout", 120);
+        this.baseUrl = config.getProperty("base.url", "http://localhost:3000");
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleSessions, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+
+        logger.info("Driver pool created (size: {}, warm-up: {}, max uses: {}, idle timeout: {}ms)",
+                maxSize, warmUpSize, maxUsesPerSession, idleTimeoutMillis);
+    }
+
+    /**
+     * Get singleton instance of DriverPool
+     * @return DriverPool instance
+     */
+    public static DriverPool getInstance() {
+        if (instance == null) {
+            synchronized (DriverPool.class) {
+                if (instance == null) {
+                    instance = new DriverPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if session pooling is enabled in the configuration
+     * @return true if driver.pool.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("driver.pool.enabled", false);
+    }
+
+    /**
+     * Pre-launch sessions in parallel until the sub-pool holds the configured warm-up count
+     * @param browserType Browser type to warm up
+     * @param headless Whether sessions run headless
+     */
+    public void warmUp(WebDriverFactory.BrowserType browserType, boolean headless) {
+        SubPool subPool = subPool(browserType, headless);
+        int missing = warmUpSize - subPool.idle.size() - subPool.leasedCount();
+        if (missing <= 0) {
+            return;
+        }
+
+        logger.info("Warming up {} {} session(s)", missing, subPool.key);
+        long start = System.currentTimeMillis();
+        ExecutorService launcher = Executors.newFixedThreadPool(missing);
+        try {
+            List<Future<WebDriver>> launches = new ArrayList<>();
+            for (int i = 0; i < missing; i++) {
+                launches.add(launcher.submit(() -> WebDriverFactory.createDriver(browserType, headless)));
+            }
+            for (Future<WebDriver> launch : launches) {
+                try {
+                    subPool.idle.offerLast(new PooledSession(launch.get(), subPool));
+                } catch (Exception e) {
+                    logger.warn("Failed to pre-launch a {} session: {}", subPool.key, e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Driver pool warm-up failed for {}", subPool.key, e);
+        } finally {
+            launcher.shutdown();
+        }
+        logger.info("Driver pool warm-up for {} finished in {}ms ({} idle)",
+                subPool.key, System.currentTimeMillis() - start, subPool.idle.size());
+    }
+
+    /**
+     * Lease a session for the calling thread, launching one if no warm session is idle.
+     * Blocks while the sub-pool is at capacity.
+     * @param browserType Browser type
+     * @param headless Whether the session runs headless
+     * @return Leased WebDriver instance
+     */
+    public WebDriver lease(WebDriverFactory.BrowserType browserType, boolean headless) {
+        SubPool subPool = subPool(browserType, headless);
+        try {
+            if (!subPool.permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for a pooled " + subPool.key + " session");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled " + subPool.key + " session", e);
+        }
+
+        try {
+            PooledSession session;
+            while ((session = subPool.idle.pollFirst()) != null) {
+                if (session.isExpired(idleTimeoutMillis)) {
+                    discard(session, "idle timeout");
+                    continue;
+                }
+                break;
+            }
+            if (session == null) {
+                logger.info("No idle {} session available, launching a new one", subPool.key);
+                session = new PooledSession(WebDriverFactory.createDriver(browserType, headless), subPool);
+            }
+            session.uses++;
+            leased.put(session.driver, session);
+            logger.debug("Leased {} session (use {} of {})", subPool.key, session.uses, maxUsesPerSession);
+            return session.driver;
+        } catch (RuntimeException e) {
+            subPool.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Check if a driver instance was leased from this pool
+     * @param driver WebDriver instance
+     * @return true if the driver is currently leased
+     */
+    public boolean isLeased(WebDriver driver) {
+        return driver != null && leased.containsKey(driver);
+    }
+
+    /**
+     * Return a leased session to the pool. The session is reset and kept warm,
+     * or quit when it has reached its maximum number of uses or cannot be reset.
+     * @param driver Leased WebDriver instance
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            logger.warn("Attempted to release a WebDriver that is not leased from the pool");
+            return;
+        }
+
+        try {
+            if (draining) {
+                discard(session, "pool draining");
+            } else if (session.uses >= maxUsesPerSession) {
+                discard(session, "reached " + maxUsesPerSession + " uses");
+            } else if (!resetSession(session.driver)) {
+                discard(session, "reset failed");
+            } else {
+                session.lastReturned = System.currentTimeMillis();
+                session.subPool.idle.offerFirst(session);
+                logger.debug("Returned {} session to pool ({} idle)", session.subPool.key, session.subPool.idle.size());
+            }
+        } finally {
+            session.subPool.permits.release();
+        }
+    }
+
+    /**
+     * Quit a leased session instead of returning it, e.g. after the browser crashed
+     * @param driver Leased WebDriver instance
+     */
+    public void invalidate(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            logger.warn("Attempted to invalidate a WebDriver that is not leased from the pool");
+            return;
+        }
+        try {
+            discard(session, "invalidated by its owner");
+        } finally {
+            session.subPool.permits.release();
+        }
+    }
+
+    /**
+     * Quit every idle session now and each leased session when it is released, without interrupting
+     * the tests still holding one
+     */
+    public void drain() {
+        draining = true;
+        for (SubPool subPool : subPools.values()) {
+            PooledSession session;
+            while ((session = subPool.idle.pollFirst()) != null) {
+                discard(session, "pool draining");
+            }
+        }
+    }
+
+    /**
+     * Quit every idle and leased session and stop the evictor
+     */
+    public void shutdown() {
+        evictor.shutdownNow();
+        for (SubPool subPool : subPools.values()) {
+            PooledSession session;
+            while ((session = subPool.idle.pollFirst()) != null) {
+                discard(session, "pool shutdown");
+            }
+        }
+        for (PooledSession session : new ArrayList<>(leased.values())) {
+            leased.remove(session.driver);
+            discard(session, "pool shutdown");
+        }
+    }
+
+    /**
+     * Clear browser state so the next lease starts from a clean session on the base URL
+     * @return true if the session is still usable
+     */
+    private boolean resetSession(WebDriver driver) {
+        return SessionResetEngine.reset(driver, baseUrl).isSuccess();
+    }
+
+    private void evictIdleSessions() {
+        for (SubPool subPool : subPools.values()) {
+            Iterator<PooledSession> iterator = subPool.idle.iterator();
+            while (iterator.hasNext()) {
+                PooledSession session = iterator.next();
+                if (session.isExpired(idleTimeoutMillis) && subPool.idle.remove(session)) {
+                    discard(session, "idle timeout");
+                }
+            }
+        }
+    }
+
+    private void discard(PooledSession session, String reason) {
+        try {
+            WebDriverFactory.quitSession(session.driver);
+            logger.info("Quit pooled {} session after {} use(s): {}", session.subPool.key, session.uses, reason);
+        } catch (Exception e) {
+            logger.warn("Error while quitting pooled {} session: {}", session.subPool.key, e.getMessage());
+        }
+    }
+
+    private SubPool subPool(WebDriverFactory.BrowserType browserType, boolean headless) {
+        String key = browserType + (headless ? "-headless" : "");
+        return subPools.computeIfAbsent(key, SubPool::new);
+    }
+
+    /**
+     * Sessions of a single browser type and mode
+     */
+    private final class SubPool {
+        private final String key;
+        private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+        private final Semaphore permits = new Semaphore(maxSize, true);
+
+        private SubPool(String key) {
+            this.key = key;
+        }
+
+        private int leasedCount() {
+            return maxSize - permits.availablePermits();
+        }
+    }
+
+    /**
+     * A pooled WebDriver session with its usage bookkeeping
+     */
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private final SubPool subPool;
+        private int uses;
+        private volatile long lastReturned = System.currentTimeMillis();
+
+        private PooledSession(WebDriver driver, SubPool subPool) {
+            this.driver = driver;
+            this.subPool = subPool;
+        }
+
+        private boolean isExpired(long idleTimeoutMillis) {
+            return System.currentTimeMillis() - lastReturned > idleTimeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Overlaps browser startup and shutdown with test execution when the DriverPool is disabled.
+ * As soon as a test thread takes its session, the next one is launched on a background executor,
+ * so the following test usually finds a browser already running. quit() is handed to a background
+ * reaper so teardown returns immediately.
+ *
+ * Configured through ConfigReader: driver.prefetch.enabled (ignored when driver.pool.enabled is set)
+ */
+public class DriverPrefetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPrefetcher.class);
+    private static volatile DriverPrefetcher instance;
+
+    private static final ThreadLocal<Timing> timing = ThreadLocal.withInitial(Timing::new);
+    private static final LongAdder hiddenLaunchMillis = new LongAdder();
+    private static final LongAdder hiddenQuitMillis = new LongAdder();
+    private static final LongAdder prefetchHits = new LongAdder();
+    private static final LongAdder prefetchMisses = new LongAdder();
+
+    private final ExecutorService launcher;
+    private final ExecutorService reaper;
+    private final ThreadLocal<Prefetch> next = new ThreadLocal<>();
+    private final Map<Future<Launch>, Boolean> pending = new ConcurrentHashMap<>();
+
+    private DriverPrefetcher() {
+        AtomicInteger launcherCount = new AtomicInteger();
+        this.launcher = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "driver-prefetch-" + launcherCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reaper = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-prefetch-shutdown"));
+        logger.info("Driver pre-fetch enabled");
+    }
+
+    /**
+     * Get singleton instance of DriverPrefetcher
+     * @return DriverPrefetcher instance
+     */
+    public static DriverPrefetcher getInstance() {
+        if (instance == null) {
+            synchronized (DriverPrefetcher.class) {
+                if (instance == null) {
+                    instance = new DriverPrefetcher();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if pre-fetch mode is enabled; the session pool takes precedence when both are set
+     * @return true if driver.prefetch.enabled is set and pooling is off
+     */
+    public static boolean isEnabled() {
+        return !DriverPool.isEnabled()
+                && ConfigReader.getInstance().getBooleanProperty("driver.prefetch.enabled", false);
+    }
+
+    /**
+     * Take the session pre-launched for this thread, or launch one if none matches,
+     * then start launching the session for this thread's next test
+     * @param browserType Browser type required by the test
+     * @param headless Whether the session must run headless
+     * @return Ready WebDriver instance
+     */
+    public WebDriver take(WebDriverFactory.BrowserType browserType, boolean headless) {
+        Prefetch prefetch = next.get();
+        next.remove();
+
+        WebDriver webDriver = null;
+        long hiddenMillis = 0;
+        if (prefetch != null && prefetch.matches(browserType, headless)) {
+            long waitStart = System.nanoTime();
+            Launch launch = await(prefetch);
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart);
+            if (launch != null) {
+                webDriver = launch.driver;
+                hiddenMillis = Math.max(0, launch.durationMillis - waitedMillis);
+                prefetchHits.increment();
+            }
+        } else if (prefetch != null) {
+            discard(prefetch);
+        }
+
+        if (webDriver == null) {
+            prefetchMisses.increment();
+            webDriver = WebDriverFactory.createDriver(browserType, headless);
+        }
+
+        timing.get().launchMillis = hiddenMillis;
+        hiddenLaunchMillis.add(hiddenMillis);
+        if (!launcher.isShutdown()) {
+            next.set(submit(browserType, headless));
+        }
+        return webDriver;
+    }
+
+    /**
+     * Hand a session to the background reaper and return immediately
+     * @param webDriver Session to quit
+     */
+    public void reap(WebDriver webDriver) {
+        if (reaper.isShutdown()) {
+            WebDriverFactory.quitSession(webDriver);
+            return;
+        }
+        Timing owner = timing.get();
+        reaper.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                WebDriverFactory.quitSession(webDriver);
+            } catch (Exception e) {
+                logger.warn("Error while quitting WebDriver in background: {}", e.getMessage());
+            }
+            long quitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            owner.quitMillis = quitMillis;
+            hiddenQuitMillis.add(quitMillis);
+        });
+    }
+
+    /**
+     * Quit every pre-launched session and wait for queued quits to finish
+     */
+    public synchronized void shutdown() {
+        if (reaper.isShutdown()) {
+            return;
+        }
+        for (Future<Launch> future : new ArrayList<>(pending.keySet())) {
+            pending.remove(future);
+            reapWhenLaunched(future);
+        }
+        launcher.shutdown();
+        reaper.shutdown();
+        try {
+            launcher.awaitTermination(60, TimeUnit.SECONDS);
+            reaper.awaitTermination(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Launch time hidden from the current thread's most recent test
+     * @return milliseconds of browser startup that overlapped the previous test
+     */
+    public static long getHiddenLaunchMillis() {
+        return timing.get().launchMillis;
+    }
+
+    /**
+     * Quit time hidden from the current thread's most recent teardown
+     * @return milliseconds the background reaper spent quitting the previous session
+     */
+    public static long getHiddenQuitMillis() {
+        return timing.get().quitMillis;
+    }
+
+    /**
+     * Log launch and quit time hidden by pre-fetching for the whole run
+     */
+    public static void logSummary() {
+        long takes = prefetchHits.sum() + prefetchMisses.sum();
+        if (takes == 0) {
+            return;
+        }
+        logger.info("Driver pre-fetch: {} of {} sessions pre-launched, hidden launch: {}ms, hidden quit: {}ms",
+                prefetchHits.sum(), takes, hiddenLaunchMillis.sum(), hiddenQuitMillis.sum());
+    }
+
+    private Prefetch submit(WebDriverFactory.BrowserType browserType, boolean headless) {
+        Future<Launch> future = launcher.submit(() -> {
+            long start = System.nanoTime();
+            WebDriver webDriver = WebDriverFactory.createDriver(browserType, headless);
+            return new Launch(webDriver, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        });
+        pending.put(future, Boolean.TRUE);
+        return new Prefetch(browserType, headless, future);
+    }
+
+    private Launch await(Prefetch prefetch) {
+        try {
+            return prefetch.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            logger.warn("Pre-launched session failed to start, launching synchronously: {}",
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return null;
+        } finally {
+            pending.remove(prefetch.future);
+        }
+    }
+
+    private void discard(Prefetch prefetch) {
+        pending.remove(prefetch.future);
+        logger.info("Discarding pre-launched {} session, test requested a different browser", prefetch.browserType);
+        reapWhenLaunched(prefetch.future);
+    }
+
+    private void reapWhenLaunched(Future<Launch> future) {
+        reaper.execute(() -> {
+            try {
+                WebDriverFactory.quitSession(future.get().driver);
+            } catch (Exception e) {
+                logger.debug("Pre-launched session could not be quit: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Session launch scheduled for a thread's next test
+     */
+    private static final class Prefetch {
+        private final WebDriverFactory.BrowserType browserType;
+        private final boolean headless;
+        private final Future<Launch> future;
+
+        private Prefetch(WebDriverFactory.BrowserType browserType, boolean headless, Future<Launch> future) {
+            this.browserType = browserType;
+            this.headless = headless;
+            this.future = future;
+        }
+
+        private boolean matches(WebDriverFactory.BrowserType browserType, boolean headless) {
+            return this.browserType == browserType && this.headless == headless;
+        }
+    }
+
+    /**
+     * Launched session together with how long it took to start
+     */
+    private static final class Launch {
+        private final WebDriver driver;
+        private final long durationMillis;
+
+        private Launch(WebDriver driver, long durationMillis) {
+            this.driver = driver;
+            this.durationMillis = durationMillis;
+        }
+    }
+
+    /**
+     * Hidden launch and quit time for one test thread
+     */
+    private static final class Timing {
+        private volatile long launchMillis;
+        private volatile long quitMillis;
+    }
+}
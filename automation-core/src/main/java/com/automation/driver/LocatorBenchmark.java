@@ -0,0 +1,269 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.LocatorLinter;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the locators LocatorLinter finds against saved DOM snapshots.
+ * For each locator the browser evaluates the query in a tight loop (engine cost, without the
+ * WebDriver round-trip) and findElements is timed end to end. Locators without a known CSS
+ * equivalent get one proposed from the snapshot: an id, data-testid, name, placeholder or class
+ * selector that matches exactly the same element. Proposals hold for the snapshot they came from
+ * and should be checked before they replace a locator.
+ *
+ * Usage:
+ *   LocatorBenchmark --capture url snapshot.html [tab...]   save the page (and each tab clicked by its label)
+ *   LocatorBenchmark [--iterations n] [--report file.csv] snapshot.html[,snapshot.html...] sourceDir...
+ * Browser and headless come from ConfigReader.
+ */
+public final class LocatorBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 500;
+    private static final int FIND_ELEMENTS_SAMPLES = 5;
+
+    /** Serialized document with scripts removed, so the snapshot stays static when loaded from disk */
+    private static final String SNAPSHOT_SCRIPT =
+            "var copy = document.documentElement.cloneNode(true);" +
+            "Array.prototype.forEach.call(copy.querySelectorAll('script'), function (s) { s.remove(); });" +
+            "return '<!DOCTYPE html>\\n' + copy.outerHTML;";
+
+    /** [match count, total ms for n evaluations], or [-1, 0] when the browser rejects the query */
+    private static final String TIMING_SCRIPT =
+            "var type = arguments[0], query = arguments[1], n = arguments[2];" +
+            "function run() {" +
+            "  if (type === 'xpath') {" +
+            "    return document.evaluate(query, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;" +
+            "  }" +
+            "  return document.querySelectorAll(query).length;" +
+            "}" +
+            "var count;" +
+            "try { count = run(); } catch (e) { return [-1, 0]; }" +
+            "var start = performance.now();" +
+            "for (var i = 0; i < n; i++) { run(); }" +
+            "return [count, performance.now() - start];";
+
+    /** Attribute-based CSS selector that matches exactly the element the query matches, or null */
+    private static final String PROPOSE_SCRIPT =
+            "var type = arguments[0], query = arguments[1], matches;" +
+            "try {" +
+            "  if (type === 'xpath') {" +
+            "    var result = document.evaluate(query, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    matches = []; for (var i = 0; i < result.snapshotLength; i++) { matches.push(result.snapshotItem(i)); }" +
+            "  } else { matches = Array.prototype.slice.call(document.querySelectorAll(query)); }" +
+            "} catch (e) { return null; }" +
+            "if (matches.length !== 1 || matches[0].nodeType !== 1) { return null; }" +
+            "var el = matches[0], tag = el.tagName.toLowerCase(), candidates = [];" +
+            "function quote(v) { return \"'\" + v.replace(/\\\\/g, '\\\\\\\\').replace(/'/g, \"\\\\'\") + \"'\"; }" +
+            "if (el.id) { candidates.push('#' + CSS.escape(el.id)); }" +
+            "['data-testid', 'data-test', 'name', 'aria-label', 'placeholder', 'title', 'type'].forEach(function (a) {" +
+            "  var v = el.getAttribute(a); if (v) { candidates.push(tag + '[' + a + '=' + quote(v) + ']'); }" +
+            "});" +
+            "if (el.classList.length) {" +
+            "  candidates.push(tag + '.' + Array.prototype.map.call(el.classList, CSS.escape).join('.'));" +
+            "}" +
+            "for (var c = 0; c < candidates.length; c++) {" +
+            "  var found = document.querySelectorAll(candidates[c]);" +
+            "  if (found.length === 1 && found[0] === el) { return candidates[c]; }" +
+            "}" +
+            "return null;";
+
+    private LocatorBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && "--capture".equals(args[0])) {
+            capture(args[1], Paths.get(args[2]), Arrays.asList(args).subList(3, args.length));
+            return;
+        }
+        int iterations = DEFAULT_ITERATIONS;
+        Path report = null;
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--iterations".equals(args[i]) && i + 1 < args.length) {
+                iterations = Integer.parseInt(args[++i]);
+            } else if ("--report".equals(args[i]) && i + 1 < args.length) {
+                report = Paths.get(args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        if (positional.size() < 2) {
+            System.err.println("Usage: LocatorBenchmark --capture url snapshot.html [tab...]");
+            System.err.println("       LocatorBenchmark [--iterations n] [--report file.csv] snapshot.html[,snapshot.html...] sourceDir...");
+            System.exit(2);
+        }
+
+        List<LocatorLinter.Finding> findings = new ArrayList<>();
+        for (String root : positional.subList(1, positional.size())) {
+            findings.addAll(LocatorLinter.scan(Paths.get(root)));
+        }
+        List<String[]> rows = new ArrayList<>();
+        WebDriver webDriver = launch();
+        try {
+            for (String snapshot : positional.get(0).split(",")) {
+                webDriver.get(Paths.get(snapshot).toAbsolutePath().toUri().toString());
+                System.out.printf("%nSnapshot %s: %d locators, %d evaluations each%n", snapshot, findings.size(), iterations);
+                System.out.printf("%-17s %7s %9s %9s  %s%n", "cost", "matches", "us/query", "find ms", "locator");
+                for (LocatorLinter.Finding finding : findings) {
+                    rows.add(measure(webDriver, snapshot, finding, iterations));
+                }
+            }
+        } finally {
+            WebDriverFactory.quitSession(webDriver);
+        }
+        if (report != null) {
+            writeCsv(rows, report);
+            System.out.printf("%nReport written to %s%n", report);
+        }
+    }
+
+    /**
+     * Time one locator and its CSS equivalent (known or proposed) on the loaded snapshot
+     * @return CSV row
+     */
+    private static String[] measure(WebDriver webDriver, String snapshot, LocatorLinter.Finding finding, int iterations) {
+        String[] query = finding.toQuery();
+        double[] timing = time(webDriver, query[0], query[1], iterations);
+        String findMillis = "";
+        if (timing[0] > 0) {
+            findMillis = String.format(Locale.ROOT, "%.2f", findElementsMillis(webDriver, query));
+        }
+
+        String css = finding.getSuggestion();
+        boolean proposed = false;
+        if (css == null && finding.getCost().compareTo(LocatorLinter.Cost.XPATH_ATTRIBUTES) >= 0 && timing[0] == 1) {
+            css = (String) ((JavascriptExecutor) webDriver).executeScript(PROPOSE_SCRIPT, query[0], query[1]);
+            proposed = css != null;
+        }
+        double[] cssTiming = css == null ? null : time(webDriver, "css", css, iterations);
+
+        String matches = timing[0] < 0 ? "invalid" : String.valueOf((long) timing[0]);
+        System.out.printf("%-17s %7s %9s %9s  %s%n", finding.getCost(), matches, micros(timing, iterations),
+                findMillis, finding.getExpression());
+        if (cssTiming != null) {
+            System.out.printf("%-17s %7s %9s %9s    %s %s%n", "", cssTiming[0] < 0 ? "invalid" : String.valueOf((long) cssTiming[0]),
+                    micros(cssTiming, iterations), "", proposed ? "proposed:" : "css:", css);
+        }
+        return new String[] {snapshot, finding.getLocation(), finding.getElement(), finding.getExpression(),
+                finding.getCost().name(), matches, micros(timing, iterations), findMillis,
+                css == null ? "" : css, proposed ? "snapshot" : css == null ? "" : "linter",
+                cssTiming == null ? "" : micros(cssTiming, iterations)};
+    }
+
+    private static double[] time(WebDriver webDriver, String type, String query, int iterations) {
+        List<?> result = (List<?>) ((JavascriptExecutor) webDriver).executeScript(TIMING_SCRIPT, type, query, iterations);
+        return new double[] {((Number) result.get(0)).doubleValue(), ((Number) result.get(1)).doubleValue()};
+    }
+
+    /**
+     * Median findElements time for the query, including the WebDriver round-trip
+     */
+    private static double findElementsMillis(WebDriver webDriver, String[] query) {
+        By locator = "xpath".equals(query[0]) ? By.xpath(query[1]) : By.cssSelector(query[1]);
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < FIND_ELEMENTS_SAMPLES; i++) {
+            long start = System.nanoTime();
+            webDriver.findElements(locator);
+            samples.add(System.nanoTime() - start);
+        }
+        Collections.sort(samples);
+        return samples.get(samples.size() / 2) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static String micros(double[] timing, int iterations) {
+        return timing[0] < 0 ? "" : String.format(Locale.ROOT, "%.1f", timing[1] * 1000 / iterations);
+    }
+
+    /**
+     * Save the page at the URL, and the page after clicking each tab label, as static HTML
+     * Tab snapshots are written next to the first one as name-tab.html
+     */
+    private static void capture(String url, Path snapshot, List<String> tabs) throws IOException {
+        WebDriver webDriver = launch();
+        try {
+            webDriver.get(url);
+            settle(webDriver);
+            save(webDriver, snapshot);
+            String fileName = snapshot.getFileName().toString();
+            String baseName = fileName.endsWith(".html") ? fileName.substring(0, fileName.length() - 5) : fileName;
+            for (String tab : tabs) {
+                webDriver.findElement(By.xpath("//button[normalize-space()='" + tab + "'] | //a[normalize-space()='" + tab + "']")).click();
+                settle(webDriver);
+                Path tabSnapshot = snapshot.resolveSibling(baseName + "-" + tab.toLowerCase(Locale.ROOT).replaceAll("\\W+", "-") + ".html");
+                save(webDriver, tabSnapshot);
+            }
+        } finally {
+            WebDriverFactory.quitSession(webDriver);
+        }
+    }
+
+    /**
+     * Wait for the document and, on Chromium, for the requests the page or tab started
+     */
+    private static void settle(WebDriver webDriver) {
+        new WebDriverWait(webDriver, Duration.ofSeconds(30))
+                .until(d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+        NetworkTracker tracker = NetworkTracker.forDriver(webDriver);
+        if (tracker != null) {
+            try {
+                tracker.waitForNetworkIdle(500, Duration.ofSeconds(10));
+            } catch (TimeoutException e) {
+                System.out.println("Network still busy, saving snapshot anyway: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void save(WebDriver webDriver, Path snapshot) throws IOException {
+        String html = (String) ((JavascriptExecutor) webDriver).executeScript(SNAPSHOT_SCRIPT);
+        if (snapshot.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(snapshot.toAbsolutePath().getParent());
+        }
+        Files.write(snapshot, html.getBytes(StandardCharsets.UTF_8));
+        System.out.printf("Saved %s (%d KB)%n", snapshot, html.length() / 1024);
+    }
+
+    private static WebDriver launch() {
+        ConfigReader config = ConfigReader.getInstance();
+        WebDriverFactory.BrowserType browserType =
+                WebDriverFactory.BrowserType.valueOf(config.getProperty("browser", "chrome").toUpperCase());
+        return WebDriverFactory.createDriver(browserType, config.getBooleanProperty("headless", true));
+    }
+
+    private static void writeCsv(List<String[]> rows, Path report) throws IOException {
+        if (report.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            writer.println("snapshot,location,element,locator,cost,matches,us_per_query,find_elements_ms,css,css_source,css_us_per_query");
+            for (String[] row : rows) {
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    line.append('"').append(row[i].replace("\"", "\"\"")).append('"');
+                }
+                writer.println(line);
+            }
+        }
+    }
+}
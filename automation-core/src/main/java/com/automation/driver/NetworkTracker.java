@@ -0,0 +1,227 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Counts in-flight requests of a Chromium session from Chrome DevTools Protocol Network events.
+ * Waits block on the tracker's monitor and wake on every request event, so a test proceeds the
+ * moment the backend responds instead of polling the page. Raw CDP events are used so the tracker
+ * works with any browser version the DevTools connection supports.
+ *
+ * Configured through ConfigReader:
+ * network.tracker.enabled (default true), network.tracker.ignore (regex of URLs never waited on,
+ * e.g. analytics or long-polling endpoints)
+ */
+public class NetworkTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkTracker.class);
+    private static final Map<WebDriver, NetworkTracker> trackers = new ConcurrentHashMap<>();
+
+    /** Completed requests kept for waitForRequest calls made after the response arrived */
+    private static final int HISTORY_SIZE = 200;
+
+    private final DevTools devTools;
+    private final Pattern ignored;
+    private final Map<String, String> inFlight = new HashMap<>();
+    private final Deque<String> completed = new ArrayDeque<>();
+    private long lastActivityNanos = System.nanoTime();
+
+    private NetworkTracker(DevTools devTools, Pattern ignored) {
+        this.devTools = devTools;
+        this.ignored = ignored;
+    }
+
+    /**
+     * Check if network tracking is enabled
+     * @return true unless network.tracker.enabled=false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("network.tracker.enabled", true);
+    }
+
+    /**
+     * Start tracking a new session
+     * Does nothing for drivers without DevTools; a failed attach is logged and the session runs untracked
+     * @param webDriver Newly created session
+     */
+    static void attach(WebDriver webDriver) {
+        if (!isEnabled() || !(webDriver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) webDriver).getDevTools();
+            devTools.createSession();
+            String ignore = ConfigReader.getInstance().getProperty("network.tracker.ignore");
+            NetworkTracker tracker = new NetworkTracker(devTools,
+                    ignore == null || ignore.trim().isEmpty() ? null : Pattern.compile(ignore.trim()));
+
+            devTools.addListener(event("Network.requestWillBeSent"), tracker::onRequestWillBeSent);
+            devTools.addListener(event("Network.loadingFinished"), tracker::onRequestDone);
+            devTools.addListener(event("Network.loadingFailed"), tracker::onRequestDone);
+            devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+            trackers.put(webDriver, tracker);
+            logger.debug("Network tracker attached");
+        } catch (RuntimeException e) {
+            logger.warn("Could not attach network tracker, falling back to page-side waits: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stop tracking a session that is about to be quit
+     * @param webDriver Session being quit
+     */
+    static void detach(WebDriver webDriver) {
+        NetworkTracker tracker = trackers.remove(webDriver);
+        if (tracker != null) {
+            try {
+                tracker.devTools.close();
+            } catch (RuntimeException e) {
+                logger.debug("Error closing DevTools connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the tracker of a session
+     * @param webDriver Session to look up
+     * @return NetworkTracker, or null when the session is not tracked (non-Chromium, remote or disabled)
+     */
+    public static NetworkTracker forDriver(WebDriver webDriver) {
+        return webDriver == null ? null : trackers.get(webDriver);
+    }
+
+    /**
+     * DevTools session the tracker listens on, shared by other recorders of the same session
+     * @return DevTools connection with a session created
+     */
+    DevTools getDevTools() {
+        return devTools;
+    }
+
+    /**
+     * Wait until no request is in flight and none has started or finished for the quiet period
+     * @param quietMillis How long the network must stay idle
+     * @param timeout Maximum time to wait
+     * @throws TimeoutException if the network does not go idle within the timeout
+     */
+    public synchronized void waitForNetworkIdle(long quietMillis, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long quietNanos = TimeUnit.MILLISECONDS.toNanos(quietMillis);
+        while (true) {
+            long now = System.nanoTime();
+            long wakeUp = inFlight.isEmpty() ? lastActivityNanos + quietNanos : deadline;
+            if (inFlight.isEmpty() && now >= wakeUp) {
+                return;
+            }
+            if (now >= deadline) {
+                throw new TimeoutException(String.format("Network not idle after %d ms, %d request(s) in flight: %s",
+                        timeout.toMillis(), inFlight.size(), inFlight.values()));
+            }
+            await(Math.min(wakeUp, deadline) - now);
+        }
+    }
+
+    /**
+     * Wait for a request whose URL matches the pattern to complete
+     * A request that completed before the call counts if no earlier waitForRequest returned it,
+     * so the wait can follow the action that triggered the request even when the backend is fast
+     * @param urlPattern Regular expression found anywhere in the URL, e.g. "/api/products"
+     * @param timeout Maximum time to wait
+     * @return URL of the completed request
+     * @throws TimeoutException if no matching request completes within the timeout
+     */
+    public synchronized String waitForRequest(String urlPattern, Duration timeout) {
+        Pattern pattern = Pattern.compile(urlPattern);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Iterator<String> urls = completed.iterator();
+            while (urls.hasNext()) {
+                String url = urls.next();
+                if (pattern.matcher(url).find()) {
+                    urls.remove();
+                    return url;
+                }
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("No request matching '%s' completed within %d ms",
+                        urlPattern, timeout.toMillis()));
+            }
+            await(remaining);
+        }
+    }
+
+    /**
+     * Number of requests currently in flight
+     * @return In-flight request count
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Forget completed requests so a reused session starts with a clean history
+     */
+    synchronized void clearHistory() {
+        completed.clear();
+    }
+
+    private synchronized void onRequestWillBeSent(Map<String, Object> params) {
+        Object request = params.get("request");
+        String url = request instanceof Map ? String.valueOf(((Map<?, ?>) request).get("url")) : "";
+        // Long-lived streams never finish and data: URLs never hit the network
+        if ("EventSource".equals(params.get("type")) || url.startsWith("data:")
+                || (ignored != null && ignored.matcher(url).find())) {
+            return;
+        }
+        inFlight.put(String.valueOf(params.get("requestId")), url);
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private synchronized void onRequestDone(Map<String, Object> params) {
+        String url = inFlight.remove(String.valueOf(params.get("requestId")));
+        if (url == null) {
+            return;
+        }
+        completed.addLast(url);
+        if (completed.size() > HISTORY_SIZE) {
+            completed.removeFirst();
+        }
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private void await(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for network", e);
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,92 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lean "perf" launch profile, selected with browser.profile=perf.
+ * Uses new headless mode, skips images, remote fonts, extensions and background networking,
+ * loads pages with the eager strategy and starts at a fixed window size instead of maximize().
+ * User-data-dirs (including the pre-built browser.profile.template) are handled by the ProfileManager.
+ *
+ * Configured through ConfigReader:
+ * browser.profile (default|perf), browser.window.size (default 1920,1080)
+ */
+public final class PerfProfile {
+
+    private PerfProfile() {
+    }
+
+    /**
+     * Check if the perf launch profile is selected
+     * @return true if browser.profile=perf
+     */
+    public static boolean isSelected() {
+        return "perf".equalsIgnoreCase(ConfigReader.getInstance().getProperty("browser.profile", "default"));
+    }
+
+    /**
+     * Fixed window size used instead of maximize()
+     * @return Window size from browser.window.size
+     */
+    public static Dimension windowSize() {
+        String[] size = ConfigReader.getInstance().getProperty("browser.window.size", "1920,1080").split(",");
+        return new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+    }
+
+    /**
+     * Apply the perf profile to Chrome or Edge options
+     * @param options Chromium options to configure
+     * @param headless Whether to run in headless mode
+     */
+    public static void apply(ChromiumOptions<?> options, boolean headless) {
+        Dimension size = windowSize();
+        options.addArguments("--window-size=" + size.getWidth() + "," + size.getHeight());
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--remote-allow-origins=*");
+        options.addArguments("--blink-settings=imagesEnabled=false");
+        options.addArguments("--disable-remote-fonts");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-background-networking");
+        options.addArguments("--disable-component-update");
+        options.addArguments("--disable-default-apps");
+        options.addArguments("--disable-sync");
+        options.addArguments("--no-first-run");
+        options.addArguments("--no-default-browser-check");
+        options.addArguments("--mute-audio");
+
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("profile.managed_default_content_settings.images", 2);
+        options.setExperimentalOption("prefs", prefs);
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+    }
+
+    /**
+     * Apply the perf profile to Firefox options
+     * @param options Firefox options to configure
+     * @param headless Whether to run in headless mode
+     */
+    public static void apply(FirefoxOptions options, boolean headless) {
+        Dimension size = windowSize();
+        options.addArguments("--width=" + size.getWidth(), "--height=" + size.getHeight());
+        if (headless) {
+            options.addArguments("--headless");
+        }
+        options.addPreference("permissions.default.image", 2);
+        options.addPreference("gfx.downloadable_fonts.enabled", false);
+        options.addPreference("network.prefetch-next", false);
+        options.addPreference("app.update.enabled", false);
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+    }
+}
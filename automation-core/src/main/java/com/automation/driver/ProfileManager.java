@@ -0,0 +1,219 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Disposable Chromium user-data-dirs kept on a RAM-backed directory.
+ * Each profile is cloned once from the pre-warmed template (or created empty), leased to one
+ * live session at a time and handed back on quit, so a worker's following sessions reuse a warm
+ * profile instead of creating a fresh one on disk. Cookies and site storage are scrubbed on return;
+ * HTTP and code caches are kept. Everything is deleted at suite end.
+ *
+ * Configured through ConfigReader:
+ * browser.profile.tmpfs (place profiles under /dev/shm), browser.profile.root (explicit location),
+ * browser.profile.template (pre-built user-data-dir to clone)
+ */
+public class ProfileManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileManager.class);
+    private static volatile ProfileManager instance;
+
+    /** Per-site state that must not leak into the next session using the profile */
+    private static final String[] SESSION_STATE = {
+        "Cookies", "Cookies-journal", "Network/Cookies", "Network/Cookies-journal",
+        "Local Storage", "Session Storage", "IndexedDB", "Service Worker", "Sessions", "Web Data"
+    };
+
+    private final Path root;
+    private final Path template;
+    private final Queue<Path> free = new ConcurrentLinkedQueue<>();
+    private final Map<WebDriver, Path> leased = new ConcurrentHashMap<>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    private ProfileManager() {
+        ConfigReader config = ConfigReader.getInstance();
+        String templatePath = config.getProperty("browser.profile.template");
+        this.template = templatePath == null || templatePath.trim().isEmpty() ? null : Paths.get(templatePath.trim());
+        if (template != null && !Files.isDirectory(template)) {
+            logger.warn("Profile template {} not found, profiles start empty", template);
+        }
+        try {
+            this.root = Files.createTempDirectory(resolveRootParent(config), "automation-profiles-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create browser profile root", e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::deleteAll, "profile-manager-cleanup"));
+        logger.info("Browser profiles stored under {}", root);
+    }
+
+    /**
+     * Get singleton instance of ProfileManager
+     * @return ProfileManager instance
+     */
+    public static ProfileManager getInstance() {
+        if (instance == null) {
+            synchronized (ProfileManager.class) {
+                if (instance == null) {
+                    instance = new ProfileManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if managed profiles are enabled
+     * @return true if browser.profile.tmpfs is set or a profile template is configured
+     */
+    public static boolean isEnabled() {
+        ConfigReader config = ConfigReader.getInstance();
+        String template = config.getProperty("browser.profile.template");
+        return config.getBooleanProperty("browser.profile.tmpfs", false)
+                || (template != null && !template.trim().isEmpty());
+    }
+
+    /**
+     * Lease a profile directory that no live session is using
+     * @return Profile directory to pass as --user-data-dir
+     */
+    public Path lease() {
+        Path profile = free.poll();
+        if (profile != null) {
+            return profile;
+        }
+        profile = root.resolve("profile-" + created.incrementAndGet());
+        try {
+            if (template != null && Files.isDirectory(template)) {
+                copyTree(template, profile);
+            } else {
+                Files.createDirectories(profile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create browser profile " + profile, e);
+        }
+        logger.debug("Created browser profile {}", profile);
+        return profile;
+    }
+
+    /**
+     * Record which session is using a leased profile
+     * @param webDriver Session launched with the profile
+     * @param profile Leased profile directory
+     */
+    public void bind(WebDriver webDriver, Path profile) {
+        leased.put(webDriver, profile);
+    }
+
+    /**
+     * Return a profile that never got a session (e.g. the launch failed)
+     * @param profile Leased profile directory
+     */
+    public void release(Path profile) {
+        scrub(profile);
+        free.offer(profile);
+    }
+
+    /**
+     * Return the profile of a session that has been quit, if it used one
+     * @param webDriver Session that was quit
+     */
+    static void releaseFor(WebDriver webDriver) {
+        ProfileManager manager = instance;
+        if (manager == null) {
+            return;
+        }
+        Path profile = manager.leased.remove(webDriver);
+        if (profile != null) {
+            manager.release(profile);
+        }
+    }
+
+    /**
+     * Delete every profile created during this run
+     */
+    public synchronized void deleteAll() {
+        free.clear();
+        leased.clear();
+        deleteTree(root);
+        logger.info("Deleted {} browser profile(s) under {}", created.get(), root);
+    }
+
+    private static Path resolveRootParent(ConfigReader config) throws IOException {
+        String explicitRoot = config.getProperty("browser.profile.root");
+        if (explicitRoot != null && !explicitRoot.trim().isEmpty()) {
+            return Files.createDirectories(Paths.get(explicitRoot.trim()));
+        }
+        Path shm = Paths.get("/dev/shm");
+        if (config.getBooleanProperty("browser.profile.tmpfs", false)) {
+            if (Files.isDirectory(shm) && Files.isWritable(shm)) {
+                return shm;
+            }
+            logger.warn("/dev/shm is not available, browser profiles fall back to the temp directory");
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Remove cookies and site storage, keeping caches warm for the next session
+     */
+    private static void scrub(Path profile) {
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(profile, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                for (String state : SESSION_STATE) {
+                    deleteTree(dir.resolve(state));
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not scrub browser profile {}: {}", profile, e.getMessage());
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            paths.forEach(path -> {
+                Path destination = target.resolve(source.relativize(path).toString());
+                try {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(destination);
+                    } else if (!path.getFileName().toString().startsWith("Singleton")) {
+                        // Singleton* lock files tie a profile to the browser process that created it
+                        Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void deleteTree(Path root) {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", root, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.automation.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wipes browser state so a session can be reused by the next test instead of being
+ * quit and relaunched. Cookies, localStorage, sessionStorage, IndexedDB, Cache Storage
+ * and service workers are cleared in one round-trip (a CDP command on Chromium
+ * browsers, a single async script elsewhere) before navigating back to the base URL.
+ */
+public class SessionResetEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionResetEngine.class);
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var tasks = [];" +
+            "try { window.localStorage.clear(); } catch (e) {}" +
+            "try { window.sessionStorage.clear(); } catch (e) {}" +
+            "document.cookie.split(';').forEach(function (cookie) {" +
+            "  var name = cookie.split('=')[0].trim();" +
+            "  if (name) { document.cookie = name + '=; expires=Thu, 01 Jan 1970 00:00:00 GMT; path=/'; }" +
+            "});" +
+            "if (window.indexedDB && indexedDB.databases) {" +
+            "  tasks.push(indexedDB.databases().then(function (dbs) {" +
+            "    return Promise.all(dbs.map(function (db) {" +
+            "      return new Promise(function (resolve) {" +
+            "        var request = indexedDB.deleteDatabase(db.name);" +
+            "        request.onsuccess = request.onerror = request.onblocked = resolve;" +
+            "      });" +
+            "    }));" +
+            "  }));" +
+            "}" +
+            "if (navigator.serviceWorker && navigator.serviceWorker.getRegistrations) {" +
+            "  tasks.push(navigator.serviceWorker.getRegistrations().then(function (registrations) {" +
+            "    return Promise.all(registrations.map(function (registration) { return registration.unregister(); }));" +
+            "  }));" +
+            "}" +
+            "if (window.caches && caches.keys) {" +
+            "  tasks.push(caches.keys().then(function (keys) {" +
+            "    return Promise.all(keys.map(function (key) { return caches.delete(key); }));" +
+            "  }));" +
+            "}" +
+            "Promise.all(tasks.map(function (task) { return task.catch(function () {}); }))" +
+            "  .then(function () { done(true); });";
+
+    private static final LongAdder resetCount = new LongAdder();
+    private static final LongAdder resetMillis = new LongAdder();
+    private static final AtomicLong slowestResetMillis = new AtomicLong();
+
+    /**
+     * Reset strategy used for a session
+     */
+    public enum Strategy {
+        CDP, SCRIPT
+    }
+
+    private SessionResetEngine() {
+    }
+
+    /**
+     * Clear all browser state for the session and navigate back to the base URL
+     * @param driver WebDriver session to reset
+     * @param baseUrl Application URL to load after clearing state
+     * @return Reset outcome and timing
+     */
+    public static ResetResult reset(WebDriver driver, String baseUrl) {
+        long start = System.nanoTime();
+        Strategy strategy = driver instanceof HasCdp ? Strategy.CDP : Strategy.SCRIPT;
+
+        try {
+            if (strategy == Strategy.CDP) {
+                clearWithCdp((HasCdp) driver, baseUrl);
+            } else {
+                clearWithScript(driver);
+            }
+            driver.get(baseUrl);
+        } catch (Exception e) {
+            long elapsed = toMillis(start);
+            logger.warn("Session reset via {} failed after {}ms: {}", strategy, elapsed, e.getMessage());
+            return new ResetResult(strategy, elapsed, false);
+        }
+
+        long elapsed = toMillis(start);
+        resetCount.increment();
+        resetMillis.add(elapsed);
+        slowestResetMillis.accumulateAndGet(elapsed, Math::max);
+        logger.info("Session reset via {} in {}ms", strategy, elapsed);
+        return new ResetResult(strategy, elapsed, true);
+    }
+
+    /**
+     * Log the number of resets performed and their average and slowest duration
+     */
+    public static void logSummary() {
+        long count = resetCount.sum();
+        if (count == 0) {
+            return;
+        }
+        logger.info("Session resets: {} (avg: {}ms, slowest: {}ms)",
+                count, resetMillis.sum() / count, slowestResetMillis.get());
+    }
+
+    /**
+     * Check if the session is on a URL, ignoring differences the browser introduces when it reports
+     * the URL back (a trailing slash, host case, dot segments)
+     * @param driver WebDriver session
+     * @param url URL to compare against, such as base.url
+     * @return true if the current URL is the same page
+     */
+    public static boolean isAt(WebDriver driver, String url) {
+        return normalize(url).equals(normalize(driver.getCurrentUrl()));
+    }
+
+    /**
+     * Clear every storage type for the application origin, plus all cookies, through CDP
+     */
+    private static void clearWithCdp(HasCdp cdp, String baseUrl) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("origin", originOf(baseUrl));
+        params.put("storageTypes", "all");
+        cdp.executeCdpCommand("Storage.clearDataForOrigin", params);
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+    }
+
+    /**
+     * Clear storage from inside the page, then drop cookies (including HttpOnly ones) via WebDriver
+     */
+    private static void clearWithScript(WebDriver driver) {
+        String currentUrl = driver.getCurrentUrl();
+        if (currentUrl != null && currentUrl.startsWith("http")) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        }
+        driver.manage().deleteAllCookies();
+    }
+
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static String normalize(String url) {
+        if (url == null) {
+            return "";
+        }
+        try {
+            URI uri = new URI(url.trim()).normalize();
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                return uri.toString();
+            }
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath().replaceAll("/+$", "");
+            return (uri.getScheme() + "://" + uri.getRawAuthority()).toLowerCase(Locale.ROOT) + path
+                    + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery())
+                    + (uri.getRawFragment() == null ? "" : "#" + uri.getRawFragment());
+        } catch (URISyntaxException e) {
+            return url.trim();
+        }
+    }
+
+    private static long toMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Outcome of a single session reset
+     */
+    public static final class ResetResult {
+        private final Strategy strategy;
+        private final long durationMillis;
+        private final boolean success;
+
+        private ResetResult(Strategy strategy, long durationMillis, boolean success) {
+            this.strategy = strategy;
+            this.durationMillis = durationMillis;
+            this.success = success;
+        }
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+    }
+}
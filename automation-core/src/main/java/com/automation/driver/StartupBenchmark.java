@@ -0,0 +1,63 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares session startup time of the default and perf launch profiles.
+ * Each round launches a session, loads the base URL and quits it; one unmeasured
+ * launch per profile warms the driver binary and OS caches first.
+ *
+ * Usage: StartupBenchmark [rounds] (browser and headless come from ConfigReader)
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        ConfigReader config = ConfigReader.getInstance();
+        WebDriverFactory.BrowserType browserType =
+                WebDriverFactory.BrowserType.valueOf(config.getProperty("browser", "chrome").toUpperCase());
+        boolean headless = config.getBooleanProperty("headless", true);
+        String baseUrl = config.getProperty("base.url", "http://localhost:3000");
+
+        System.out.printf("Startup benchmark: %s, headless=%s, %d rounds per profile%n", browserType, headless, rounds);
+        System.out.printf("%-8s %10s %10s %10s%n", "profile", "median", "mean", "max");
+        for (String profile : new String[] {"default", "perf"}) {
+            System.setProperty("browser.profile", profile);
+            launch(browserType, headless, baseUrl);
+
+            List<Long> samples = new ArrayList<>();
+            for (int i = 0; i < rounds; i++) {
+                samples.add(launch(browserType, headless, baseUrl));
+            }
+            Collections.sort(samples);
+            long total = samples.stream().mapToLong(Long::longValue).sum();
+            System.out.printf("%-8s %8dms %8dms %8dms%n", profile,
+                    samples.get(samples.size() / 2), total / samples.size(), samples.get(samples.size() - 1));
+        }
+        System.clearProperty("browser.profile");
+    }
+
+    /**
+     * Launch a session, load the base URL and quit
+     * @return Milliseconds from launch until the page was loaded
+     */
+    private static long launch(WebDriverFactory.BrowserType browserType, boolean headless, String baseUrl) {
+        long start = System.nanoTime();
+        WebDriver webDriver = WebDriverFactory.createDriver(browserType, headless);
+        try {
+            webDriver.get(baseUrl);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            WebDriverFactory.quitSession(webDriver);
+        }
+    }
+}
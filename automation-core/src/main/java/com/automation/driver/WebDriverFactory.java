@@ -0,0 +1,539 @@
+package com.automation.driver;
+
+import com.automation.utils.ConfigReader;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * WebDriverFactory class for managing WebDriver instances
+ * Supports Chrome, Firefox, Edge, and Safari browsers
+ * Includes headless mode support
+ * Shared by the TestNG and Cucumber frameworks: each thread owns at most one session,
+ * and every live session is tracked so it is quit exactly once
+ * Chromium sessions get a NetworkTracker for network-idle and request waits, and a CoverageRecorder when recording
+ */
+public class WebDriverFactory {
+    
+    private static final Logger logger = LoggerFactory.getLogger(WebDriverFactory.class);
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> discardOnQuit = new ThreadLocal<>();
+    private static final Set<WebDriver> activeSessions = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Browser types enum
+     */
+    public enum BrowserType {
+        CHROME, FIREFOX, EDGE, SAFARI
+    }
+    
+    /**
+     * Initialize WebDriver based on browser type
+     * Leases a warm session from the DriverPool when pooling is enabled,
+     * or takes the session pre-launched for this thread when pre-fetch is enabled
+     * @param browserType The browser to initialize
+     * @param headless Whether to run in headless mode
+     * @return WebDriver instance
+     */
+    public static WebDriver initializeDriver(BrowserType browserType, boolean headless) {
+        WebDriver webDriver = null;
+        
+        if (driver.get() != null) {
+            logger.warn("Thread {} already owns a WebDriver, releasing it before initializing a new one",
+                    Thread.currentThread().getName());
+            quitDriver();
+        }
+        
+        try {
+            if (DriverPool.isEnabled()) {
+                webDriver = DriverPool.getInstance().lease(browserType, headless);
+            } else if (DriverPrefetcher.isEnabled()) {
+                webDriver = DriverPrefetcher.getInstance().take(browserType, headless);
+            } else {
+                webDriver = createDriver(browserType, headless);
+            }
+            
+            NetworkTracker tracker = NetworkTracker.forDriver(webDriver);
+            if (tracker != null) {
+                tracker.clearHistory();
+            }
+            CoverageRecorder.reset(webDriver);
+            driver.set(webDriver);
+            logger.info("WebDriver initialized successfully for browser: {}", browserType);
+            
+        } catch (Exception e) {
+            logger.error("Failed to initialize WebDriver for browser: {}", browserType, e);
+            if (webDriver != null) {
+                discardUnbound(webDriver);
+            }
+            throw new RuntimeException("WebDriver initialization failed", e);
+        }
+
+        return webDriver;
+    }
+
+    /**
+     * Dispose of a session whose setup failed before it was bound to the thread, so a pooled
+     * lease gives its permit back instead of leaking it
+     * @param webDriver Session that was leased, taken or created
+     */
+    private static void discardUnbound(WebDriver webDriver) {
+        try {
+            if (DriverPool.isEnabled() && DriverPool.getInstance().isLeased(webDriver)) {
+                DriverPool.getInstance().invalidate(webDriver);
+            } else {
+                quitSession(webDriver);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not discard WebDriver after failed initialization: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Create and configure a new WebDriver session without binding it to the current thread
+     * @param browserType The browser to launch
+     * @param headless Whether to run in headless mode
+     * @return New WebDriver instance
+     */
+    static WebDriver createDriver(BrowserType browserType, boolean headless) {
+        WebDriver webDriver;
+        switch (browserType) {
+            case CHROME:
+                webDriver = launchResolved(DriverManagerType.CHROME, () -> createChromeDriver(headless));
+                break;
+            case FIREFOX:
+                webDriver = launchResolved(DriverManagerType.FIREFOX, () -> createFirefoxDriver(headless));
+                break;
+            case EDGE:
+                webDriver = launchResolved(DriverManagerType.EDGE, () -> createEdgeDriver(headless));
+                break;
+            case SAFARI:
+                webDriver = createSafariDriver();
+                break;
+            default:
+                throw new IllegalArgumentException("Browser type not supported: " + browserType);
+        }
+        activeSessions.add(webDriver);
+        NetworkTracker.attach(webDriver);
+        CoverageRecorder.attach(webDriver);
+        
+        // Configure WebDriver settings (the perf profile starts at a fixed window size instead)
+        if (!PerfProfile.isSelected()) {
+            webDriver.manage().window().maximize();
+        } else if (browserType == BrowserType.SAFARI) {
+            webDriver.manage().window().setSize(PerfProfile.windowSize());
+        }
+        configureTimeouts(webDriver);
+        webDriver.manage().deleteAllCookies();
+        
+        return webDriver;
+    }
+    
+    /**
+     * Initialize WebDriver based on system property or default to Chrome
+     * @return WebDriver instance
+     */
+    public static WebDriver initializeDriver() {
+        // Check if running on BrowserStack (BrowserStack SDK sets this property)
+        String bsConfig = System.getProperty("browserstack.config");
+        if (bsConfig != null || isBrowserStackExecution()) {
+            return createBrowserStackDriver();
+        }
+        
+        return initializeDriver(resolveBrowserType(), isHeadless());
+    }
+    
+    /**
+     * Pre-launch pooled sessions for the configured browser
+     * Does nothing when pooling is disabled or tests run on BrowserStack
+     */
+    public static void warmUpPool() {
+        warmUpPool(resolveBrowserType(), isHeadless());
+    }
+    
+    /**
+     * Pre-launch pooled sessions for a specific browser and mode
+     * Does nothing when pooling is disabled or tests run on BrowserStack
+     * @param browserType The browser to launch
+     * @param headless Whether to run in headless mode
+     */
+    public static void warmUpPool(BrowserType browserType, boolean headless) {
+        if (!DriverPool.isEnabled() || System.getProperty("browserstack.config") != null || isBrowserStackExecution()) {
+            return;
+        }
+        DriverPool.getInstance().warmUp(browserType, headless);
+    }
+    
+    /**
+     * Stop keeping sessions warm: idle pooled sessions are quit now and sessions still in use when they
+     * are released, e.g. once a fail-fast run has stopped scheduling tests
+     */
+    public static void drainPool() {
+        if (DriverPool.isEnabled()) {
+            DriverPool.getInstance().drain();
+        }
+    }
+    
+    /**
+     * Quit all pooled and pre-launched sessions and delete managed browser profiles
+     */
+    public static void shutdownPool() {
+        if (DriverPool.isEnabled()) {
+            DriverPool.getInstance().shutdown();
+        } else if (DriverPrefetcher.isEnabled()) {
+            DriverPrefetcher.logSummary();
+            DriverPrefetcher.getInstance().shutdown();
+        }
+        if (ProfileManager.isEnabled()) {
+            ProfileManager.getInstance().deleteAll();
+        }
+    }
+    
+    /**
+     * Resolve browser type from the browser property, defaulting to Chrome
+     */
+    private static BrowserType resolveBrowserType() {
+        String browser = ConfigReader.getInstance().getProperty("browser", "chrome").toLowerCase();
+        
+        BrowserType browserType;
+        switch (browser) {
+            case "firefox":
+                browserType = BrowserType.FIREFOX;
+                break;
+            case "edge":
+                browserType = BrowserType.EDGE;
+                break;
+            case "safari":
+                browserType = BrowserType.SAFARI;
+                break;
+            default:
+                browserType = BrowserType.CHROME;
+        }
+        return browserType;
+    }
+    
+    private static boolean isHeadless() {
+        return ConfigReader.getInstance().getBooleanProperty("headless", false);
+    }
+    
+    /**
+     * Get current WebDriver instance
+     * @return WebDriver instance
+     */
+    public static WebDriver getDriver() {
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
+            throw new IllegalStateException("WebDriver is not initialized. Call initializeDriver() first.");
+        }
+        return webDriver;
+    }
+    
+    /**
+     * Quit WebDriver and clean up resources
+     * Pooled sessions are returned to the DriverPool instead of being quit, unless discardOnQuit() was called;
+     * in pre-fetch mode the quit runs on a background reaper
+     */
+    public static void quitDriver() {
+        WebDriver webDriver = driver.get();
+        boolean discard = Boolean.TRUE.equals(discardOnQuit.get());
+        discardOnQuit.remove();
+        if (webDriver != null) {
+            try {
+                CoverageRecorder.collect(webDriver);
+                if (DriverPool.isEnabled() && DriverPool.getInstance().isLeased(webDriver)) {
+                    if (discard) {
+                        DriverPool.getInstance().invalidate(webDriver);
+                        logger.info("Pooled WebDriver discarded");
+                    } else {
+                        DriverPool.getInstance().release(webDriver);
+                        logger.info("WebDriver returned to pool");
+                    }
+                } else if (DriverPrefetcher.isEnabled()) {
+                    DriverPrefetcher.getInstance().reap(webDriver);
+                    logger.info("WebDriver handed to background reaper");
+                } else {
+                    quitSession(webDriver);
+                    logger.info("WebDriver quit successfully");
+                }
+            } catch (Exception e) {
+                logger.error("Error while quitting WebDriver", e);
+            } finally {
+                driver.remove();
+            }
+        }
+    }
+    
+    /**
+     * Make the next quitDriver() on this thread quit the current session instead of returning it to
+     * the pool, so the thread's next session is a brand-new browser
+     * Does nothing when the thread owns no session
+     */
+    public static void discardOnQuit() {
+        if (driver.get() != null) {
+            discardOnQuit.set(true);
+        }
+    }
+    
+    /**
+     * Apply driver timeouts from configuration
+     * Implicit wait defaults to 0: element lookups never block, all waiting is explicit
+     */
+    private static void configureTimeouts(WebDriver webDriver) {
+        ConfigReader config = ConfigReader.getInstance();
+        webDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getLongProperty("implicit.wait", 0)));
+        webDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getLongProperty("page.load.timeout", 30)));
+        webDriver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getLongProperty("script.timeout", 30)));
+    }
+    
+    /**
+     * Quit a session unless it has already been quit by another owner
+     * @param webDriver Session to quit
+     */
+    static void quitSession(WebDriver webDriver) {
+        if (activeSessions.remove(webDriver)) {
+            CoverageRecorder.detach(webDriver);
+            NetworkTracker.detach(webDriver);
+            try {
+                webDriver.quit();
+            } finally {
+                ProfileManager.releaseFor(webDriver);
+            }
+        }
+    }
+    
+    /**
+     * Launch a session whose driver binary comes from DriverBinaryResolver, resolving the driver
+     * again once when the cached one no longer supports the installed browser
+     */
+    private static WebDriver launchResolved(DriverManagerType type, Supplier<WebDriver> launcher) {
+        try {
+            return launcher.get();
+        } catch (SessionNotCreatedException e) {
+            if (!DriverBinaryResolver.invalidateOnVersionMismatch(type, e)) {
+                throw e;
+            }
+            return launcher.get();
+        }
+    }
+    
+    /**
+     * Launch a Chromium session on a managed user-data-dir when the ProfileManager is enabled
+     * @param options Options the launcher was built with
+     * @param launcher Creates the driver from the options
+     * @return New WebDriver instance
+     */
+    private static WebDriver launchWithProfile(ChromiumOptions<?> options, Supplier<WebDriver> launcher) {
+        if (!ProfileManager.isEnabled()) {
+            return launcher.get();
+        }
+        ProfileManager profiles = ProfileManager.getInstance();
+        Path profile = profiles.lease();
+        options.addArguments("--user-data-dir=" + profile);
+        try {
+            WebDriver webDriver = launcher.get();
+            profiles.bind(webDriver, profile);
+            return webDriver;
+        } catch (RuntimeException e) {
+            profiles.release(profile);
+            throw e;
+        }
+    }
+    
+    /**
+     * Create Chrome WebDriver with options
+     * Uses the lean perf profile when browser.profile=perf
+     */
+    private static WebDriver createChromeDriver(boolean headless) {
+        DriverBinaryResolver.resolve(DriverManagerType.CHROME);
+        
+        ChromeOptions options = new ChromeOptions();
+        if (PerfProfile.isSelected()) {
+            PerfProfile.apply(options, headless);
+            logger.info("Chrome driver initialized with perf profile (headless: {})", headless);
+            return launchWithProfile(options, () -> new ChromeDriver(options));
+        }
+        
+        options.addArguments("--disable-web-security");
+        options.addArguments("--disable-features=VizDisplayCompositor");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--remote-allow-origins=*");
+        
+        if (headless) {
+            options.addArguments("--headless");
+            logger.info("Chrome driver initialized in headless mode");
+        } else {
+            logger.info("Chrome driver initialized in normal mode");
+        }
+        
+        return launchWithProfile(options, () -> new ChromeDriver(options));
+    }
+    
+    /**
+     * Create Firefox WebDriver with options
+     */
+    private static WebDriver createFirefoxDriver(boolean headless) {
+        DriverBinaryResolver.resolve(DriverManagerType.FIREFOX);
+        
+        FirefoxOptions options = new FirefoxOptions();
+        if (PerfProfile.isSelected()) {
+            PerfProfile.apply(options, headless);
+            logger.info("Firefox driver initialized with perf profile (headless: {})", headless);
+            return new FirefoxDriver(options);
+        }
+        
+        if (headless) {
+            options.addArguments("--headless");
+            logger.info("Firefox driver initialized in headless mode");
+        } else {
+            logger.info("Firefox driver initialized in normal mode");
+        }
+        
+        return new FirefoxDriver(options);
+    }
+    
+    /**
+     * Create Edge WebDriver with options
+     */
+    private static WebDriver createEdgeDriver(boolean headless) {
+        DriverBinaryResolver.resolve(DriverManagerType.EDGE);
+        
+        EdgeOptions options = new EdgeOptions();
+        if (PerfProfile.isSelected()) {
+            PerfProfile.apply(options, headless);
+            logger.info("Edge driver initialized with perf profile (headless: {})", headless);
+            return launchWithProfile(options, () -> new EdgeDriver(options));
+        }
+        
+        options.addArguments("--disable-web-security");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--remote-allow-origins=*");
+        
+        if (headless) {
+            options.addArguments("--headless");
+            logger.info("Edge driver initialized in headless mode");
+        } else {
+            logger.info("Edge driver initialized in normal mode");
+        }
+        
+        return launchWithProfile(options, () -> new EdgeDriver(options));
+    }
+    
+    /**
+     * Create Safari WebDriver
+     * Note: Safari doesn't support headless mode
+     */
+    private static WebDriver createSafariDriver() {
+        logger.info("Safari driver initialized (headless mode not supported)");
+        return new SafariDriver();
+    }
+    
+    /**
+     * Check if WebDriver is initialized
+     * @return true if initialized, false otherwise
+     */
+    public static boolean isDriverInitialized() {
+        return driver.get() != null;
+    }
+    
+    /**
+     * Check if execution is on BrowserStack
+     * @return true if running on BrowserStack, false otherwise
+     */
+    private static boolean isBrowserStackExecution() {
+        // Check for BrowserStack specific environment variables or system properties
+        return System.getProperty("browserstack.user") != null || 
+               System.getProperty("browserstack.key") != null ||
+               System.getenv("BROWSERSTACK_USERNAME") != null ||
+               System.getenv("BROWSERSTACK_ACCESS_KEY") != null;
+    }
+    
+    /**
+     * Create BrowserStack RemoteWebDriver
+     * @return WebDriver instance configured for BrowserStack
+     */
+    private static WebDriver createBrowserStackDriver() {
+        try {
+            // BrowserStack Hub URL
+            String username = System.getProperty("browserstack.user", System.getenv("BROWSERSTACK_USERNAME"));
+            String accessKey = System.getProperty("browserstack.key", System.getenv("BROWSERSTACK_ACCESS_KEY"));
+            
+            if (username == null || accessKey == null) {
+                logger.warn("BrowserStack credentials not found. Using local driver instead.");
+                return initializeDriver(BrowserType.CHROME, false);
+            }
+            
+            String hubUrl = String.format("https://%s:%s@hub-cloud.browserstack.com/wd/hub", username, accessKey);
+            
+            DesiredCapabilities caps = new DesiredCapabilities();
+            
+            // Set browser capabilities from system properties or defaults
+            String browser = System.getProperty("browser", "chrome");
+            String platform = System.getProperty("platform", "Windows 11");
+            String browserVersion = System.getProperty("browserVersion", "latest");
+            
+            caps.setCapability("browserName", browser);
+            caps.setCapability("browserVersion", browserVersion);
+            // caps.setCapability("os", platform.split(" ")[0]);
+            // caps.setCapability("osVersion", platform.contains(" ") ? platform.split(" ", 2)[1] : "11");
+            
+            // BrowserStack specific capabilities
+            Map<String, Object> browserstackOptions = new HashMap<>();
+            browserstackOptions.put("projectName", "TestNG Automation Framework");
+            browserstackOptions.put("buildName", "TestNG Build - " + System.currentTimeMillis());
+            browserstackOptions.put("sessionName", "TestNG Test Session");
+            browserstackOptions.put("debug", "false");
+            browserstackOptions.put("networkLogs", "false");
+            browserstackOptions.put("consoleLogs", "errors");
+            browserstackOptions.put("resolution", "1920x1080");
+            
+            // Local testing support
+            boolean isLocal = Boolean.parseBoolean(System.getProperty("local", "false"));
+            if (isLocal) {
+                browserstackOptions.put("local", "true");
+                browserstackOptions.put("localIdentifier", System.getProperty("localIdentifier"));
+            }
+            
+            caps.setCapability("bstack:options", browserstackOptions);
+            
+            WebDriver webDriver = new RemoteWebDriver(new URL(hubUrl), caps);
+            activeSessions.add(webDriver);
+            
+            // Configure WebDriver settings
+            webDriver.manage().window().maximize();
+            configureTimeouts(webDriver);
+            
+            driver.set(webDriver);
+            logger.info("BrowserStack WebDriver initialized successfully for browser: {} on platform: {}", browser, platform);
+            
+            return webDriver;
+            
+        } catch (Exception e) {
+            logger.error("Failed to initialize BrowserStack WebDriver", e);
+            throw new RuntimeException("BrowserStack WebDriver initialization failed", e);
+        }
+    }
+}
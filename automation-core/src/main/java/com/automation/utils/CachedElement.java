@@ -0,0 +1,260 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Page-object element that is located once and reused
+ * The first call finds the element; later calls go straight to the cached reference. When the
+ * browser reports the reference stale (re-render, navigation, session reset) the element is located
+ * again and the call is retried once. Find, reuse and refresh counts are kept for logReport().
+ *
+ * The cache returns the node that matched first, so use it for stable elements (headers, navigation,
+ * form fields) rather than for "first row of a list" locators whose match changes while the node stays.
+ *
+ * Configured through ConfigReader: element.cache.enabled (default true)
+ */
+public class CachedElement implements WebElement, WrapsElement {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedElement.class);
+
+    private static final LongAdder finds = new LongAdder();
+    private static final LongAdder reuses = new LongAdder();
+    private static final LongAdder refreshes = new LongAdder();
+
+    private final String description;
+    private final Supplier<WebElement> finder;
+    private volatile WebElement element;
+
+    /**
+     * Create an element located with the locator on the search context
+     * @param context Driver or parent element to search from
+     * @param locator Element locator
+     */
+    public CachedElement(SearchContext context, By locator) {
+        this(locator.toString(), () -> context.findElement(locator));
+    }
+
+    /**
+     * Create an element located by a custom finder (e.g. a PageFactory ElementLocator)
+     * @param description Name used in log messages
+     * @param finder Locates the element, throwing NoSuchElementException when it is absent
+     */
+    public CachedElement(String description, Supplier<WebElement> finder) {
+        this.description = description;
+        this.finder = finder;
+    }
+
+    /**
+     * Check if element caching is enabled
+     * @return true unless element.cache.enabled=false
+     */
+    public static boolean isCachingEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("element.cache.enabled", true);
+    }
+
+    /**
+     * Check if the element has been located
+     * @return true if a reference is cached
+     */
+    public boolean isResolved() {
+        return element != null;
+    }
+
+    /**
+     * Cache an element that was located elsewhere, e.g. by a wait on the same locator
+     * @param located Element the locator matched
+     */
+    public void seed(WebElement located) {
+        if (located != null && located != this) {
+            finds.increment();
+            element = located;
+        }
+    }
+
+    /**
+     * Forget the cached reference so the next call locates the element again
+     */
+    public void invalidate() {
+        element = null;
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return current();
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(e -> e.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(e -> e.getAttribute(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(e -> e.getDomAttribute(name));
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(e -> e.getDomProperty(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(e -> e.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(e -> e.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(e -> e.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return call(e -> e.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "CachedElement[" + description + "]";
+    }
+
+    /**
+     * Log how many lookups the cache served and how many needed a findElement
+     */
+    public static void logReport() {
+        long found = finds.sum();
+        long reused = reuses.sum();
+        if (found + reused == 0) {
+            return;
+        }
+        logger.info("Element cache: {} finds, {} calls served from cache, {} stale refreshes",
+                found, reused, refreshes.sum());
+    }
+
+    private WebElement current() {
+        WebElement cached = element;
+        if (cached != null) {
+            reuses.increment();
+            return cached;
+        }
+        WebElement located = finder.get();
+        finds.increment();
+        element = located;
+        return located;
+    }
+
+    private <T> T call(Function<WebElement, T> action) {
+        try {
+            return action.apply(current());
+        } catch (StaleElementReferenceException e) {
+            refreshes.increment();
+            logger.debug("Cached element went stale, locating again: {}", description);
+            element = null;
+            return action.apply(current());
+        }
+    }
+
+    private void run(Consumer<WebElement> action) {
+        call(e -> {
+            action.accept(e);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,174 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Which code units each recorded test touched
+ * Units are repository paths of client modules and stylesheets (client/src/components/users/Users.js)
+ * and server routes (route:GET /api/users/:id). Tests are TestNG methods (class#method) or cucumber
+ * scenarios (Feature.feature:line). The file stores every unit once and each test as a list of unit
+ * numbers; loading builds the reverse map, so lookups by unit are plain map reads.
+ *
+ * Recording runs merge into the file: a test recorded again replaces its previous entry, tests not
+ * run keep theirs.
+ */
+public final class CoverageIndex {
+
+    /** Prefix of server route units */
+    public static final String ROUTE = "route:";
+
+    private static final String UNIT_KEY = "unit.";
+    private static final String TEST_KEY = "test.";
+
+    private final Map<String, Set<String>> unitsByTest = new TreeMap<>();
+    private final Map<String, Set<String>> testsByUnit = new HashMap<>();
+
+    private CoverageIndex() {
+    }
+
+    /**
+     * Load an index file
+     * @param file Index file
+     * @return Loaded index, empty if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static CoverageIndex load(Path file) throws IOException {
+        CoverageIndex index = new CoverageIndex();
+        if (file == null || !Files.isRegularFile(file)) {
+            return index;
+        }
+        Properties stored = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            stored.load(input);
+        }
+        Map<String, String> units = new HashMap<>();
+        for (String key : stored.stringPropertyNames()) {
+            if (key.startsWith(UNIT_KEY)) {
+                units.put(key.substring(UNIT_KEY.length()), stored.getProperty(key));
+            }
+        }
+        for (String key : stored.stringPropertyNames()) {
+            if (key.startsWith(TEST_KEY)) {
+                Set<String> covered = new TreeSet<>();
+                for (String number : stored.getProperty(key).split(",")) {
+                    String unit = units.get(number.trim());
+                    if (unit != null) {
+                        covered.add(unit);
+                    }
+                }
+                index.put(key.substring(TEST_KEY.length()), covered);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Merge recorded tests into an index file under an exclusive file lock so concurrent forks never
+     * lose each other's entries; the file is replaced atomically
+     * @param file Index file, created when missing
+     * @param recorded Units per recorded test
+     * @throws IOException if the file cannot be read or written
+     */
+    public static void merge(Path file, Map<String, Set<String>> recorded) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path lockPath = file.resolveSibling(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            CoverageIndex index = load(file);
+            recorded.forEach(index::put);
+
+            Path tempPath = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream output = Files.newOutputStream(tempPath)) {
+                index.toProperties().store(output, "Code units touched per test, written by CoverageRecorder");
+            }
+            Files.move(tempPath, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Tests that touched a unit
+     * @param unit Repository path or route unit
+     * @return Test ids, empty if no recorded test touched it
+     */
+    public Set<String> testsCovering(String unit) {
+        return testsByUnit.getOrDefault(unit, Collections.emptySet());
+    }
+
+    /**
+     * Tests that touched any unit accepted by the filter
+     * @param units Unit filter, e.g. all methods of one route
+     * @return Test ids
+     */
+    public Set<String> testsCovering(Predicate<String> units) {
+        Set<String> tests = new TreeSet<>();
+        testsByUnit.forEach((unit, covering) -> {
+            if (units.test(unit)) {
+                tests.addAll(covering);
+            }
+        });
+        return tests;
+    }
+
+    /**
+     * Units a test touched
+     * @param test Test id
+     * @return Units, empty if the test was never recorded
+     */
+    public Set<String> unitsOf(String test) {
+        return unitsByTest.getOrDefault(test, Collections.emptySet());
+    }
+
+    /**
+     * Check if the index holds any test
+     * @return true if no test is recorded
+     */
+    public boolean isEmpty() {
+        return unitsByTest.isEmpty();
+    }
+
+    private void put(String test, Set<String> units) {
+        Set<String> previous = unitsByTest.put(test, new TreeSet<>(units));
+        if (previous != null) {
+            previous.forEach(unit -> testsByUnit.getOrDefault(unit, Collections.emptySet()).remove(test));
+        }
+        units.forEach(unit -> testsByUnit.computeIfAbsent(unit, k -> new TreeSet<>()).add(test));
+    }
+
+    private Properties toProperties() {
+        Map<String, Integer> numbers = new LinkedHashMap<>();
+        Properties properties = new Properties();
+        unitsByTest.forEach((test, units) -> {
+            List<String> covered = new ArrayList<>(units.size());
+            for (String unit : units) {
+                Integer number = numbers.get(unit);
+                if (number == null) {
+                    number = numbers.size();
+                    numbers.put(unit, number);
+                    properties.setProperty(UNIT_KEY + number, unit);
+                }
+                covered.add(String.valueOf(number));
+            }
+            properties.setProperty(TEST_KEY + test, String.join(",", covered));
+        });
+        return properties;
+    }
+}
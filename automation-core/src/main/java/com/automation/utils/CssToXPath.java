@@ -0,0 +1,190 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates locators, including the CSS subset used by page objects, into an equivalent XPath
+ * Handles tags, ids, classes and attribute tests (=, *=, ^=, $=, ~=) joined by descendant or child
+ * combinators, and selector lists (which become a union). Pseudo-classes and sibling combinators,
+ * like link text and custom locators, are reported as not convertible. The reverse of XPathToCss.
+ */
+public final class CssToXPath {
+
+    private static final Pattern CSS_TOKEN = Pattern.compile(
+            "\\s*([>+~])\\s*|\\s+|([A-Za-z][\\w-]*|\\*)|#([\\w-]+)|\\.([\\w-]+)"
+                    + "|\\[\\s*([\\w-]+)\\s*(?:([*^$~|]?=)\\s*(?:'([^']*)'|\"([^\"]*)\"|([\\w-]+))\\s*)?\\]");
+
+    private CssToXPath() {
+    }
+
+    /**
+     * Translate a locator into an XPath
+     * @param locator Element locator
+     * @return XPath, or null for link text, custom locators and CSS the translation does not cover
+     */
+    public static String fromLocator(By locator) {
+        LocatorParts parts = LocatorParts.of(locator);
+        if (parts == null) {
+            return null;
+        }
+        String value = parts.getValue();
+        switch (parts.getStrategy()) {
+            case "xpath":
+                return value;
+            case "id":
+                return literal(value) == null ? null : "//*[@id=" + literal(value) + "]";
+            case "name":
+                return literal(value) == null ? null : "//*[@name=" + literal(value) + "]";
+            case "className":
+                return literal(" " + value + " ") == null ? null : "//*[" + hasClass(value) + "]";
+            case "tagName":
+                return value.matches("[A-Za-z][\\w-]*") ? "//" + value.toLowerCase() : null;
+            case "cssSelector":
+                return convert(value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Convert a CSS selector list to XPath
+     * @param css CSS selector
+     * @return Equivalent XPath (a union for selector lists), or null if the selector uses constructs
+     * the translation does not cover
+     */
+    public static String convert(String css) {
+        List<String> branches = new ArrayList<>();
+        for (String selector : splitSelectorList(css)) {
+            String branch = selectorToXPath(selector.trim());
+            if (branch == null) {
+                return null;
+            }
+            branches.add(branch);
+        }
+        return branches.isEmpty() ? null : String.join(" | ", branches);
+    }
+
+    private static String selectorToXPath(String selector) {
+        if (selector.isEmpty()) {
+            return null;
+        }
+        StringBuilder path = new StringBuilder("//");
+        String tag = null;
+        List<String> predicates = new ArrayList<>();
+        Matcher matcher = CSS_TOKEN.matcher(selector);
+        int position = 0;
+        while (position < selector.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                return null;
+            }
+            position = matcher.end();
+            if (matcher.group(1) != null || (matcher.group(0).trim().isEmpty())) {
+                String combinator = matcher.group(1);
+                if ((combinator != null && !">".equals(combinator)) || (tag == null && predicates.isEmpty())) {
+                    return null;
+                }
+                path.append(compound(tag, predicates)).append(combinator == null ? "//" : "/");
+                tag = null;
+                predicates.clear();
+            } else if (matcher.group(2) != null) {
+                if (tag != null || !predicates.isEmpty()) {
+                    return null;
+                }
+                tag = matcher.group(2).toLowerCase();
+            } else if (matcher.group(3) != null) {
+                predicates.add("@id=" + literal(matcher.group(3)));
+            } else if (matcher.group(4) != null) {
+                predicates.add(hasClass(matcher.group(4)));
+            } else {
+                String predicate = attributeTest(matcher.group(5), matcher.group(6),
+                        matcher.group(7) != null ? matcher.group(7) : matcher.group(8) != null ? matcher.group(8) : matcher.group(9));
+                if (predicate == null) {
+                    return null;
+                }
+                predicates.add(predicate);
+            }
+        }
+        if (tag == null && predicates.isEmpty()) {
+            return null;
+        }
+        return path.append(compound(tag, predicates)).toString();
+    }
+
+    private static String compound(String tag, List<String> predicates) {
+        StringBuilder step = new StringBuilder(tag == null ? "*" : tag);
+        for (String predicate : predicates) {
+            step.append('[').append(predicate).append(']');
+        }
+        return step.toString();
+    }
+
+    private static String attributeTest(String attribute, String operator, String value) {
+        if (operator == null) {
+            return "@" + attribute;
+        }
+        String quoted = literal(value);
+        if (quoted == null) {
+            return null;
+        }
+        switch (operator) {
+            case "=":
+                return "@" + attribute + "=" + quoted;
+            case "*=":
+                return "contains(@" + attribute + ", " + quoted + ")";
+            case "^=":
+                return "starts-with(@" + attribute + ", " + quoted + ")";
+            case "$=":
+                return "substring(@" + attribute + ", string-length(@" + attribute + ") - string-length(" + quoted + ") + 1) = " + quoted;
+            case "~=":
+                return "contains(concat(' ', normalize-space(@" + attribute + "), ' '), " + literal(" " + value + " ") + ")";
+            default:
+                return null;
+        }
+    }
+
+    private static String hasClass(String className) {
+        return "contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + className + " ") + ")";
+    }
+
+    private static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        return value.contains("\"") ? null : "\"" + value + "\"";
+    }
+
+    private static List<String> splitSelectorList(String css) {
+        if (css.indexOf(',') < 0) {
+            return Collections.singletonList(css);
+        }
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(css.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(css.substring(start));
+        return parts;
+    }
+}
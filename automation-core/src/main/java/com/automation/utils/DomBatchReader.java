@@ -0,0 +1,256 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads lists and tables with a single executeScript call
+ * Verifications that walk rows with findElements and then call getText()/getAttribute() per cell
+ * pay one WebDriver round-trip per cell; here the page builds all rows in one go and returns
+ * them as a List of column name to value maps.
+ * Rows are located by CSS or XPath, columns by a CSS selector relative to the row.
+ */
+public class DomBatchReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomBatchReader.class);
+
+    /** Shared helpers: resolve the row locator and read one value from an element */
+    private static final String HELPERS =
+            "function findAll(type, value) {" +
+            "  if (type === 'xpath') {" +
+            "    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    var nodes = [];" +
+            "    for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }" +
+            "    return nodes;" +
+            "  }" +
+            "  return Array.prototype.slice.call(document.querySelectorAll(value));" +
+            "}" +
+            // Like getText(): elements that are not rendered read as empty
+            "function text(el) {" +
+            "  if (!el) { return null; }" +
+            "  return el.getClientRects().length ? (el.innerText || '').trim() : '';" +
+            "}" +
+            "function read(el, kind, arg) {" +
+            "  if (!el) { return null; }" +
+            "  switch (kind) {" +
+            "    case 'attribute': return el.getAttribute(arg);" +
+            "    case 'style': return window.getComputedStyle(el).getPropertyValue(arg);" +
+            "    default: return text(el);" +
+            "  }" +
+            "}";
+
+    private static final String READ_LIST_SCRIPT = HELPERS +
+            "var columns = arguments[2];" +
+            "return findAll(arguments[0], arguments[1]).map(function (row) {" +
+            "  var values = {};" +
+            "  columns.forEach(function (column) {" +
+            "    values[column[0]] = read(column[1] ? row.querySelector(column[1]) : row, column[2], column[3]);" +
+            "  });" +
+            "  return values;" +
+            "});";
+
+    private static final String READ_TABLE_SCRIPT = HELPERS +
+            "var table = findAll(arguments[0], arguments[1])[0];" +
+            "if (!table) { return []; }" +
+            "var headerCells = table.querySelectorAll('thead th');" +
+            "if (!headerCells.length) { var first = table.querySelector('tr'); headerCells = first ? first.querySelectorAll('th') : []; }" +
+            "var headers = Array.prototype.map.call(headerCells, function (cell, i) { return text(cell) || ('column' + (i + 1)); });" +
+            "var rows = Array.prototype.filter.call(table.querySelectorAll('tr'), function (row) { return row.querySelector('td'); });" +
+            "return rows.map(function (row) {" +
+            "  var values = {};" +
+            "  Array.prototype.forEach.call(row.querySelectorAll('td'), function (cell, i) {" +
+            "    values[headers[i] || ('column' + (i + 1))] = text(cell);" +
+            "  });" +
+            "  return values;" +
+            "});";
+
+    private static final String READ_TEXTS_SCRIPT = HELPERS +
+            "return findAll(arguments[0], arguments[1]).map(text);";
+
+    /**
+     * One value read from each row
+     */
+    public static final class Column {
+        private final String name;
+        private final String selector;
+        private final String kind;
+        private final String argument;
+
+        private Column(String name, String selector, String kind, String argument) {
+            this.name = name;
+            this.selector = selector;
+            this.kind = kind;
+            this.argument = argument;
+        }
+
+        /**
+         * Visible text of the first descendant matching the selector
+         * @param name Key in the row map
+         * @param selector CSS selector relative to the row, or null for the row itself
+         * @return Column
+         */
+        public static Column text(String name, String selector) {
+            return new Column(name, selector, "text", null);
+        }
+
+        /**
+         * Attribute of the first descendant matching the selector
+         * @param name Key in the row map
+         * @param selector CSS selector relative to the row, or null for the row itself
+         * @param attribute Attribute name, e.g. "class"
+         * @return Column
+         */
+        public static Column attribute(String name, String selector, String attribute) {
+            return new Column(name, selector, "attribute", attribute);
+        }
+
+        /**
+         * Computed CSS property of the first descendant matching the selector
+         * @param name Key in the row map
+         * @param selector CSS selector relative to the row, or null for the row itself
+         * @param property CSS property, e.g. "color"
+         * @return Column
+         */
+        public static Column style(String name, String selector, String property) {
+            return new Column(name, selector, "style", property);
+        }
+
+        private List<String> toScriptArgument() {
+            return Arrays.asList(name, selector == null ? "" : selector, kind, argument);
+        }
+    }
+
+    private final WebDriver driver;
+
+    public DomBatchReader(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Read one map per row; missing cells are null
+     * @param rows Locator of the row elements (CSS, XPath, id, class name or tag name)
+     * @param columns Values to read from each row
+     * @return Rows in document order, keyed by column name in the order given
+     */
+    public List<Map<String, String>> readList(By rows, Column... columns) {
+        List<List<String>> columnArguments = new ArrayList<>();
+        for (Column column : columns) {
+            columnArguments.add(column.toScriptArgument());
+        }
+        String[] locator = parse(rows);
+        List<Map<String, String>> result = toRows(execute(READ_LIST_SCRIPT, locator[0], locator[1], columnArguments), columns);
+        logger.debug("Read {} rows x {} columns from {} in one call", result.size(), columns.length, rows);
+        return result;
+    }
+
+    /**
+     * Read an HTML table into one map per body row, keyed by header text
+     * Columns without a header are named column1, column2, ...
+     * @param table Locator of the table element
+     * @return Rows in document order, or an empty list if the table is not found
+     */
+    public List<Map<String, String>> readTable(By table) {
+        String[] locator = parse(table);
+        List<Map<String, String>> result = toRows(execute(READ_TABLE_SCRIPT, locator[0], locator[1]), null);
+        logger.debug("Read {} table rows from {} in one call", result.size(), table);
+        return result;
+    }
+
+    /**
+     * Read the visible text of every element matching the locator
+     * @param elements Element locator
+     * @return Texts in document order
+     */
+    public List<String> readTexts(By elements) {
+        String[] locator = parse(elements);
+        Object result = execute(READ_TEXTS_SCRIPT, locator[0], locator[1]);
+        List<String> texts = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object text : (List<?>) result) {
+                texts.add(text == null ? null : String.valueOf(text));
+            }
+        }
+        logger.debug("Read {} texts from {} in one call", texts.size(), elements);
+        return texts;
+    }
+
+    private Object execute(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    /**
+     * Convert the script result, keeping the requested column order when columns are given
+     */
+    private static List<Map<String, String>> toRows(Object result, Column[] columns) {
+        if (!(result instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (Object row : (List<?>) result) {
+            Map<?, ?> values = (Map<?, ?>) row;
+            Map<String, String> ordered = new LinkedHashMap<>();
+            if (columns != null) {
+                for (Column column : columns) {
+                    Object value = values.get(column.name);
+                    ordered.put(column.name, value == null ? null : String.valueOf(value));
+                }
+            } else {
+                values.forEach((key, value) -> ordered.put(String.valueOf(key), value == null ? null : String.valueOf(value)));
+            }
+            rows.add(ordered);
+        }
+        return rows;
+    }
+
+    /**
+     * Translate a standard locator into a CSS selector or XPath the script can evaluate
+     * @return {"css" or "xpath", expression}
+     * @throws IllegalArgumentException for link text and custom By implementations
+     */
+    private static String[] parse(By locator) {
+        LocatorParts parts = LocatorParts.of(locator);
+        String value = parts == null ? "" : parts.getValue();
+        switch (parts == null ? "" : parts.getStrategy()) {
+            case "cssSelector":
+                return new String[] {"css", value};
+            case "xpath":
+                return new String[] {"xpath", value};
+            case "id":
+                return new String[] {"xpath", "//*[@id=" + literal(value) + "]"};
+            case "name":
+                return new String[] {"xpath", "//*[@name=" + literal(value) + "]"};
+            case "className":
+                return new String[] {"xpath", "//*[contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + value + " ") + ")]"};
+            case "tagName":
+                return new String[] {"css", value};
+            default:
+                throw new IllegalArgumentException("Batch reads need a CSS, XPath, id, name, class or tag locator: " + locator);
+        }
+    }
+
+    /**
+     * Quote a value as an XPath string literal; XPath has no escapes, so a value holding both
+     * quote characters is built with concat()
+     * @param value Attribute value
+     * @return XPath expression evaluating to the value
+     */
+    static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+}
@@ -0,0 +1,173 @@
+package com.automation.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fail-fast support for pre-merge runs: failure-first ordering, a failure limit and time-to-first-failure
+ * Tests are ranked by their recent failure probability per second of runtime (RunHistoryStore), so
+ * the tests most likely to fail soonest start first. Once failfast.max.failures tests have failed the
+ * run is tripped; the framework hooks then skip the work that has not started and drain the session
+ * pool. The time from the start of the run to its first failure is logged in every run.
+ *
+ * Configured through ConfigReader: scheduler.priority.enabled (default false),
+ * failfast.max.failures (default 0, disabled)
+ */
+public final class FailFast {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailFast.class);
+    private static final long MIN_DURATION_MILLIS = 100;
+    private static final long DEFAULT_DURATION_MILLIS = 10000;
+
+    private static final AtomicInteger failures = new AtomicInteger();
+    private static final AtomicBoolean tripped = new AtomicBoolean();
+    private static volatile long startMillis = System.currentTimeMillis();
+    private static volatile long firstFailureMillis = -1;
+    private static volatile String firstFailure;
+
+    private FailFast() {
+    }
+
+    /**
+     * Check if tests are ordered by failure probability per second
+     * @return true if scheduler.priority.enabled=true
+     */
+    public static boolean isPriorityEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("scheduler.priority.enabled", false);
+    }
+
+    /**
+     * Get the number of failures that stops the run
+     * @return failfast.max.failures, 0 when fail-fast is off
+     */
+    public static int getMaxFailures() {
+        return Math.max(0, ConfigReader.getInstance().getIntProperty("failfast.max.failures", 0));
+    }
+
+    /**
+     * Start timing a run and clear the failures of a previous one
+     */
+    public static void start() {
+        startMillis = System.currentTimeMillis();
+        firstFailureMillis = -1;
+        firstFailure = null;
+        failures.set(0);
+        tripped.set(false);
+    }
+
+    /**
+     * Count a test failure
+     * @param testId Failed test
+     * @return true if this failure reached failfast.max.failures and tripped the run
+     */
+    public static boolean recordFailure(String testId) {
+        int failed = failures.incrementAndGet();
+        if (failed == 1) {
+            firstFailureMillis = System.currentTimeMillis();
+            firstFailure = testId;
+            logger.info("First failure after {}s: {}", seconds(firstFailureMillis - startMillis), testId);
+        }
+        int maxFailures = getMaxFailures();
+        if (maxFailures > 0 && failed >= maxFailures && tripped.compareAndSet(false, true)) {
+            logger.warn("Fail-fast: {} failure(s) reached, skipping the tests that have not started", failed);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if the run has stopped after reaching failfast.max.failures
+     * @return true once tripped
+     */
+    public static boolean isTripped() {
+        return tripped.get();
+    }
+
+    /**
+     * Rank a test: its failure probability per second of expected runtime
+     * @param history Run history
+     * @param testId Test id
+     * @param fallbackMillis Duration assumed for tests without recorded runs
+     * @return Priority, higher first
+     */
+    public static double priority(RunHistoryStore history, String testId, long fallbackMillis) {
+        return history.failureProbability(testId) / (expectedMillis(history, testId, fallbackMillis) / 1000.0);
+    }
+
+    /**
+     * Get a test's expected duration
+     * @param history Run history
+     * @param testId Test id
+     * @param fallbackMillis Duration assumed for tests without recorded runs
+     * @return Mean recorded duration, at least 100ms
+     */
+    public static long expectedMillis(RunHistoryStore history, String testId, long fallbackMillis) {
+        long average = history.getAverageDurationMillis(testId);
+        return Math.max(MIN_DURATION_MILLIS, average < 0 ? fallbackMillis : average);
+    }
+
+    /**
+     * Get the duration assumed for tests without recorded runs: the median of the tests that have some
+     * @param history Run history
+     * @param tests Tests about to run
+     * @param testId Test id of a test
+     * @return Median mean duration in milliseconds, or 10s when none of the tests has history
+     */
+    public static <T> long medianDuration(RunHistoryStore history, List<T> tests, Function<T, String> testId) {
+        List<Long> durations = new ArrayList<>();
+        for (T test : tests) {
+            long duration = history.getAverageDurationMillis(testId.apply(test));
+            if (duration >= 0) {
+                durations.add(duration);
+            }
+        }
+        if (durations.isEmpty()) {
+            return DEFAULT_DURATION_MILLIS;
+        }
+        Collections.sort(durations);
+        return durations.get(durations.size() / 2);
+    }
+
+    /**
+     * Estimate when the first failure shows up if the tests run one after another in the given order,
+     * treating failures as independent
+     * @param tests Tests in running order
+     * @param probability Failure probability of a test
+     * @param durationMillis Expected duration of a test
+     * @return Expected milliseconds until the first failing test finishes, counting a fully passing run as its total time
+     */
+    public static <T> long expectedTimeToFirstFailure(List<T> tests, ToDoubleFunction<T> probability, ToLongFunction<T> durationMillis) {
+        double expected = 0;
+        double allPassedSoFar = 1;
+        for (T test : tests) {
+            expected += allPassedSoFar * durationMillis.applyAsLong(test);
+            allPassedSoFar *= 1 - probability.applyAsDouble(test);
+        }
+        return Math.round(expected);
+    }
+
+    /**
+     * Log time-to-first-failure for the run
+     */
+    public static void logReport() {
+        if (firstFailureMillis < 0) {
+            logger.info("Time to first failure: no failures in {}s", seconds(System.currentTimeMillis() - startMillis));
+        } else {
+            logger.info("Time to first failure: {}s ({}); {} failure(s){}", seconds(firstFailureMillis - startMillis),
+                    firstFailure, failures.get(), tripped.get() ? ", remaining tests skipped by fail-fast" : "");
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+}
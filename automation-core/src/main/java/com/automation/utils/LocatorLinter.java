@@ -0,0 +1,411 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Scans page-object sources for locators and classifies what each one costs the browser to evaluate
+ * Picks up By.xxx("...") calls and @FindBy(xxx = "...") annotations with a literal value; locators
+ * built by string concatenation are skipped. XPaths that XPathToCss can translate come with the
+ * equivalent CSS; XPaths that match on text need an id or data-testid before CSS can replace them
+ * (LocatorBenchmark proposes one from a DOM snapshot).
+ *
+ * Usage: LocatorLinter [--report file.csv] [--fail-on=COST] sourceDir...
+ * Exits with status 1 when a locator costs at least the --fail-on level (e.g. INVALID).
+ */
+public final class LocatorLinter {
+
+    /**
+     * Locator cost classes, cheapest first
+     */
+    public enum Cost {
+        /** id, name or data-testid lookup */
+        ID,
+        /** Class, tag or other CSS selector */
+        CSS,
+        /** XPath on tags and attributes only; has a CSS equivalent */
+        XPATH_ATTRIBUTES,
+        /** XPath or link text matching on text content */
+        XPATH_TEXT,
+        /** XPath walking parent, ancestor or sibling axes */
+        XPATH_AXIS,
+        /** Not valid in the browser, e.g. jQuery's :contains() in a CSS selector */
+        INVALID
+    }
+
+    /**
+     * One locator found in the sources
+     */
+    public static final class Finding {
+        private final Path file;
+        private final int line;
+        private final String element;
+        private final String strategy;
+        private final String expression;
+        private final Cost cost;
+        private final String suggestion;
+        private final String note;
+
+        private Finding(Path file, int line, String element, String strategy, String expression,
+                        Cost cost, String suggestion, String note) {
+            this.file = file;
+            this.line = line;
+            this.element = element;
+            this.strategy = strategy;
+            this.expression = expression;
+            this.cost = cost;
+            this.suggestion = suggestion;
+            this.note = note;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        /** Field the locator is assigned to, or "-" when it is used inline */
+        public String getElement() {
+            return element;
+        }
+
+        /** Strategy as written: id, name, className, tagName, css, xpath, linkText or partialLinkText */
+        public String getStrategy() {
+            return strategy;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        public Cost getCost() {
+            return cost;
+        }
+
+        /** Equivalent CSS selector, or null when none is known */
+        public String getSuggestion() {
+            return suggestion;
+        }
+
+        /** Why the locator got its cost class, or null */
+        public String getNote() {
+            return note;
+        }
+
+        /**
+         * Locator as the browser evaluates it
+         * @return {"css" or "xpath", expression}
+         */
+        public String[] toQuery() {
+            switch (strategy) {
+                case "id":
+                    return new String[] {"css", "[id=" + quote(expression) + "]"};
+                case "name":
+                    return new String[] {"css", "[name=" + quote(expression) + "]"};
+                case "className":
+                    return new String[] {"css", "." + expression};
+                case "linkText":
+                    return new String[] {"xpath", "//a[normalize-space()=" + quote(expression) + "]"};
+                case "partialLinkText":
+                    return new String[] {"xpath", "//a[contains(., " + quote(expression) + ")]"};
+                case "xpath":
+                    return new String[] {"xpath", expression};
+                default:
+                    return new String[] {"css", expression};
+            }
+        }
+
+        /** file:line */
+        public String getLocation() {
+            return file + ":" + line;
+        }
+    }
+
+    private static final Pattern BY_CALL = Pattern.compile(
+            "By\\.(id|name|className|tagName|cssSelector|xpath|linkText|partialLinkText)\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+    private static final Pattern FIND_BY = Pattern.compile(
+            "@FindBy\\(\\s*(id|name|className|tagName|css|xpath|linkText|partialLinkText)\\s*=\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+    private static final Pattern ASSIGNED_FIELD = Pattern.compile("(\\w+)\\s*=\\s*(?:\\w+\\()?$");
+    private static final Pattern DECLARED_FIELD = Pattern.compile("\\s*(?:private|protected|public)[^=;(]*\\s(\\w+)\\s*;");
+
+    private static final Pattern TEST_ID_CSS = Pattern.compile("^(#[\\w-]+|\\[data-test(id)?=['\"][^'\"]+['\"]\\])$");
+    private static final Pattern JQUERY_PSEUDO = Pattern.compile(":(contains|eq|gt|lt|first|last|even|odd|visible|hidden)\\b(?!-)");
+    private static final Pattern XPATH_AXIS = Pattern.compile("(ancestor|parent|following|preceding)(-sibling)?::|/\\.\\.");
+    private static final Pattern XPATH_TEXT = Pattern.compile("text\\(\\)|normalize-space\\(\\s*\\)|\\(\\s*\\.\\s*[,)]|\\[\\s*\\.\\s*=|string\\(");
+
+    private LocatorLinter() {
+    }
+
+    /**
+     * Find and classify every literal locator in the Java sources under a directory
+     * @param sourceRoot Directory to scan recursively
+     * @return Findings in file and line order
+     * @throws IOException if a source file cannot be read
+     */
+    public static List<Finding> scan(Path sourceRoot) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(sourceRoot)) {
+            files = walk.filter(path -> path.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+        List<Finding> findings = new ArrayList<>();
+        for (Path file : files) {
+            String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            collect(file, source, BY_CALL, false, findings);
+            collect(file, source, FIND_BY, true, findings);
+        }
+        findings.sort(Comparator.comparing((Finding f) -> f.file.toString()).thenComparingInt(f -> f.line));
+        return findings;
+    }
+
+    /**
+     * Classify a single locator
+     * @param strategy id, name, className, tagName, css/cssSelector, xpath, linkText or partialLinkText
+     * @param expression Locator value
+     * @return Finding without a source location
+     */
+    public static Finding classify(String strategy, String expression) {
+        return classify(null, 0, "-", strategy, expression);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path report = null;
+        Cost failOn = null;
+        List<Path> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--report".equals(args[i]) && i + 1 < args.length) {
+                report = Paths.get(args[++i]);
+            } else if (args[i].startsWith("--fail-on=")) {
+                String level = args[i].substring("--fail-on=".length()).trim();
+                failOn = level.isEmpty() ? null : Cost.valueOf(level.toUpperCase(Locale.ROOT));
+            } else {
+                roots.add(Paths.get(args[i]));
+            }
+        }
+        if (roots.isEmpty()) {
+            System.err.println("Usage: LocatorLinter [--report file.csv] [--fail-on=COST] sourceDir...");
+            System.exit(2);
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        for (Path root : roots) {
+            findings.addAll(scan(root));
+        }
+        print(findings);
+        if (report != null) {
+            writeCsv(findings, report);
+            System.out.printf("Report written to %s%n", report);
+        }
+
+        if (failOn != null) {
+            Cost threshold = failOn;
+            long failing = findings.stream().filter(f -> f.cost.compareTo(threshold) >= 0).count();
+            if (failing > 0) {
+                System.err.printf("%d locator(s) cost %s or more%n", failing, threshold);
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Print findings grouped by cost, most expensive first, followed by a count per cost class
+     * @param findings Findings to print
+     */
+    public static void print(List<Finding> findings) {
+        Map<Cost, List<Finding>> byCost = new EnumMap<>(Cost.class);
+        for (Finding finding : findings) {
+            byCost.computeIfAbsent(finding.cost, c -> new ArrayList<>()).add(finding);
+        }
+        List<Cost> costs = new ArrayList<>(Arrays.asList(Cost.values()));
+        costs.sort(Comparator.reverseOrder());
+        for (Cost cost : costs) {
+            List<Finding> group = byCost.get(cost);
+            if (group == null || cost == Cost.ID || cost == Cost.CSS) {
+                continue;
+            }
+            System.out.printf("%n%s (%d)%n", cost, group.size());
+            for (Finding finding : group) {
+                System.out.printf("  %s %s%n    %s: %s%n", finding.getLocation(), finding.element, finding.strategy, finding.expression);
+                if (finding.suggestion != null) {
+                    System.out.printf("    suggest: %s%n", finding.suggestion);
+                }
+                if (finding.note != null) {
+                    System.out.printf("    note: %s%n", finding.note);
+                }
+            }
+        }
+        System.out.printf("%nLocators: %d%n", findings.size());
+        for (Cost cost : Cost.values()) {
+            System.out.printf("  %-17s %d%n", cost, byCost.getOrDefault(cost, new ArrayList<>()).size());
+        }
+    }
+
+    /**
+     * Write findings as CSV: location,element,strategy,expression,cost,suggestion,note
+     * @param findings Findings to write
+     * @param report Output file
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeCsv(List<Finding> findings, Path report) throws IOException {
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            writer.println("location,element,strategy,expression,cost,suggestion,note");
+            for (Finding f : findings) {
+                writer.println(String.join(",", csv(f.getLocation()), csv(f.element), f.strategy, csv(f.expression),
+                        f.cost.name(), csv(f.suggestion), csv(f.note)));
+            }
+        }
+    }
+
+    private static void collect(Path file, String source, Pattern pattern, boolean annotation, List<Finding> findings) {
+        Matcher matcher = pattern.matcher(source);
+        while (matcher.find()) {
+            int line = 1;
+            for (int i = 0; i < matcher.start(); i++) {
+                if (source.charAt(i) == '\n') {
+                    line++;
+                }
+            }
+            String element = annotation ? annotatedField(source, matcher.end()) : assignedField(source, matcher.start());
+            findings.add(classify(file, line, element, matcher.group(1), unescape(matcher.group(2))));
+        }
+    }
+
+    private static Finding classify(Path file, int line, String element, String strategy, String expression) {
+        String normalized = "css".equals(strategy) ? "cssSelector" : strategy;
+        switch (normalized) {
+            case "id":
+            case "name":
+                return new Finding(file, line, element, strategy, expression, Cost.ID, null, null);
+            case "className":
+            case "tagName":
+                return new Finding(file, line, element, strategy, expression, Cost.CSS, null, null);
+            case "linkText":
+            case "partialLinkText":
+                return new Finding(file, line, element, strategy, expression, Cost.XPATH_TEXT, null,
+                        "link text is evaluated as an XPath over every anchor");
+            case "cssSelector":
+                return classifyCss(file, line, element, strategy, expression);
+            default:
+                return classifyXPath(file, line, element, strategy, expression);
+        }
+    }
+
+    private static Finding classifyCss(Path file, int line, String element, String strategy, String css) {
+        Matcher pseudo = JQUERY_PSEUDO.matcher(css);
+        if (pseudo.find()) {
+            List<String> valid = splitTopLevel(css).stream()
+                    .filter(part -> !JQUERY_PSEUDO.matcher(part).find())
+                    .collect(Collectors.toList());
+            return new Finding(file, line, element, strategy, css, Cost.INVALID,
+                    valid.isEmpty() ? null : String.join(", ", valid),
+                    ":" + pseudo.group(1) + "() is jQuery syntax; the browser rejects the whole selector list");
+        }
+        if (TEST_ID_CSS.matcher(css.trim()).matches()) {
+            return new Finding(file, line, element, strategy, css, Cost.ID, null, null);
+        }
+        int alternatives = splitTopLevel(css).size();
+        return new Finding(file, line, element, strategy, css, Cost.CSS, null,
+                alternatives > 1 ? alternatives + " selectors in one list" : null);
+    }
+
+    private static Finding classifyXPath(Path file, int line, String element, String strategy, String xpath) {
+        if (XPATH_AXIS.matcher(xpath).find()) {
+            return new Finding(file, line, element, strategy, xpath, Cost.XPATH_AXIS, null,
+                    "walks up or across the tree; anchor on an id or data-testid instead");
+        }
+        if (XPATH_TEXT.matcher(xpath).find()) {
+            return new Finding(file, line, element, strategy, xpath, Cost.XPATH_TEXT, null,
+                    "matches on text content; CSS needs an id or data-testid on the element");
+        }
+        // A relative .//step searched from a parent element matches the same descendants as the CSS does
+        boolean relative = xpath.startsWith(".//");
+        String css = XPathToCss.convert(relative ? xpath.substring(1) : xpath);
+        String note = css == null ? "no CSS equivalent (positional or function predicate)"
+                : relative ? "relative to the parent element" : null;
+        return new Finding(file, line, element, strategy, xpath, Cost.XPATH_ATTRIBUTES, css, note);
+    }
+
+    /**
+     * Name of the field a By is assigned to on the same line
+     */
+    private static String assignedField(String source, int start) {
+        int lineStart = source.lastIndexOf('\n', start - 1) + 1;
+        Matcher matcher = ASSIGNED_FIELD.matcher(source.substring(lineStart, start).trim());
+        return matcher.find() ? matcher.group(1) : "-";
+    }
+
+    /**
+     * Name of the field declared after an @FindBy annotation
+     */
+    private static String annotatedField(String source, int end) {
+        Matcher matcher = DECLARED_FIELD.matcher(source);
+        return matcher.find(end) ? matcher.group(1) : "-";
+    }
+
+    private static List<String> splitTopLevel(String css) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == ']') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(css.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        parts.add(css.substring(start).trim());
+        return parts;
+    }
+
+    private static String unescape(String literal) {
+        StringBuilder value = new StringBuilder(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '\\' && i + 1 < literal.length()) {
+                char next = literal.charAt(++i);
+                value.append(next == 'n' ? '\n' : next == 't' ? '\t' : next);
+            } else {
+                value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    private static String quote(String value) {
+        return value.contains("'") ? "\"" + value + "\"" : "'" + value + "'";
+    }
+
+    private static String csv(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
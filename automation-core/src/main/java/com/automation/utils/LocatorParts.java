@@ -0,0 +1,49 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Strategy and value of a standard Selenium locator
+ * Selenium exposes neither for the built-in By implementations, so they are read from By.toString(),
+ * which has the form "By.cssSelector: value". This is the only place that relies on that format.
+ */
+public final class LocatorParts {
+
+    private static final Pattern FORMAT = Pattern.compile("By\\.([A-Za-z]+): (.*)", Pattern.DOTALL);
+
+    private final String strategy;
+    private final String value;
+
+    private LocatorParts(String strategy, String value) {
+        this.strategy = strategy;
+        this.value = value;
+    }
+
+    /**
+     * Split a locator into its strategy and value
+     * @param locator Element locator
+     * @return Parts, or null for custom, composite (ByAll, ByChained) and unrecognised locators
+     */
+    public static LocatorParts of(By locator) {
+        if (locator == null) {
+            return null;
+        }
+        Matcher matcher = FORMAT.matcher(locator.toString());
+        return matcher.matches() ? new LocatorParts(matcher.group(1), matcher.group(2)) : null;
+    }
+
+    /**
+     * Get the strategy as named by the By factory method
+     * @return cssSelector, xpath, id, name, className, tagName, linkText or partialLinkText
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
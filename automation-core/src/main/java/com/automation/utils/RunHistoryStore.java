@@ -0,0 +1,514 @@
+package com.automation.utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only history of test outcomes and the flakiness scores computed from it
+ * Each run appends one record per test (id, time, outcome, duration) to a small binary log on local
+ * disk. Forks append under an exclusive file lock, and the log is compacted to the last flaky.window
+ * runs per test once it holds twice that. A test's flakiness is the share of flips between pass and
+ * fail, counting both consecutive recorded runs that flipped and runs that failed and then passed on
+ * retry: a test that always fails scores 0, one that alternates scores 1, and one that passes on retry
+ * in every run scores about 0.5. Skipped runs are ignored, and tests with fewer than flaky.min.runs
+ * runs score 0.
+ *
+ * Tests listed with "isFlaky": true in flaky.known.file (the testData.json format) count as flaky
+ * whatever their history. After each append the scores are written to flaky.report.file in the same
+ * format.
+ *
+ * Configured through ConfigReader: flaky.history.enabled (default true), flaky.history.file
+ * (default build/test-history/run-history.bin), flaky.window (default 20), flaky.min.runs
+ * (default 5), flaky.threshold (default 0.2), flaky.known.file (optional), flaky.report.file
+ * (default build/test-history/flakiness.json, empty to skip)
+ */
+public final class RunHistoryStore {
+
+    /**
+     * Outcome of one test in one run
+     * RETRIED is recorded for an attempt that failed and was run again; a run whose retried attempts
+     * end in a pass is stored as PASSED_ON_RETRY, otherwise as FAILED
+     */
+    public enum Outcome { PASSED, FAILED, SKIPPED, RETRIED, PASSED_ON_RETRY }
+
+    private static final Logger logger = LoggerFactory.getLogger(RunHistoryStore.class);
+    private static final int MAGIC = 0x52484931;
+    private static final String DEFAULT_HISTORY_FILE = "build/test-history/run-history.bin";
+    private static final String DEFAULT_REPORT_FILE = "build/test-history/flakiness.json";
+    private static final double RECENCY_DECAY = 0.8;
+
+    private static final Map<String, Run> pending = new ConcurrentHashMap<>();
+    private static volatile RunHistoryStore instance;
+
+    private final Map<String, List<Run>> runs = new TreeMap<>();
+    private final Set<String> knownFlaky;
+    private final int window;
+    private final int minRuns;
+    private final double threshold;
+    private long records;
+
+    private RunHistoryStore(Set<String> knownFlaky) {
+        ConfigReader config = ConfigReader.getInstance();
+        this.knownFlaky = knownFlaky;
+        this.window = Math.max(2, config.getIntProperty("flaky.window", 20));
+        this.minRuns = Math.max(2, config.getIntProperty("flaky.min.runs", 5));
+        this.threshold = Double.parseDouble(config.getProperty("flaky.threshold", "0.2"));
+    }
+
+    /**
+     * Check if run history is recorded
+     * @return true unless flaky.history.enabled=false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("flaky.history.enabled", true);
+    }
+
+    /**
+     * Get the history as of the last append, loaded once
+     * @return Store with the recorded runs; empty when the log is missing or unreadable
+     */
+    public static RunHistoryStore getInstance() {
+        RunHistoryStore loaded = instance;
+        if (loaded == null) {
+            synchronized (RunHistoryStore.class) {
+                loaded = instance;
+                if (loaded == null) {
+                    loaded = new RunHistoryStore(readKnownFlaky());
+                    try (FileChannel channel = FileChannel.open(historyPath(), StandardOpenOption.READ)) {
+                        loaded.read(channel);
+                    } catch (IOException e) {
+                        logger.debug("No run history read from {}: {}", historyPath(), e.getMessage());
+                    }
+                    instance = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Buffer a test outcome until the next flush
+     * Outcomes of one test within a run are combined: any final failure makes it a failed run, retried
+     * attempts followed by a pass make it a pass on retry, and invocation durations are summed
+     * @param testId Test id: class#method for TestNG, Feature.feature:line for cucumber scenarios
+     * @param outcome Outcome of the invocation
+     * @param durationMillis Invocation duration
+     */
+    public static void record(String testId, Outcome outcome, long durationMillis) {
+        if (!isEnabled()) {
+            return;
+        }
+        Run run = new Run(System.currentTimeMillis(), outcome, (int) Math.min(Integer.MAX_VALUE, Math.max(0, durationMillis)));
+        pending.merge(testId, run, Run::combine);
+    }
+
+    /**
+     * Append the buffered outcomes to the history log and refresh the flakiness report
+     */
+    public static void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Run> appended = new TreeMap<>();
+        for (String testId : new ArrayList<>(pending.keySet())) {
+            Run run = pending.remove(testId);
+            if (run != null) {
+                appended.put(testId, run.settled());
+            }
+        }
+        Path historyPath = historyPath();
+        try {
+            Files.createDirectories(historyPath.toAbsolutePath().getParent());
+            Path lockPath = historyPath.resolveSibling(historyPath.getFileName() + ".lock");
+            RunHistoryStore store = new RunHistoryStore(readKnownFlaky());
+            try (FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = lockChannel.lock();
+                 FileChannel channel = FileChannel.open(historyPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                         StandardOpenOption.WRITE)) {
+                long end = store.read(channel);
+                // Drop a record torn by a killed fork so the appended ones stay aligned
+                channel.truncate(end);
+                channel.position(end);
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (DataOutputStream output = new DataOutputStream(bytes)) {
+                    if (end == 0) {
+                        output.writeInt(MAGIC);
+                    }
+                    for (Map.Entry<String, Run> entry : appended.entrySet()) {
+                        entry.getValue().write(output, entry.getKey());
+                        store.add(entry.getKey(), entry.getValue());
+                    }
+                }
+                channel.write(ByteBuffer.wrap(bytes.toByteArray()));
+                channel.force(false);
+
+                if (store.records > 2L * store.window * Math.max(1, store.runs.size())) {
+                    store.compact(historyPath);
+                }
+            }
+            instance = store;
+            logger.info("Run history updated with {} tests: {}", appended.size(), historyPath);
+            store.writeReport();
+        } catch (IOException e) {
+            logger.warn("Could not update run history {}: {}", historyPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Flakiness score of a test
+     * A run that passed on retry flipped within itself, so it adds one flip and one comparison on top
+     * of the comparisons between consecutive runs, where it counts as passed
+     * @param testId Test id
+     * @return Share of pass/fail comparisons that flipped, 0 with fewer than flaky.min.runs runs
+     */
+    public double flakiness(String testId) {
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Run run : runs.getOrDefault(testId, Collections.emptyList())) {
+            if (run.outcome != Outcome.SKIPPED) {
+                outcomes.add(run.outcome);
+            }
+        }
+        if (outcomes.size() < minRuns) {
+            return 0;
+        }
+        int flips = 0;
+        int passedOnRetry = 0;
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i) == Outcome.PASSED_ON_RETRY) {
+                passedOnRetry++;
+            }
+            if (i > 0 && (outcomes.get(i) == Outcome.FAILED) != (outcomes.get(i - 1) == Outcome.FAILED)) {
+                flips++;
+            }
+        }
+        return (double) (flips + passedOnRetry) / (outcomes.size() - 1 + passedOnRetry);
+    }
+
+    /**
+     * Check if a test is flaky: listed as flaky in flaky.known.file or scoring at least flaky.threshold
+     * @param testId Test id
+     * @return true if the test is flaky
+     */
+    public boolean isFlaky(String testId) {
+        return isKnownFlaky(testId) || (runs.containsKey(testId) && flakiness(testId) >= threshold);
+    }
+
+    /**
+     * Get every flaky test with recorded history
+     * @return Test ids
+     */
+    public Set<String> getFlakyTests() {
+        Set<String> flaky = new TreeSet<>();
+        for (String testId : runs.keySet()) {
+            if (isFlaky(testId)) {
+                flaky.add(testId);
+            }
+        }
+        return flaky;
+    }
+
+    /**
+     * Get the number of recorded runs of a test within the window
+     * @param testId Test id
+     * @return Recorded runs, skipped ones included
+     */
+    public int getRunCount(String testId) {
+        return runs.getOrDefault(testId, Collections.emptyList()).size();
+    }
+
+    /**
+     * Estimate how likely a test is to fail in the next run from its recent runs
+     * Runs are weighted by recency (each older run counts 0.8 of the next one) and the estimate is
+     * smoothed towards 1/2, so tests without history rank as likely to fail as not. A run that passed
+     * on retry did not fail
+     * @param testId Test id
+     * @return Failure probability between 0 and 1
+     */
+    public double failureProbability(String testId) {
+        List<Run> history = runs.getOrDefault(testId, Collections.emptyList());
+        double weight = 1;
+        double failed = 0;
+        double total = 0;
+        for (int i = history.size() - 1; i >= 0; i--) {
+            Outcome outcome = history.get(i).outcome;
+            if (outcome != Outcome.SKIPPED) {
+                failed += outcome == Outcome.FAILED ? weight : 0;
+                total += weight;
+                weight *= RECENCY_DECAY;
+            }
+        }
+        return (failed + 1) / (total + 2);
+    }
+
+    /**
+     * Get a test's mean duration over its recorded runs
+     * @param testId Test id
+     * @return Mean duration in milliseconds of the runs that were not skipped, or -1 without any
+     */
+    public long getAverageDurationMillis(String testId) {
+        long total = 0;
+        int counted = 0;
+        for (Run run : runs.getOrDefault(testId, Collections.emptyList())) {
+            if (run.outcome != Outcome.SKIPPED) {
+                total += run.durationMillis;
+                counted++;
+            }
+        }
+        return counted == 0 ? -1 : total / counted;
+    }
+
+    /**
+     * Get how many of a test's most recent runs failed in a row; a run counts as failed only when its
+     * final attempt failed, so a pass on retry ends the streak
+     * @param testId Test id
+     * @return Consecutive failed runs up to the latest, skipped runs ignored
+     */
+    public int getConsecutiveFailures(String testId) {
+        List<Run> history = runs.getOrDefault(testId, Collections.emptyList());
+        int failures = 0;
+        for (int i = history.size() - 1; i >= 0; i--) {
+            Outcome outcome = history.get(i).outcome;
+            if (outcome == Outcome.FAILED) {
+                failures++;
+            } else if (outcome != Outcome.SKIPPED) {
+                break;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Known flaky entries name the test id, class#method with the simple class name, or the method alone
+     */
+    private boolean isKnownFlaky(String testId) {
+        if (knownFlaky.contains(testId)) {
+            return true;
+        }
+        int hash = testId.indexOf('#');
+        if (hash < 0) {
+            return false;
+        }
+        String className = testId.substring(0, hash);
+        return knownFlaky.contains(className.substring(className.lastIndexOf('.') + 1) + testId.substring(hash))
+                || knownFlaky.contains(testId.substring(hash + 1));
+    }
+
+    private void add(String testId, Run run) {
+        List<Run> history = runs.computeIfAbsent(testId, k -> new ArrayList<>());
+        history.add(run);
+        if (history.size() > window) {
+            history.remove(0);
+        }
+        records++;
+    }
+
+    /**
+     * Read the log from the start
+     * @return Position after the last complete record
+     */
+    private long read(FileChannel channel) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+        channel.position(0);
+        while (content.hasRemaining() && channel.read(content) >= 0) {
+            // Read the whole log; it stays small through compaction
+        }
+        ByteArrayInputStream bytes = new ByteArrayInputStream(content.array(), 0, content.position());
+        DataInputStream input = new DataInputStream(bytes);
+        long end = 0;
+        try {
+            if (input.readInt() != MAGIC) {
+                logger.warn("Ignoring run history {}: not a run history file", historyPath());
+                return 0;
+            }
+            end = Integer.BYTES;
+            while (true) {
+                String testId = input.readUTF();
+                Run run = new Run(input.readLong(), Outcome.values()[input.readByte()], input.readInt());
+                add(testId, run);
+                end = content.position() - bytes.available();
+            }
+        } catch (EOFException e) {
+            return end;
+        } catch (UTFDataFormatException | ArrayIndexOutOfBoundsException e) {
+            logger.warn("Run history {} is corrupt after {} bytes, keeping the records before", historyPath(), end);
+            return end;
+        }
+    }
+
+    /**
+     * Rewrite the log with the runs still inside the window; called under the history lock
+     */
+    private void compact(Path historyPath) throws IOException {
+        Path tempPath = historyPath.resolveSibling(historyPath.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(tempPath))) {
+            output.writeInt(MAGIC);
+            for (Map.Entry<String, List<Run>> entry : runs.entrySet()) {
+                for (Run run : entry.getValue()) {
+                    run.write(output, entry.getKey());
+                }
+            }
+        }
+        Files.move(tempPath, historyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = runs.values().stream().mapToInt(List::size).sum();
+        logger.info("Run history compacted to {} records", records);
+    }
+
+    /**
+     * Write the scores in the testData.json format, replaced atomically
+     */
+    private void writeReport() {
+        String configured = ConfigReader.getInstance().getProperty("flaky.report.file", DEFAULT_REPORT_FILE);
+        if (configured.trim().isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> testCases = new ArrayList<>();
+        runs.forEach((testId, history) -> {
+            Map<String, Object> testCase = new LinkedHashMap<>();
+            testCase.put("testCase", testId);
+            testCase.put("testCaseFilePath", sourcePath(testId));
+            testCase.put("isFlaky", isFlaky(testId));
+            testCase.put("result", resultName(history.get(history.size() - 1).outcome));
+            testCase.put("flakiness", Math.round(flakiness(testId) * 100) / 100.0);
+            testCase.put("runs", history.size());
+            testCase.put("passedOnRetry", history.stream().filter(run -> run.outcome == Outcome.PASSED_ON_RETRY).count());
+            testCases.add(testCase);
+        });
+        Path report = Paths.get(configured.trim());
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Path tempPath = report.resolveSibling(report.getFileName() + ".tmp");
+            Files.writeString(tempPath, new Json().toJson(Collections.singletonMap("testCases", testCases)), StandardCharsets.UTF_8);
+            Files.move(tempPath, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write flakiness report {}: {}", report, e.getMessage());
+        }
+    }
+
+    private static Set<String> readKnownFlaky() {
+        Set<String> known = new HashSet<>();
+        String configured = ConfigReader.getInstance().getProperty("flaky.known.file");
+        if (configured == null || configured.trim().isEmpty()) {
+            return known;
+        }
+        Path file = Paths.get(configured.trim());
+        try {
+            Map<String, Object> data = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Object testCases = data.get("testCases");
+            if (testCases instanceof List) {
+                for (Object entry : (List<?>) testCases) {
+                    if (entry instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) entry).get("isFlaky"))) {
+                        known.add(String.valueOf(((Map<?, ?>) entry).get("testCase")));
+                    }
+                }
+            }
+        } catch (IOException | JsonException e) {
+            logger.warn("Could not read known flaky tests from {}: {}", file, e.getMessage());
+        }
+        return known;
+    }
+
+    private static String sourcePath(String testId) {
+        int hash = testId.indexOf('#');
+        if (hash > 0) {
+            return testId.substring(0, hash).replace('.', '/') + ".java";
+        }
+        int line = testId.lastIndexOf(':');
+        return line > 0 ? testId.substring(0, line) : testId;
+    }
+
+    private static String resultName(Outcome outcome) {
+        switch (outcome) {
+            case PASSED:
+            case PASSED_ON_RETRY:
+                return "Passed";
+            case FAILED:
+                return "Failed";
+            default:
+                return "Skipped";
+        }
+    }
+
+    private static Path historyPath() {
+        return Paths.get(ConfigReader.getInstance().getProperty("flaky.history.file", DEFAULT_HISTORY_FILE));
+    }
+
+    /**
+     * One test in one run
+     */
+    private static final class Run {
+        private final long time;
+        private final Outcome outcome;
+        private final int durationMillis;
+
+        private Run(long time, Outcome outcome, int durationMillis) {
+            this.time = time;
+            this.outcome = outcome;
+            this.durationMillis = durationMillis;
+        }
+
+        private static Run combine(Run first, Run second) {
+            Outcome outcome;
+            if (first.outcome == Outcome.FAILED || second.outcome == Outcome.FAILED) {
+                outcome = Outcome.FAILED;
+            } else {
+                boolean retried = first.isRetried() || second.isRetried();
+                boolean passed = first.isPassed() || second.isPassed();
+                outcome = retried ? (passed ? Outcome.PASSED_ON_RETRY : Outcome.RETRIED)
+                        : passed ? Outcome.PASSED : Outcome.SKIPPED;
+            }
+            return new Run(Math.max(first.time, second.time), outcome,
+                    (int) Math.min(Integer.MAX_VALUE, (long) first.durationMillis + second.durationMillis));
+        }
+
+        /**
+         * The run as stored: retried attempts that never passed make a failed run
+         */
+        private Run settled() {
+            return outcome == Outcome.RETRIED ? new Run(time, Outcome.FAILED, durationMillis) : this;
+        }
+
+        private boolean isRetried() {
+            return outcome == Outcome.RETRIED || outcome == Outcome.PASSED_ON_RETRY;
+        }
+
+        private boolean isPassed() {
+            return outcome == Outcome.PASSED || outcome == Outcome.PASSED_ON_RETRY;
+        }
+
+        private void write(DataOutputStream output, String testId) throws IOException {
+            output.writeUTF(testId);
+            output.writeLong(time);
+            output.writeByte(outcome.ordinal());
+            output.writeInt(durationMillis);
+        }
+    }
+}
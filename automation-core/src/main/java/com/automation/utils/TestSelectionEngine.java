@@ -0,0 +1,872 @@
+package com.automation.utils;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Selects the TestNG test classes and cucumber features a change can affect
+ * Test classes are linked to the page objects they reference, and features to the step definitions
+ * their steps match plus every business layer and screen those reach; both links are read from the
+ * sources. The impact map (test-impact.properties) links pages and screens to the client code and API
+ * routes they exercise; changed lines in a route file are mapped to the route declared on or above them.
+ * When coverage indexes recorded by CoverageRecorder are configured, the tests and scenarios recorded
+ * touching a changed client module or route are selected as well, and a path the index covers no longer
+ * needs a rule of its own.
+ * Shared framework code, build files and any path no rule covers select everything, so the selection
+ * only ever errs towards running more.
+ *
+ * The selected classes are written as a copy of the base TestNG suite trimmed to those classes, the
+ * selected features as a list of feature paths for cucumber.features. The summary gives the selection
+ * ratio and the TestNG time saved, estimated from the durations DurationBalancingInterceptor records.
+ *
+ * Usage: TestSelectionEngine [--base rev | --diff file.patch] [--root dir] [--map test-impact.properties]
+ *        [--suite testng.xml] [--out selected.xml] [--features-out features.txt] [--report file.csv]
+ *        [--history durations.properties]
+ * Without --diff the change is git diff against --base (default HEAD) plus untracked files.
+ */
+public final class TestSelectionEngine {
+
+    private static final Pattern DIFF_HEADER = Pattern.compile("^diff --git a/(.+) b/(.+)$");
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final Pattern ROUTE = Pattern.compile("['\"`](/api(?:/[^'\"`?$]*)?)");
+    private static final Pattern PACKAGE = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    private static final Pattern TEST_ANNOTATION = Pattern.compile("@Test\\b");
+    private static final Pattern TYPE_NAME = Pattern.compile("\\b[A-Z]\\w*\\b");
+    private static final Pattern COMMENT_OR_LITERAL = Pattern.compile("\"(?:[^\"\\\\\\n]|\\\\.)*\"|//[^\\n]*|(?s)/\\*.*?\\*/");
+    private static final Pattern STEP_DEFINITION = Pattern.compile("@(?:Given|When|Then|And|But)\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern FEATURE_STEP = Pattern.compile("^\\s*(?:Given|When|Then|And|But|\\*)\\s+(.+?)\\s*$");
+    private static final Pattern EXPRESSION_PART = Pattern.compile("\\{(\\w*)}|\\(([^)]*)\\)");
+    private static final String PLACEHOLDER = "|<[^>]+>";
+
+    /**
+     * One changed file and the lines changed in it
+     */
+    public static final class Change {
+        private final String path;
+        private final Set<Integer> lines = new TreeSet<>();
+        private boolean deleted;
+
+        public Change(String path) {
+            this.path = path;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /** Changed line numbers in the new version of the file; empty for whole-file changes */
+        public Set<Integer> getLines() {
+            return lines;
+        }
+
+        public boolean isDeleted() {
+            return deleted;
+        }
+    }
+
+    /**
+     * Selected tests and features, each with the reason it was selected
+     */
+    public static final class Selection {
+        private final Map<String, String> tests = new TreeMap<>();
+        private final Map<String, String> features = new TreeMap<>();
+        private String fullRun;
+        private int changes;
+        private int ignored;
+
+        /** Selected test classes (fully qualified) and why */
+        public Map<String, String> getTests() {
+            return tests;
+        }
+
+        /** Selected feature file names and why */
+        public Map<String, String> getFeatures() {
+            return features;
+        }
+
+        /** Why every test was selected, or null for a partial selection */
+        public String getFullRun() {
+            return fullRun;
+        }
+    }
+
+    private static final class TestSource {
+        private final String className;
+        private final int methods;
+        private final Set<String> types;
+
+        private TestSource(String className, int methods, Set<String> types) {
+            this.className = className;
+            this.methods = methods;
+            this.types = types;
+        }
+    }
+
+    private static final class Area {
+        private final String name;
+        private final List<PathMatcher> sources;
+        private final List<String> routes;
+        private final Set<String> pages;
+        private final Set<String> tests;
+
+        private Area(String name, List<PathMatcher> sources, List<String> routes, Set<String> pages, Set<String> tests) {
+            this.name = name;
+            this.sources = sources;
+            this.routes = routes;
+            this.pages = pages;
+            this.tests = tests;
+        }
+    }
+
+    private final Path root;
+    private final String testsDir;
+    private final String pagesDir;
+    private final String cucumberDir;
+    private final String featuresDir;
+    private final Set<String> routeFiles;
+    private final List<PathMatcher> fullRun;
+    private final List<PathMatcher> ignore;
+    private final List<String> safety;
+    private final List<Area> areas = new ArrayList<>();
+    private final List<CoverageIndex> coverage = new ArrayList<>();
+
+    private final Map<String, TestSource> tests = new TreeMap<>();
+    private final Map<String, Path> featureFiles = new TreeMap<>();
+    private final Map<String, Set<String>> featureClasses = new HashMap<>();
+
+    private TestSelectionEngine(Path root, Properties map) throws IOException {
+        this.root = root;
+        this.testsDir = map.getProperty("selection.tests.dir", "testng-automation/src/test/java/com/automation/tests");
+        this.pagesDir = map.getProperty("selection.pages.dir", "testng-automation/src/main/java/com/automation/pages");
+        this.cucumberDir = map.getProperty("selection.cucumber.dir", "cucumber-automation/src/test/java/com/automation");
+        this.featuresDir = map.getProperty("selection.features.dir", "cucumber-automation/src/test/resources/features");
+        this.routeFiles = new HashSet<>(list(map.getProperty("selection.route.files")));
+        this.fullRun = globs(list(map.getProperty("selection.full.run")));
+        this.ignore = globs(list(map.getProperty("selection.ignore")));
+        this.safety = list(map.getProperty("selection.safety"));
+        for (String index : list(map.getProperty("selection.coverage.index"))) {
+            coverage.add(CoverageIndex.load(root.resolve(index)));
+        }
+
+        Set<String> areaNames = new TreeSet<>();
+        for (String key : map.stringPropertyNames()) {
+            if (key.startsWith("area.") && key.indexOf('.', 5) > 0) {
+                areaNames.add(key.substring(5, key.indexOf('.', 5)));
+            }
+        }
+        for (String name : areaNames) {
+            String prefix = "area." + name + ".";
+            areas.add(new Area(name, globs(list(map.getProperty(prefix + "sources"))), list(map.getProperty(prefix + "routes")),
+                    new HashSet<>(list(map.getProperty(prefix + "pages"))), new HashSet<>(list(map.getProperty(prefix + "tests")))));
+        }
+
+        loadTests();
+        loadFeatures();
+    }
+
+    /**
+     * Load the impact map and read the test, page, glue and feature sources it points to
+     * @param root Repository root; paths in the map are relative to it
+     * @param mapFile Impact map properties file
+     * @return Engine ready to select
+     * @throws IOException if the map or a source cannot be read
+     */
+    public static TestSelectionEngine load(Path root, Path mapFile) throws IOException {
+        Properties map = new Properties();
+        try (InputStream input = Files.newInputStream(mapFile)) {
+            map.load(input);
+        }
+        return new TestSelectionEngine(root, map);
+    }
+
+    /**
+     * Select the tests and features the changes can affect, plus the safety set
+     * @param changes Changed files
+     * @return Selection with a reason per entry
+     */
+    public Selection select(List<Change> changes) {
+        Selection selection = new Selection();
+        selection.changes = changes.size();
+        for (Change change : changes) {
+            String path = change.path;
+            if (matches(ignore, path)) {
+                selection.ignored++;
+            } else if (matches(fullRun, path)) {
+                fullRun(selection, path + " is shared by all tests");
+            } else if (path.endsWith(".java") && (path.startsWith(testsDir + "/") || path.startsWith(pagesDir + "/"))) {
+                javaChanged(selection, path);
+            } else if (path.endsWith(".java") && path.startsWith(cucumberDir + "/")) {
+                String name = simpleName(path);
+                featureClasses.forEach((feature, classes) -> {
+                    if (classes.contains(name)) {
+                        selection.features.putIfAbsent(feature, path + " changed");
+                    }
+                });
+            } else if (path.endsWith(".feature") && path.startsWith(featuresDir + "/")) {
+                String feature = Paths.get(path).getFileName().toString();
+                if (featureFiles.containsKey(feature)) {
+                    selection.features.putIfAbsent(feature, "feature changed");
+                }
+            } else if (routeFiles.contains(path)) {
+                routesChanged(selection, change);
+            } else {
+                List<Area> matched = areas.stream().filter(area -> matches(area.sources, path)).collect(Collectors.toList());
+                boolean covered = coverageChanged(selection, path::equals, path + " changed");
+                if (matched.isEmpty() && !covered) {
+                    fullRun(selection, "no impact rule for " + path);
+                }
+                matched.forEach(area -> areaChanged(selection, area, path + " changed"));
+            }
+        }
+
+        for (String entry : safety) {
+            if (entry.endsWith(".feature")) {
+                if (featureFiles.containsKey(entry)) {
+                    selection.features.putIfAbsent(entry, "safety set");
+                }
+            } else if (tests.containsKey(entry)) {
+                selection.tests.putIfAbsent(tests.get(entry).className, "safety set");
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * Write the base suite trimmed to the selected classes; package entries become the selected classes
+     * in the package and tests left without classes are dropped. A full run copies the suite unchanged.
+     * @param selection Selection to write
+     * @param baseSuite TestNG suite to trim
+     * @param output Trimmed suite file
+     * @throws Exception if the suite cannot be read or written
+     */
+    public void writeSuite(Selection selection, Path baseSuite, Path output) throws Exception {
+        createParent(output);
+        if (selection.fullRun != null) {
+            Files.copy(baseSuite, output, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        Document document = factory.newDocumentBuilder().parse(baseSuite.toFile());
+
+        for (Element test : elements(document.getDocumentElement(), "test")) {
+            for (Element testClass : elements(test, "class")) {
+                if (!selection.tests.containsKey(testClass.getAttribute("name"))) {
+                    testClass.getParentNode().removeChild(testClass);
+                }
+            }
+            for (Element packages : elements(test, "packages")) {
+                Element classes = elements(test, "classes").stream().findFirst().orElseGet(() -> {
+                    Element created = document.createElement("classes");
+                    test.insertBefore(created, packages);
+                    return created;
+                });
+                for (Element testPackage : elements(packages, "package")) {
+                    String name = testPackage.getAttribute("name").replaceAll("\\.\\*$", "");
+                    for (String className : selection.tests.keySet()) {
+                        if (className.substring(0, className.lastIndexOf('.')).equals(name)) {
+                            Element testClass = document.createElement("class");
+                            testClass.setAttribute("name", className);
+                            classes.appendChild(testClass);
+                        }
+                    }
+                }
+                test.removeChild(packages);
+            }
+            for (Element classes : elements(test, "classes")) {
+                if (elements(classes, "class").isEmpty()) {
+                    test.removeChild(classes);
+                }
+            }
+            if (elements(test, "class").isEmpty()) {
+                test.getParentNode().removeChild(test);
+            }
+        }
+
+        stripWhitespace(document.getDocumentElement());
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+        if (document.getDoctype() != null) {
+            transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, document.getDoctype().getSystemId());
+        }
+        transformer.transform(new DOMSource(document), new StreamResult(output.toFile()));
+    }
+
+    /**
+     * Write the selected feature files, one absolute path per line
+     * @param selection Selection to write
+     * @param output Feature list file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeFeatures(Selection selection, Path output) throws IOException {
+        createParent(output);
+        List<String> paths = selection.features.keySet().stream()
+                .map(feature -> featureFiles.get(feature).toAbsolutePath().toString())
+                .collect(Collectors.toList());
+        Files.write(output, paths, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Print the selection ratio, the reason for each selected entry and the estimated time saved
+     * @param selection Selection to report
+     * @param durations Recorded duration per test class in milliseconds
+     */
+    public void print(Selection selection, Map<String, Long> durations) {
+        System.out.printf("Changed files: %d (%d ignored)%n", selection.changes, selection.ignored);
+        if (selection.fullRun != null) {
+            System.out.printf("Full run: %s%n", selection.fullRun);
+        }
+        int totalMethods = tests.values().stream().mapToInt(test -> test.methods).sum();
+        int selectedMethods = tests.values().stream().filter(test -> selection.tests.containsKey(test.className))
+                .mapToInt(test -> test.methods).sum();
+        System.out.printf("%nTest classes: %d of %d selected (%s), %d of %d methods%n", selection.tests.size(), tests.size(),
+                percent(selection.tests.size(), tests.size()), selectedMethods, totalMethods);
+        selection.tests.forEach((name, reason) -> System.out.printf("  %-55s %s%n", name, reason));
+        System.out.printf("%nFeatures: %d of %d selected (%s)%n", selection.features.size(), featureFiles.size(),
+                percent(selection.features.size(), featureFiles.size()));
+        selection.features.forEach((name, reason) -> System.out.printf("  %-55s %s%n", name, reason));
+
+        long full = 0;
+        long selected = 0;
+        int known = 0;
+        for (TestSource test : tests.values()) {
+            Long duration = durations.get(test.className);
+            if (duration != null) {
+                known++;
+                full += duration;
+                selected += selection.tests.containsKey(test.className) ? duration : 0;
+            }
+        }
+        if (known == 0) {
+            System.out.printf("%nNo recorded durations, time saved unknown%n");
+        } else {
+            System.out.printf("%nEstimated TestNG time: %s of %s, saving %s (durations for %d of %d classes)%n",
+                    seconds(selected), seconds(full), seconds(full - selected), known, tests.size());
+        }
+    }
+
+    /**
+     * Write every test class and feature with its selection state, reason and recorded duration
+     * @param selection Selection to report
+     * @param durations Recorded duration per test class in milliseconds
+     * @param report CSV file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(Selection selection, Map<String, Long> durations, Path report) throws IOException {
+        createParent(report);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+            writer.println("kind,name,selected,reason,duration_ms");
+            for (TestSource test : tests.values()) {
+                writer.println(String.join(",", "test", test.className, String.valueOf(selection.tests.containsKey(test.className)),
+                        csv(selection.tests.getOrDefault(test.className, "")),
+                        String.valueOf(durations.getOrDefault(test.className, -1L))));
+            }
+            for (String feature : featureFiles.keySet()) {
+                writer.println(String.join(",", "feature", feature, String.valueOf(selection.features.containsKey(feature)),
+                        csv(selection.features.getOrDefault(feature, "")), "-1"));
+            }
+        }
+    }
+
+    /**
+     * Changed files between a revision and the working tree, plus untracked files
+     * @param root Repository root
+     * @param base Revision to compare with, e.g. HEAD or origin/main
+     * @return Changed files
+     * @throws IOException if git fails
+     */
+    public static List<Change> gitChanges(Path root, String base) throws IOException {
+        List<Change> changes = parseDiff(git(root, "diff", "--unified=0", "--no-color", "--no-ext-diff", base, "--"));
+        Set<String> known = changes.stream().map(Change::getPath).collect(Collectors.toSet());
+        for (String untracked : git(root, "ls-files", "--others", "--exclude-standard")) {
+            if (!untracked.isEmpty() && known.add(untracked)) {
+                changes.add(new Change(untracked));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Parse a unified diff into changed files and the changed line numbers of their new version
+     * @param diff Diff lines
+     * @return Changed files in diff order
+     */
+    public static List<Change> parseDiff(List<String> diff) {
+        Map<String, Change> changes = new LinkedHashMap<>();
+        Change current = null;
+        String oldPath = null;
+        for (String line : diff) {
+            Matcher header = DIFF_HEADER.matcher(line);
+            Matcher hunk = HUNK.matcher(line);
+            if (header.matches()) {
+                oldPath = header.group(1);
+                current = changes.computeIfAbsent(header.group(2), Change::new);
+            } else if (line.startsWith("--- ") && current != null) {
+                oldPath = line.equals("--- /dev/null") ? null : line.substring(4).replaceFirst("^a/", "");
+            } else if (line.startsWith("+++ ") && current != null) {
+                if (line.equals("+++ /dev/null")) {
+                    current.deleted = true;
+                } else if (oldPath != null && !oldPath.equals(current.path)) {
+                    changes.computeIfAbsent(oldPath, Change::new).deleted = true;
+                }
+            } else if (hunk.find() && current != null) {
+                int start = Integer.parseInt(hunk.group(1));
+                int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+                if (count == 0) {
+                    // Pure deletion: the lines went away after line start
+                    current.lines.add(Math.max(start, 1));
+                }
+                for (int i = 0; i < count; i++) {
+                    current.lines.add(start + i);
+                }
+            }
+        }
+        return new ArrayList<>(changes.values());
+    }
+
+    /**
+     * Read the per-method durations DurationBalancingInterceptor records and sum them per test class
+     * @param history Duration history properties file (class#method=millis)
+     * @return Duration per test class, empty if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, Long> classDurations(Path history) throws IOException {
+        Map<String, Long> durations = new HashMap<>();
+        if (history == null || !Files.isRegularFile(history)) {
+            return durations;
+        }
+        Properties stored = new Properties();
+        try (InputStream input = Files.newInputStream(history)) {
+            stored.load(input);
+        }
+        for (String key : stored.stringPropertyNames()) {
+            int separator = key.indexOf('#');
+            try {
+                long duration = Long.parseLong(stored.getProperty(key).trim());
+                durations.merge(separator > 0 ? key.substring(0, separator) : key, duration, Long::sum);
+            } catch (NumberFormatException e) {
+                // Skip unreadable entries
+            }
+        }
+        return durations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path root = null;
+        Path map = null;
+        Path diff = null;
+        Path suite = null;
+        Path out = null;
+        Path featuresOut = null;
+        Path report = null;
+        Path history = null;
+        String base = "HEAD";
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            if (value == null || !args[i].startsWith("--")) {
+                usage();
+            }
+            switch (args[i]) {
+                case "--root": root = Paths.get(value); break;
+                case "--map": map = Paths.get(value); break;
+                case "--base": base = value; break;
+                case "--diff": diff = Paths.get(value); break;
+                case "--suite": suite = Paths.get(value); break;
+                case "--out": out = Paths.get(value); break;
+                case "--features-out": featuresOut = Paths.get(value); break;
+                case "--report": report = Paths.get(value); break;
+                case "--history": history = Paths.get(value); break;
+                default: usage();
+            }
+            i++;
+        }
+        root = root != null ? root : repositoryRoot(Paths.get("").toAbsolutePath());
+        map = map != null ? map : root.resolve("test-impact.properties");
+        suite = suite != null ? suite : root.resolve("testng-automation/src/test/resources/testng.xml");
+        out = out != null ? out : root.resolve("testng-automation/target/selected-tests.xml");
+        featuresOut = featuresOut != null ? featuresOut : root.resolve("cucumber-automation/build/selected-features.txt");
+        history = history != null ? history : root.resolve("testng-automation/build/test-history/test-durations.properties");
+
+        TestSelectionEngine engine = load(root, map);
+        List<Change> changes = diff != null ? parseDiff(Files.readAllLines(diff, StandardCharsets.UTF_8)) : gitChanges(root, base);
+        Selection selection = engine.select(changes);
+        Map<String, Long> durations = classDurations(history);
+
+        engine.print(selection, durations);
+        engine.writeSuite(selection, suite, out);
+        engine.writeFeatures(selection, featuresOut);
+        System.out.printf("%nSuite written to %s%nFeatures written to %s%n", out, featuresOut);
+        if (report != null) {
+            engine.writeCsv(selection, durations, report);
+            System.out.printf("Report written to %s%n", report);
+        }
+    }
+
+    private void javaChanged(Selection selection, String path) {
+        String name = simpleName(path);
+        TestSource changed = tests.get(name);
+        if (changed != null) {
+            selection.tests.putIfAbsent(changed.className, "test changed");
+        }
+        for (TestSource test : tests.values()) {
+            if (test != changed && test.types.contains(name)) {
+                selection.tests.putIfAbsent(test.className, "uses " + name);
+            }
+        }
+        areas.stream().filter(area -> area.pages.contains(name))
+                .forEach(area -> areaChanged(selection, area, name + " changed"));
+    }
+
+    private void routesChanged(Selection selection, Change change) {
+        Path file = root.resolve(change.path);
+        if (change.deleted || change.lines.isEmpty() || !Files.isRegularFile(file)) {
+            fullRun(selection, change.path + " changed as a whole");
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            fullRun(selection, change.path + " could not be read");
+            return;
+        }
+        for (int line : change.lines) {
+            String route = null;
+            for (int i = Math.min(line, lines.size()) - 1; i >= 0 && route == null; i--) {
+                Matcher matcher = ROUTE.matcher(lines.get(i));
+                route = matcher.find() ? matcher.group(1) : null;
+            }
+            String where = change.path + ":" + line;
+            if (route == null) {
+                fullRun(selection, where + " is outside any route");
+                continue;
+            }
+            String changedRoute = route;
+            List<Area> matched = areas.stream()
+                    .filter(area -> area.routes.stream().anyMatch(prefix -> changedRoute.equals(prefix) || changedRoute.startsWith(prefix + "/")))
+                    .collect(Collectors.toList());
+            boolean covered = coverageChanged(selection, unit -> routeUnitMatches(unit, changedRoute), where + " changes " + changedRoute);
+            if (matched.isEmpty() && !covered) {
+                fullRun(selection, where + " changes " + route + ", which no area covers");
+            }
+            matched.forEach(area -> areaChanged(selection, area, where + " changes " + changedRoute));
+        }
+    }
+
+    private void areaChanged(Selection selection, Area area, String reason) {
+        String because = reason + " (" + area.name + ")";
+        for (Map.Entry<String, TestSource> test : tests.entrySet()) {
+            if (area.tests.contains(test.getKey()) || !Collections.disjoint(area.pages, test.getValue().types)) {
+                selection.tests.putIfAbsent(test.getValue().className, because);
+            }
+        }
+        featureClasses.forEach((feature, classes) -> {
+            if (!Collections.disjoint(area.pages, classes)) {
+                selection.features.putIfAbsent(feature, because);
+            }
+        });
+    }
+
+    /**
+     * Select the recorded tests and scenarios that touched a unit accepted by the filter
+     * @return true if any recorded test touched one, so the change is covered without an impact rule
+     */
+    private boolean coverageChanged(Selection selection, Predicate<String> units, String reason) {
+        boolean covered = false;
+        for (CoverageIndex index : coverage) {
+            for (String test : index.testsCovering(units)) {
+                covered = true;
+                String because = reason + " (recorded coverage)";
+                int method = test.indexOf('#');
+                int line = test.lastIndexOf(':');
+                if (method > 0) {
+                    String className = test.substring(0, method);
+                    String name = className.substring(className.lastIndexOf('.') + 1);
+                    if (tests.containsKey(name) && tests.get(name).className.equals(className)) {
+                        selection.tests.putIfAbsent(className, because);
+                    }
+                } else if (line > 0 && featureFiles.containsKey(test.substring(0, line))) {
+                    selection.features.putIfAbsent(test.substring(0, line), because);
+                }
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Check if a recorded route unit (route:GET /api/users/:id) is the changed route; a route literal
+     * cut off at a template placeholder (/api/users/) matches every route below it
+     */
+    private static boolean routeUnitMatches(String unit, String route) {
+        if (!unit.startsWith(CoverageIndex.ROUTE) || unit.indexOf(' ') < 0) {
+            return false;
+        }
+        String path = unit.substring(unit.indexOf(' ') + 1);
+        return path.equals(route) || (route.endsWith("/") && path.startsWith(route));
+    }
+
+    private void fullRun(Selection selection, String reason) {
+        if (selection.fullRun == null) {
+            selection.fullRun = reason;
+        }
+        tests.values().forEach(test -> selection.tests.putIfAbsent(test.className, "full run"));
+        featureFiles.keySet().forEach(feature -> selection.features.putIfAbsent(feature, "full run"));
+    }
+
+    private void loadTests() throws IOException {
+        for (Path file : javaFiles(root.resolve(testsDir))) {
+            String source = Files.readString(file, StandardCharsets.UTF_8);
+            Matcher annotations = TEST_ANNOTATION.matcher(source);
+            int methods = 0;
+            while (annotations.find()) {
+                methods++;
+            }
+            if (methods == 0) {
+                continue;
+            }
+            Matcher packageName = PACKAGE.matcher(source);
+            String name = simpleName(file.toString());
+            String className = packageName.find() ? packageName.group(1) + "." + name : name;
+            tests.put(name, new TestSource(className, methods, typeNames(source)));
+        }
+    }
+
+    /**
+     * Link each feature to the glue classes reachable from the step definitions its steps match
+     */
+    private void loadFeatures() throws IOException {
+        Map<String, Set<String>> references = new HashMap<>();
+        Map<Pattern, String> definitions = new LinkedHashMap<>();
+        List<Path> glue = javaFiles(root.resolve(cucumberDir));
+        Set<String> glueNames = glue.stream().map(file -> simpleName(file.toString())).collect(Collectors.toSet());
+        for (Path file : glue) {
+            String source = Files.readString(file, StandardCharsets.UTF_8);
+            String name = simpleName(file.toString());
+            Set<String> types = typeNames(source);
+            types.retainAll(glueNames);
+            types.remove(name);
+            references.put(name, types);
+            Matcher definition = STEP_DEFINITION.matcher(source);
+            while (definition.find()) {
+                definitions.put(expressionPattern(definition.group(1).replace("\\\"", "\"")), name);
+            }
+        }
+
+        Path features = root.resolve(featuresDir);
+        if (!Files.isDirectory(features)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(features)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".feature")).sorted().collect(Collectors.toList())) {
+                String feature = file.getFileName().toString();
+                featureFiles.put(feature, file);
+                Deque<String> pending = new ArrayDeque<>();
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    Matcher step = FEATURE_STEP.matcher(line);
+                    if (step.matches()) {
+                        definitions.forEach((pattern, stepClass) -> {
+                            if (pattern.matcher(step.group(1)).matches()) {
+                                pending.add(stepClass);
+                            }
+                        });
+                    }
+                }
+                Set<String> reached = new HashSet<>();
+                while (!pending.isEmpty()) {
+                    String next = pending.poll();
+                    if (reached.add(next)) {
+                        pending.addAll(references.getOrDefault(next, Collections.emptySet()));
+                    }
+                }
+                featureClasses.put(feature, reached);
+            }
+        }
+    }
+
+    /**
+     * Translate a cucumber expression (or a ^...$ regular expression) into a pattern for step text;
+     * parameters also accept Scenario Outline placeholders such as <name>
+     */
+    static Pattern expressionPattern(String expression) {
+        if (expression.startsWith("^") || expression.endsWith("$")) {
+            return Pattern.compile(expression);
+        }
+        StringBuilder regex = new StringBuilder();
+        Matcher part = EXPRESSION_PART.matcher(expression);
+        int last = 0;
+        while (part.find()) {
+            regex.append(Pattern.quote(expression.substring(last, part.start())));
+            if (part.group(2) != null) {
+                regex.append("(?:").append(Pattern.quote(part.group(2))).append(")?");
+            } else {
+                switch (part.group(1)) {
+                    case "string": regex.append("(?:\"[^\"]*\"|'[^']*'" + PLACEHOLDER + ")"); break;
+                    case "int": regex.append("(?:-?\\d+" + PLACEHOLDER + ")"); break;
+                    case "float":
+                    case "double": regex.append("(?:-?\\d*\\.?\\d+" + PLACEHOLDER + ")"); break;
+                    case "word": regex.append("(?:\\S+" + PLACEHOLDER + ")"); break;
+                    default: regex.append(".*"); break;
+                }
+            }
+            last = part.end();
+        }
+        regex.append(Pattern.quote(expression.substring(last)));
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Type names used in code, ignoring comments and string literals
+     */
+    private static Set<String> typeNames(String source) {
+        Set<String> types = new HashSet<>();
+        Matcher matcher = TYPE_NAME.matcher(COMMENT_OR_LITERAL.matcher(source).replaceAll(" "));
+        while (matcher.find()) {
+            types.add(matcher.group());
+        }
+        return types;
+    }
+
+    private static List<Path> javaFiles(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static List<Element> elements(Element parent, String tag) {
+        NodeList nodes = parent.getElementsByTagName(tag);
+        List<Element> elements = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            elements.add((Element) nodes.item(i));
+        }
+        return elements;
+    }
+
+    private static void stripWhitespace(Node node) {
+        NodeList children = node.getChildNodes();
+        for (int i = children.getLength() - 1; i >= 0; i--) {
+            Node child = children.item(i);
+            if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().trim().isEmpty()) {
+                node.removeChild(child);
+            } else {
+                stripWhitespace(child);
+            }
+        }
+    }
+
+    private static List<String> git(Path root, String... args) throws IOException {
+        List<String> command = new ArrayList<>(Arrays.asList("git", "-C", root.toString()));
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        List<String> output;
+        try (InputStream input = process.getInputStream()) {
+            output = Arrays.asList(new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+        }
+        try {
+            if (process.waitFor() != 0) {
+                throw new IOException("git " + String.join(" ", args) + " failed with status " + process.exitValue());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running git", e);
+        }
+        return output;
+    }
+
+    private static Path repositoryRoot(Path start) {
+        for (Path dir = start; dir != null; dir = dir.getParent()) {
+            if (Files.exists(dir.resolve(".git"))) {
+                return dir;
+            }
+        }
+        return start;
+    }
+
+    private static List<String> list(String value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(entry -> !entry.isEmpty()).collect(Collectors.toList());
+    }
+
+    private static List<PathMatcher> globs(Collection<String> patterns) {
+        return patterns.stream().map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern)).collect(Collectors.toList());
+    }
+
+    private static boolean matches(List<PathMatcher> matchers, String path) {
+        Path relative = Paths.get(path);
+        return matchers.stream().anyMatch(matcher -> matcher.matches(relative));
+    }
+
+    private static String simpleName(String path) {
+        String file = Paths.get(path).getFileName().toString();
+        return file.endsWith(".java") ? file.substring(0, file.length() - ".java".length()) : file;
+    }
+
+    private static void createParent(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    private static String percent(int part, int whole) {
+        return whole == 0 ? "-" : Math.round(100.0 * part / whole) + "%";
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1fs", millis / 1000.0);
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static void usage() {
+        System.err.println("Usage: TestSelectionEngine [--base rev | --diff file.patch] [--root dir] [--map test-impact.properties]"
+                + " [--suite testng.xml] [--out selected.xml] [--features-out features.txt] [--report file.csv] [--history durations.properties]");
+        System.exit(2);
+    }
+}
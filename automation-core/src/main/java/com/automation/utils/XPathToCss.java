@@ -0,0 +1,292 @@
+package com.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Translates the XPath subset used by page objects into an equivalent CSS selector
+ * Handles descendant and child steps, tag names, attribute tests (=, contains, starts-with),
+ * a leading positional [n], and/or predicates and unions (or and | expand to a selector list).
+ * Anything CSS cannot express, such as text() matches or sibling and ancestor axes,
+ * is reported as not convertible so callers keep the XPath.
+ */
+public final class XPathToCss {
+
+    /** Upper bound on the selectors an or-expansion may produce */
+    private static final int MAX_SELECTORS = 8;
+
+    private XPathToCss() {
+    }
+
+    /**
+     * Convert an XPath to CSS
+     * @param xpath XPath expression
+     * @return Equivalent CSS selector, or null if the XPath uses constructs CSS cannot express
+     */
+    public static String convert(String xpath) {
+        try {
+            List<String> selectors = new ArrayList<>();
+            for (String branch : splitUnion(xpath)) {
+                selectors.addAll(new Parser(branch.trim()).path());
+            }
+            return selectors.isEmpty() || selectors.size() > MAX_SELECTORS ? null : String.join(", ", selectors);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Split a top-level union (a | b), ignoring bars inside predicates and string literals
+     */
+    private static List<String> splitUnion(String xpath) {
+        List<String> branches = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                branches.add(xpath.substring(start, i));
+                start = i + 1;
+            }
+        }
+        branches.add(xpath.substring(start));
+        return branches;
+    }
+
+    /**
+     * Recursive-descent parser that builds each predicate in disjunctive normal form
+     */
+    private static final class Parser {
+        private final String input;
+        private int pos;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private List<String> path() {
+            if (!input.startsWith("//")) {
+                throw unsupported();
+            }
+            List<String> selectors = Collections.singletonList("");
+            boolean first = true;
+            while (pos < input.length()) {
+                String combinator;
+                if (input.startsWith("//", pos)) {
+                    pos += 2;
+                    combinator = first ? "" : " ";
+                } else if (input.startsWith("/", pos)) {
+                    pos += 1;
+                    combinator = " > ";
+                } else {
+                    throw unsupported();
+                }
+                List<String> step = step();
+                List<String> combined = new ArrayList<>();
+                for (String prefix : selectors) {
+                    for (String compound : step) {
+                        combined.add(prefix + combinator + compound);
+                    }
+                }
+                if (combined.size() > MAX_SELECTORS) {
+                    throw unsupported();
+                }
+                selectors = combined;
+                first = false;
+            }
+            return selectors;
+        }
+
+        /** One location step: tag name plus predicates, as alternative compound selectors */
+        private List<String> step() {
+            String tag = name();
+            if (tag.isEmpty() && peek() == '*') {
+                pos++;
+                tag = "*";
+            }
+            if (tag.isEmpty() || tag.contains(":")) {
+                throw unsupported();
+            }
+            List<String> compounds = Collections.singletonList(tag);
+            boolean firstPredicate = true;
+            while (peek() == '[') {
+                pos++;
+                skipSpaces();
+                List<String> predicate;
+                if (Character.isDigit(peek())) {
+                    // [n] after a filter counts filtered matches, which nth-of-type cannot express
+                    if (!firstPredicate) {
+                        throw unsupported();
+                    }
+                    predicate = Collections.singletonList(position(tag));
+                } else {
+                    predicate = or();
+                }
+                expect(']');
+                compounds = product(compounds, predicate);
+                firstPredicate = false;
+            }
+            return compounds;
+        }
+
+        private String position(String tag) {
+            int start = pos;
+            while (Character.isDigit(peek())) {
+                pos++;
+            }
+            int index = Integer.parseInt(input.substring(start, pos));
+            skipSpaces();
+            return "*".equals(tag) ? ":nth-child(" + index + ")" : ":nth-of-type(" + index + ")";
+        }
+
+        private List<String> or() {
+            List<String> result = new ArrayList<>(and());
+            while (keyword("or")) {
+                result.addAll(and());
+            }
+            return result;
+        }
+
+        private List<String> and() {
+            List<String> result = primary();
+            while (keyword("and")) {
+                result = product(result, primary());
+            }
+            return result;
+        }
+
+        private List<String> primary() {
+            skipSpaces();
+            if (peek() == '(') {
+                pos++;
+                List<String> inner = or();
+                expect(')');
+                return inner;
+            }
+            if (peek() == '@') {
+                pos++;
+                String attribute = name();
+                skipSpaces();
+                if (peek() == '=') {
+                    pos++;
+                    return Collections.singletonList(attribute(attribute, "=", literal()));
+                }
+                return Collections.singletonList("[" + attribute + "]");
+            }
+            String function = name();
+            String operator;
+            if ("contains".equals(function)) {
+                operator = "*=";
+            } else if ("starts-with".equals(function)) {
+                operator = "^=";
+            } else {
+                throw unsupported();
+            }
+            expect('(');
+            expect('@');
+            String attribute = name();
+            expect(',');
+            String value = literal();
+            expect(')');
+            return Collections.singletonList(attribute(attribute, operator, value));
+        }
+
+        private String attribute(String attribute, String operator, String value) {
+            if (attribute.isEmpty() || (value.contains("'") && value.contains("\"")) || value.contains("\\")) {
+                throw unsupported();
+            }
+            String quote = value.contains("'") ? "\"" : "'";
+            return "[" + attribute + operator + quote + value + quote + "]";
+        }
+
+        private String literal() {
+            skipSpaces();
+            char quote = peek();
+            if (quote != '\'' && quote != '"') {
+                throw unsupported();
+            }
+            int end = input.indexOf(quote, pos + 1);
+            if (end < 0) {
+                throw unsupported();
+            }
+            String value = input.substring(pos + 1, end);
+            pos = end + 1;
+            skipSpaces();
+            return value;
+        }
+
+        private String name() {
+            skipSpaces();
+            int start = pos;
+            while (pos < input.length()) {
+                char c = input.charAt(pos);
+                if (!Character.isLetterOrDigit(c) && c != '-' && c != '_' && c != ':') {
+                    break;
+                }
+                pos++;
+            }
+            String name = input.substring(start, pos);
+            skipSpaces();
+            return name;
+        }
+
+        private boolean keyword(String keyword) {
+            skipSpaces();
+            int end = pos + keyword.length();
+            if (input.startsWith(keyword, pos) && end < input.length() && !Character.isLetterOrDigit(input.charAt(end))
+                    && input.charAt(end) != '-') {
+                pos = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            skipSpaces();
+            if (peek() != c) {
+                throw unsupported();
+            }
+            pos++;
+            skipSpaces();
+        }
+
+        private char peek() {
+            return pos < input.length() ? input.charAt(pos) : '\0';
+        }
+
+        private void skipSpaces() {
+            while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Not convertible at position " + pos + ": " + input);
+        }
+
+        private static List<String> product(List<String> left, List<String> right) {
+            List<String> result = new ArrayList<>();
+            for (String a : left) {
+                for (String b : right) {
+                    result.add(a + b);
+                }
+            }
+            if (result.size() > MAX_SELECTORS) {
+                throw new IllegalArgumentException("Too many alternatives");
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CssToXPath unit tests
+ * Translated selectors are evaluated against a small document, so the tests check what they match
+ * rather than the exact XPath text
+ */
+public class CssToXPathTest {
+
+    private static final String PAGE = "<html><body>"
+            + "<div id='main' class='card wide'>"
+            + "<span id='title' class='title'>Title</span>"
+            + "<p id='inner'><span id='nested' class='title'>Nested</span></p>"
+            + "</div>"
+            + "<a id='pdf' href='http://x/report.pdf' rel='next nofollow'>Report</a>"
+            + "<a id='local' href='/users'>Users</a>"
+            + "<button id='save' data-testid='save-btn' disabled='disabled'>Save</button>"
+            + "<input id='q' name='q' type='text'/>"
+            + "</body></html>";
+
+    private Document document;
+
+    @BeforeClass
+    public void parsePage() throws Exception {
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(PAGE)));
+    }
+
+    @DataProvider
+    public Object[][] selectors() {
+        return new Object[][] {
+                {"#main", "main"},
+                {"span.title", "title,nested"},
+                {"div.card > span.title", "title"},
+                {"div span.title", "title,nested"},
+                {".card.wide", "main"},
+                {"input[name='q']", "q"},
+                {"[data-testid=\"save-btn\"]", "save"},
+                {"button[disabled]", "save"},
+                {"a[href^='http']", "pdf"},
+                {"a[href$='.pdf']", "pdf"},
+                {"a[href*='user']", "local"},
+                {"a[rel~=next]", "pdf"},
+                {"#save, #q", "save,q"},
+                {"BUTTON", "save"},
+        };
+    }
+
+    @Test(dataProvider = "selectors", description = "Verify translated CSS matches the same elements")
+    public void testConvert(String css, String expectedIds) throws Exception {
+        String xpath = CssToXPath.convert(css);
+        Assert.assertNotNull(xpath, css);
+        Assert.assertEquals(String.join(",", matchedIds(xpath)), expectedIds, css + " -> " + xpath);
+    }
+
+    @DataProvider
+    public Object[][] notTranslated() {
+        return new Object[][] {
+                {"a:hover"},
+                {"div + p"},
+                {"div ~ p"},
+                {"li:nth-child(2)"},
+                {"a[lang|=en]"},
+                {""},
+                {"> span"},
+        };
+    }
+
+    @Test(dataProvider = "notTranslated", description = "Verify CSS outside the subset is reported as not convertible")
+    public void testNotTranslated(String css) {
+        Assert.assertNull(CssToXPath.convert(css), css);
+    }
+
+    @Test(description = "Verify standard locators translate and link text does not")
+    public void testFromLocator() throws Exception {
+        Assert.assertEquals(matchedIds(CssToXPath.fromLocator(By.id("main"))), Arrays.asList("main"));
+        Assert.assertEquals(matchedIds(CssToXPath.fromLocator(By.name("q"))), Arrays.asList("q"));
+        Assert.assertEquals(matchedIds(CssToXPath.fromLocator(By.className("wide"))), Arrays.asList("main"));
+        Assert.assertEquals(matchedIds(CssToXPath.fromLocator(By.tagName("A"))), Arrays.asList("pdf", "local"));
+        Assert.assertEquals(CssToXPath.fromLocator(By.xpath("//p")), "//p");
+        Assert.assertNull(CssToXPath.fromLocator(By.linkText("Users")));
+        Assert.assertNull(CssToXPath.fromLocator(By.partialLinkText("Rep")));
+    }
+
+    @Test(description = "Verify values with quotes are quoted safely or rejected")
+    public void testQuotedValues() {
+        Assert.assertEquals(CssToXPath.fromLocator(By.id("it's")), "//*[@id=\"it's\"]");
+        Assert.assertNull(CssToXPath.fromLocator(By.id("it's \"quoted\"")));
+    }
+
+    private List<String> matchedIds(String xpath) throws Exception {
+        NodeList nodes = (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, document, XPathConstants.NODESET);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            ids.add(((Element) nodes.item(i)).getAttribute("id"));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,29 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * DomBatchReader unit tests
+ * Quoted values are evaluated as XPath expressions, so the tests check the string they produce
+ * rather than the exact quoting
+ */
+public class DomBatchReaderTest {
+
+    @Test(description = "Verify id and name values with either or both quote characters are quoted as valid XPath literals")
+    public void testLiteral() throws Exception {
+        for (String value : new String[] {"plain", "it's", "say \"hi\"", "it's \"quoted\"", "'", "'\"'", ""}) {
+            Assert.assertEquals(evaluate(DomBatchReader.literal(value)), value, "literal for " + value);
+        }
+        Assert.assertEquals(DomBatchReader.literal("plain"), "'plain'");
+    }
+
+    private static String evaluate(String expression) throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        return XPathFactory.newInstance().newXPath().evaluate(expression, document);
+    }
+}
@@ -0,0 +1,101 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FailFast unit tests
+ * Covers the time-to-first-failure estimate, the ranking of tests without history, the fallback duration
+ * and the failure limit
+ */
+public class FailFastTest {
+
+    private static final String UNKNOWN_TEST = "com.automation.tests.FailFastTest#neverRecorded";
+
+    @AfterMethod(alwaysRun = true)
+    public void reset() {
+        System.clearProperty("failfast.max.failures");
+        FailFast.start();
+    }
+
+    @Test(description = "Verify the expected time to first failure of single and sequential tests")
+    public void testExpectedTimeToFirstFailure() {
+        Assert.assertEquals(estimate(Collections.singletonList(new double[] {1, 1000})), 1000);
+        Assert.assertEquals(estimate(Arrays.asList(new double[] {0, 1000}, new double[] {1, 2000})), 3000);
+        Assert.assertEquals(estimate(Arrays.asList(new double[] {0.5, 1000}, new double[] {0.5, 1000})), 1500);
+        Assert.assertEquals(estimate(Collections.emptyList()), 0);
+    }
+
+    @Test(description = "Verify running the higher probability per second first finds a failure sooner")
+    public void testOrderingBenefit() {
+        double[] quickAndLikely = {0.5, 1000};
+        double[] slowAndStable = {0.1, 10000};
+        Assert.assertEquals(estimate(Arrays.asList(quickAndLikely, slowAndStable)), 6000);
+        Assert.assertEquals(estimate(Arrays.asList(slowAndStable, quickAndLikely)), 10900);
+    }
+
+    @Test(description = "Verify tests without history rank by the fallback duration, at least 100ms")
+    public void testPriorityWithoutHistory() {
+        RunHistoryStore history = RunHistoryStore.getInstance();
+        Assert.assertEquals(FailFast.expectedMillis(history, UNKNOWN_TEST, 2000), 2000);
+        Assert.assertEquals(FailFast.expectedMillis(history, UNKNOWN_TEST, 10), 100);
+        Assert.assertEquals(FailFast.priority(history, UNKNOWN_TEST, 2000), 0.25, 1e-9);
+        Assert.assertEquals(FailFast.priority(history, UNKNOWN_TEST, 10), 5.0, 1e-9);
+    }
+
+    @Test(description = "Verify the fallback duration is the median of the tests with history")
+    public void testMedianDuration() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+        System.setProperty("flaky.history.file", directory.resolve("run-history.bin").toString());
+        System.setProperty("flaky.report.file", "");
+        try {
+            RunHistoryStore.record("a.A#fast", RunHistoryStore.Outcome.PASSED, 100);
+            RunHistoryStore.record("a.A#slow", RunHistoryStore.Outcome.PASSED, 300);
+            RunHistoryStore.record("a.A#medium", RunHistoryStore.Outcome.FAILED, 200);
+            RunHistoryStore.flush();
+            RunHistoryStore history = RunHistoryStore.getInstance();
+
+            List<String> tests = Arrays.asList("a.A#fast", "a.A#slow", "a.A#medium", UNKNOWN_TEST);
+            Assert.assertEquals(FailFast.medianDuration(history, tests, test -> test), 200);
+            Assert.assertEquals(FailFast.medianDuration(history, Collections.singletonList(UNKNOWN_TEST), test -> test), 10000);
+        } finally {
+            System.clearProperty("flaky.history.file");
+            System.clearProperty("flaky.report.file");
+        }
+    }
+
+    @Test(description = "Verify the run trips once at failfast.max.failures and start() clears it")
+    public void testFailureLimit() {
+        System.setProperty("failfast.max.failures", "2");
+        FailFast.start();
+        Assert.assertFalse(FailFast.recordFailure("a"));
+        Assert.assertFalse(FailFast.isTripped());
+        Assert.assertTrue(FailFast.recordFailure("b"));
+        Assert.assertTrue(FailFast.isTripped());
+        Assert.assertFalse(FailFast.recordFailure("c"), "only the failure that trips the run reports it");
+
+        FailFast.start();
+        Assert.assertFalse(FailFast.isTripped());
+    }
+
+    @Test(description = "Verify failures never trip the run when failfast.max.failures is not set")
+    public void testFailureLimitDisabled() {
+        FailFast.start();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertFalse(FailFast.recordFailure("test" + i));
+        }
+        Assert.assertFalse(FailFast.isTripped());
+    }
+
+    private static long estimate(List<double[]> tests) {
+        return FailFast.expectedTimeToFirstFailure(tests, test -> test[0], test -> (long) test[1]);
+    }
+}
@@ -0,0 +1,29 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByAll;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * LocatorParts unit tests
+ */
+public class LocatorPartsTest {
+
+    @Test(description = "Verify standard locators split into strategy and value")
+    public void testStandardLocators() {
+        LocatorParts parts = LocatorParts.of(By.cssSelector("a[title='x: y']"));
+        Assert.assertEquals(parts.getStrategy(), "cssSelector");
+        Assert.assertEquals(parts.getValue(), "a[title='x: y']");
+        Assert.assertEquals(LocatorParts.of(By.partialLinkText("Save")).getStrategy(), "partialLinkText");
+        Assert.assertEquals(LocatorParts.of(By.xpath("//p\n[@id='a']")).getValue(), "//p\n[@id='a']");
+    }
+
+    @Test(description = "Verify composite and missing locators are not split")
+    public void testCompositeLocators() {
+        Assert.assertNull(LocatorParts.of(new ByAll(By.id("a"), By.id("b"))));
+        Assert.assertNull(LocatorParts.of(new ByChained(By.id("a"), By.id("b"))));
+        Assert.assertNull(LocatorParts.of(null));
+    }
+}
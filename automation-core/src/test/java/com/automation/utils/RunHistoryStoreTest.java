@@ -0,0 +1,219 @@
+package com.automation.utils;
+
+import com.automation.utils.RunHistoryStore.Outcome;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RunHistoryStore unit tests
+ * Every test writes to its own history file in a temporary directory, configured through system
+ * properties, and reads the store back after a flush
+ */
+public class RunHistoryStoreTest {
+
+    private static final String[] PROPERTIES = {
+            "flaky.history.file", "flaky.report.file", "flaky.known.file", "flaky.min.runs", "flaky.window"};
+    private static final String TEST_ID = "com.automation.tests.LoginTest#login";
+
+    private Path directory;
+    private Path history;
+
+    @BeforeMethod
+    public void useTemporaryHistory() throws IOException {
+        directory = Files.createTempDirectory("history");
+        history = directory.resolve("run-history.bin");
+        System.setProperty("flaky.history.file", history.toString());
+        System.setProperty("flaky.report.file", "");
+        System.setProperty("flaky.min.runs", "5");
+        System.setProperty("flaky.window", "20");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearProperties() {
+        for (String property : PROPERTIES) {
+            System.clearProperty(property);
+        }
+    }
+
+    @Test(description = "Verify a test that passes on retry in every run scores as flaky")
+    public void testPassedOnRetryIsFlaky() {
+        for (int run = 0; run < 6; run++) {
+            RunHistoryStore.record(TEST_ID, Outcome.RETRIED, 100);
+            RunHistoryStore.record(TEST_ID, Outcome.PASSED, 100);
+            RunHistoryStore.flush();
+        }
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.getRunCount(TEST_ID), 6);
+        Assert.assertEquals(store.flakiness(TEST_ID), 6.0 / 11, 1e-9);
+        Assert.assertTrue(store.isFlaky(TEST_ID));
+        Assert.assertEquals(store.getConsecutiveFailures(TEST_ID), 0);
+        Assert.assertTrue(store.failureProbability(TEST_ID) < 0.5);
+        Assert.assertEquals(store.getAverageDurationMillis(TEST_ID), 200);
+    }
+
+    @Test(description = "Verify alternating runs score 1 and steady failures score 0")
+    public void testFlakinessBounds() {
+        String alternating = "com.automation.tests.A#alternating";
+        String failing = "com.automation.tests.A#failing";
+        for (int run = 0; run < 6; run++) {
+            RunHistoryStore.record(alternating, run % 2 == 0 ? Outcome.PASSED : Outcome.FAILED, 10);
+            RunHistoryStore.record(failing, Outcome.FAILED, 10);
+            RunHistoryStore.flush();
+        }
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.flakiness(alternating), 1.0, 1e-9);
+        Assert.assertEquals(store.flakiness(failing), 0.0, 1e-9);
+        Assert.assertFalse(store.isFlaky(failing));
+        Assert.assertEquals(store.getConsecutiveFailures(failing), 6);
+        Assert.assertEquals(store.getConsecutiveFailures(alternating), 1);
+    }
+
+    @Test(description = "Verify tests with fewer than flaky.min.runs runs score 0 and skipped runs are not counted")
+    public void testMinimumRuns() {
+        for (int run = 0; run < 8; run++) {
+            RunHistoryStore.record(TEST_ID, run < 4 ? Outcome.SKIPPED : run % 2 == 0 ? Outcome.PASSED : Outcome.FAILED, 10);
+            RunHistoryStore.flush();
+        }
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.getRunCount(TEST_ID), 8);
+        Assert.assertEquals(store.flakiness(TEST_ID), 0.0);
+        Assert.assertEquals(store.getConsecutiveFailures(TEST_ID), 1);
+    }
+
+    @Test(description = "Verify invocations within a run combine into one run")
+    public void testCombinedInvocations() {
+        String dataDriven = "com.automation.tests.A#dataDriven";
+        String retriedOnly = "com.automation.tests.A#retriedOnly";
+        RunHistoryStore.record(dataDriven, Outcome.PASSED, 100);
+        RunHistoryStore.record(dataDriven, Outcome.FAILED, 200);
+        RunHistoryStore.record(dataDriven, Outcome.PASSED, 300);
+        RunHistoryStore.record(retriedOnly, Outcome.RETRIED, 50);
+        RunHistoryStore.record(retriedOnly, Outcome.RETRIED, 50);
+        RunHistoryStore.flush();
+
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.getRunCount(dataDriven), 1);
+        Assert.assertEquals(store.getConsecutiveFailures(dataDriven), 1);
+        Assert.assertEquals(store.getAverageDurationMillis(dataDriven), 600);
+        Assert.assertEquals(store.getConsecutiveFailures(retriedOnly), 1, "retries that never passed make a failed run");
+    }
+
+    @Test(description = "Verify the failure probability weights recent runs and defaults to 1/2")
+    public void testFailureProbability() {
+        String recentPass = "com.automation.tests.A#recentPass";
+        String recentFail = "com.automation.tests.A#recentFail";
+        RunHistoryStore.record(recentPass, Outcome.FAILED, 10);
+        RunHistoryStore.record(recentFail, Outcome.PASSED, 10);
+        RunHistoryStore.flush();
+        RunHistoryStore.record(recentPass, Outcome.PASSED, 10);
+        RunHistoryStore.record(recentFail, Outcome.FAILED, 10);
+        RunHistoryStore.flush();
+
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.failureProbability(recentPass), 1.8 / 3.8, 1e-9);
+        Assert.assertEquals(store.failureProbability(recentFail), 2.0 / 3.8, 1e-9);
+        Assert.assertEquals(store.failureProbability("com.automation.tests.A#unknown"), 0.5, 1e-9);
+        Assert.assertEquals(store.getAverageDurationMillis("com.automation.tests.A#unknown"), -1);
+    }
+
+    @Test(description = "Verify a record torn by a killed fork is dropped and later appends stay readable")
+    public void testTornRecord() throws IOException {
+        RunHistoryStore.record(TEST_ID, Outcome.PASSED, 10);
+        RunHistoryStore.flush();
+        long intact = Files.size(history);
+        Files.write(history, new byte[] {0, 20, 'c', 'o', 'm'}, StandardOpenOption.APPEND);
+
+        RunHistoryStore.record(TEST_ID, Outcome.FAILED, 10);
+        RunHistoryStore.flush();
+        Assert.assertEquals(Files.size(history), intact + recordSize(TEST_ID));
+
+        RunHistoryStore.record(TEST_ID, Outcome.PASSED, 10);
+        RunHistoryStore.flush();
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.getRunCount(TEST_ID), 3);
+        Assert.assertEquals(store.getConsecutiveFailures(TEST_ID), 0);
+    }
+
+    @Test(description = "Verify a record with a malformed id is dropped with the rest of the log after it")
+    public void testMalformedRecord() throws IOException {
+        RunHistoryStore.record(TEST_ID, Outcome.PASSED, 10);
+        RunHistoryStore.flush();
+        long intact = Files.size(history);
+        Files.write(history, new byte[] {0, 1, (byte) 0x80, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, StandardOpenOption.APPEND);
+
+        RunHistoryStore.record(TEST_ID, Outcome.FAILED, 10);
+        RunHistoryStore.flush();
+        Assert.assertEquals(Files.size(history), intact + recordSize(TEST_ID));
+        Assert.assertEquals(RunHistoryStore.getInstance().getRunCount(TEST_ID), 2);
+        Assert.assertEquals(RunHistoryStore.getInstance().getConsecutiveFailures(TEST_ID), 1);
+    }
+
+    @Test(description = "Verify the log is compacted to the window once it holds twice that")
+    public void testCompaction() throws IOException {
+        System.setProperty("flaky.window", "3");
+        for (int run = 0; run < 6; run++) {
+            RunHistoryStore.record(TEST_ID, Outcome.PASSED, 10);
+            RunHistoryStore.flush();
+        }
+        Assert.assertEquals(Files.size(history), Integer.BYTES + 6 * recordSize(TEST_ID));
+
+        RunHistoryStore.record(TEST_ID, Outcome.FAILED, 10);
+        RunHistoryStore.flush();
+        Assert.assertEquals(Files.size(history), Integer.BYTES + 3 * recordSize(TEST_ID));
+        RunHistoryStore store = RunHistoryStore.getInstance();
+        Assert.assertEquals(store.getRunCount(TEST_ID), 3);
+        Assert.assertEquals(store.getConsecutiveFailures(TEST_ID), 1, "the latest run survives compaction");
+    }
+
+    @Test(description = "Verify a file that is not a run history is replaced")
+    public void testForeignFile() throws IOException {
+        Files.write(history, "not a history".getBytes(StandardCharsets.UTF_8));
+        RunHistoryStore.record(TEST_ID, Outcome.PASSED, 10);
+        RunHistoryStore.flush();
+        Assert.assertEquals(Files.size(history), Integer.BYTES + recordSize(TEST_ID));
+        Assert.assertEquals(RunHistoryStore.getInstance().getRunCount(TEST_ID), 1);
+    }
+
+    @Test(description = "Verify the report lists scores in the testData.json format and known flaky tests are flagged")
+    @SuppressWarnings("unchecked")
+    public void testReport() throws IOException {
+        Path known = directory.resolve("testData.json");
+        Path report = directory.resolve("flakiness.json");
+        Files.writeString(known, "{\"testCases\": [{\"testCase\": \"LoginTest#login\", \"isFlaky\": true}]}", StandardCharsets.UTF_8);
+        System.setProperty("flaky.known.file", known.toString());
+        System.setProperty("flaky.report.file", report.toString());
+
+        RunHistoryStore.record(TEST_ID, Outcome.RETRIED, 10);
+        RunHistoryStore.record(TEST_ID, Outcome.PASSED, 10);
+        RunHistoryStore.flush();
+
+        Map<String, Object> data = new Json().toType(Files.readString(report, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        List<Map<String, Object>> testCases = (List<Map<String, Object>>) data.get("testCases");
+        Assert.assertEquals(testCases.size(), 1);
+        Map<String, Object> testCase = testCases.get(0);
+        Assert.assertEquals(testCase.get("testCase"), TEST_ID);
+        Assert.assertEquals(testCase.get("testCaseFilePath"), "com/automation/tests/LoginTest.java");
+        Assert.assertEquals(testCase.get("isFlaky"), true);
+        Assert.assertEquals(testCase.get("result"), "Passed");
+        Assert.assertEquals(((Number) testCase.get("runs")).intValue(), 1);
+        Assert.assertEquals(((Number) testCase.get("passedOnRetry")).intValue(), 1);
+    }
+
+    /**
+     * Size of one record: modified UTF-8 id with its length, time, outcome and duration
+     */
+    private static int recordSize(String testId) {
+        return Short.BYTES + testId.length() + Long.BYTES + Byte.BYTES + Integer.BYTES;
+    }
+}
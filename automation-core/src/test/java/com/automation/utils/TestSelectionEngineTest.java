@@ -0,0 +1,259 @@
+package com.automation.utils;
+
+import com.automation.utils.TestSelectionEngine.Change;
+import com.automation.utils.TestSelectionEngine.Selection;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * TestSelectionEngine unit tests
+ * Selection runs against a miniature repository written to a temporary directory: two TestNG tests,
+ * their page objects, cucumber glue with two features, a route file and an impact map
+ */
+public class TestSelectionEngineTest {
+
+    private static final String USERS_TEST = "com.automation.tests.UsersTest";
+    private static final String HOME_TEST = "com.automation.tests.HomeTest";
+
+    private Path root;
+    private TestSelectionEngine engine;
+
+    @BeforeClass
+    public void createRepository() throws IOException {
+        root = Files.createTempDirectory("selection");
+        write("testng-automation/src/test/java/com/automation/tests/UsersTest.java",
+                "package com.automation.tests;",
+                "public class UsersTest {",
+                "    @Test public void list() { new UsersPage(driver).open(); }",
+                "    @Test public void add() { }",
+                "}");
+        write("testng-automation/src/test/java/com/automation/tests/HomeTest.java",
+                "package com.automation.tests;",
+                "// UsersPage is only mentioned in this comment",
+                "public class HomeTest {",
+                "    @Test public void load() { new HomePage(driver); String s = \"UsersPage\"; }",
+                "}");
+        write("testng-automation/src/test/java/com/automation/tests/TestData.java",
+                "package com.automation.tests;",
+                "public class TestData { }");
+        write("testng-automation/src/main/java/com/automation/pages/UsersPage.java", "public class UsersPage { }");
+        write("testng-automation/src/main/java/com/automation/pages/HomePage.java", "public class HomePage { }");
+        write("cucumber-automation/src/test/java/com/automation/steps/UserSteps.java",
+                "public class UserSteps {",
+                "    @Given(\"I open the users page\") public void open() { new UsersScreen(); }",
+                "    @When(\"I add {int} user(s)\") public void add(int count) { }",
+                "}");
+        write("cucumber-automation/src/test/java/com/automation/steps/HomeSteps.java",
+                "public class HomeSteps {",
+                "    @Given(\"^I am on the (home|start) page$\") public void home() { }",
+                "}");
+        write("cucumber-automation/src/test/java/com/automation/screens/UsersScreen.java", "public class UsersScreen { }");
+        write("cucumber-automation/src/test/resources/features/users.feature",
+                "Feature: Users",
+                "  Scenario Outline: Add",
+                "    Given I open the users page",
+                "    When I add <count> users");
+        write("cucumber-automation/src/test/resources/features/home.feature",
+                "Feature: Home",
+                "  Scenario: Load",
+                "    Given I am on the start page");
+        write("server/index.js",
+                "const app = express();",
+                "app.get('/api/users', (req, res) => {",
+                "  res.json(users);",
+                "});",
+                "app.get('/api/orders', (req, res) => {",
+                "  res.json(orders);",
+                "});");
+        write("test-impact.properties",
+                "selection.route.files=server/index.js",
+                "selection.full.run=pom.xml,automation-core/**",
+                "selection.ignore=*.md,**/*.md",
+                "selection.safety=HomeTest",
+                "area.users.sources=client/src/components/users/**",
+                "area.users.routes=/api/users",
+                "area.users.pages=UsersPage,UsersScreen");
+        engine = TestSelectionEngine.load(root, root.resolve("test-impact.properties"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteRepository() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(description = "Verify a client change selects the area's tests and features plus the safety set")
+    public void testAreaSourceChange() {
+        Selection selection = engine.select(changes("client/src/components/users/UserList.js"));
+        Assert.assertNull(selection.getFullRun());
+        Assert.assertEquals(selection.getTests().keySet(), set(USERS_TEST, HOME_TEST));
+        Assert.assertEquals(selection.getTests().get(HOME_TEST), "safety set");
+        Assert.assertEquals(selection.getFeatures().keySet(), set("users.feature"));
+    }
+
+    @Test(description = "Verify a page object change selects only the tests that use it in code")
+    public void testPageChange() {
+        Selection selection = engine.select(changes("testng-automation/src/main/java/com/automation/pages/UsersPage.java"));
+        Assert.assertNull(selection.getFullRun());
+        Assert.assertEquals(selection.getTests().get(USERS_TEST), "uses UsersPage");
+        Assert.assertEquals(selection.getTests().get(HOME_TEST), "safety set", "comments and string literals are not uses");
+    }
+
+    @Test(description = "Verify a glue change selects the features whose steps reach it")
+    public void testGlueChange() {
+        Selection selection = engine.select(changes("cucumber-automation/src/test/java/com/automation/screens/UsersScreen.java"));
+        Assert.assertEquals(selection.getFeatures().keySet(), set("users.feature"));
+
+        selection = engine.select(changes("cucumber-automation/src/test/java/com/automation/steps/HomeSteps.java"));
+        Assert.assertEquals(selection.getFeatures().keySet(), set("home.feature"));
+    }
+
+    @Test(description = "Verify ignored paths select only the safety set")
+    public void testIgnoredChange() {
+        Selection selection = engine.select(changes("README.md", "docs/guide.md"));
+        Assert.assertNull(selection.getFullRun());
+        Assert.assertEquals(selection.getTests().keySet(), set(HOME_TEST));
+        Assert.assertTrue(selection.getFeatures().isEmpty());
+    }
+
+    @Test(description = "Verify shared files and paths without a rule select everything")
+    public void testFullRun() {
+        Selection selection = engine.select(changes("automation-core/src/main/java/Foo.java"));
+        Assert.assertEquals(selection.getFullRun(), "automation-core/src/main/java/Foo.java is shared by all tests");
+        Assert.assertEquals(selection.getTests().keySet(), set(USERS_TEST, HOME_TEST));
+        Assert.assertEquals(selection.getFeatures().keySet(), set("users.feature", "home.feature"));
+
+        selection = engine.select(changes("client/src/unknown.js"));
+        Assert.assertEquals(selection.getFullRun(), "no impact rule for client/src/unknown.js");
+    }
+
+    @Test(description = "Verify changed route lines map to the route declared on or above them")
+    public void testRouteChange() {
+        Selection selection = engine.select(routeChange(3));
+        Assert.assertNull(selection.getFullRun());
+        Assert.assertTrue(selection.getTests().get(USERS_TEST).contains("changes /api/users"));
+
+        Assert.assertEquals(engine.select(routeChange(6)).getFullRun(),
+                "server/index.js:6 changes /api/orders, which no area covers");
+        Assert.assertEquals(engine.select(routeChange(1)).getFullRun(), "server/index.js:1 is outside any route");
+    }
+
+    @Test(description = "Verify hunks, pure deletions, new, deleted and renamed files are parsed from a diff")
+    public void testParseDiff() {
+        List<Change> changes = TestSelectionEngine.parseDiff(Arrays.asList(
+                "diff --git a/server/index.js b/server/index.js",
+                "--- a/server/index.js",
+                "+++ b/server/index.js",
+                "@@ -2,0 +3,2 @@ app.get",
+                "@@ -10 +12 @@",
+                "@@ -20,3 +21,0 @@",
+                "diff --git a/new.js b/new.js",
+                "new file mode 100644",
+                "--- /dev/null",
+                "+++ b/new.js",
+                "@@ -0,0 +1,2 @@",
+                "diff --git a/gone.js b/gone.js",
+                "deleted file mode 100644",
+                "--- a/gone.js",
+                "+++ /dev/null",
+                "@@ -1,2 +0,0 @@",
+                "diff --git a/old/name.js b/new/name.js",
+                "similarity index 100%",
+                "rename from old/name.js",
+                "rename to new/name.js"));
+
+        Assert.assertEquals(changes.size(), 4);
+        Assert.assertEquals(changes.get(0).getPath(), "server/index.js");
+        Assert.assertEquals(changes.get(0).getLines(), set(3, 4, 12, 21));
+        Assert.assertEquals(changes.get(1).getLines(), set(1, 2));
+        Assert.assertFalse(changes.get(1).isDeleted());
+        Assert.assertTrue(changes.get(2).isDeleted());
+        Assert.assertEquals(changes.get(3).getPath(), "new/name.js");
+        Assert.assertTrue(changes.get(3).getLines().isEmpty(), "a pure rename changes the file as a whole");
+    }
+
+    @Test(description = "Verify renamed files with edits mark the old path deleted")
+    public void testParseDiffRenameWithEdits() {
+        List<Change> changes = TestSelectionEngine.parseDiff(Arrays.asList(
+                "diff --git a/old.js b/new.js",
+                "--- a/old.js",
+                "+++ b/new.js",
+                "@@ -1 +1 @@"));
+        Assert.assertEquals(changes.size(), 2);
+        Assert.assertEquals(changes.get(0).getPath(), "new.js");
+        Assert.assertEquals(changes.get(1).getPath(), "old.js");
+        Assert.assertTrue(changes.get(1).isDeleted());
+    }
+
+    @Test(description = "Verify cucumber expressions match step text and Scenario Outline placeholders")
+    public void testExpressionPattern() {
+        Pattern add = TestSelectionEngine.expressionPattern("I add {int} user(s) named {string}");
+        Assert.assertTrue(add.matcher("I add 3 users named \"Ann\"").matches());
+        Assert.assertTrue(add.matcher("I add 1 user named 'Ann'").matches());
+        Assert.assertTrue(add.matcher("I add <count> users named <name>").matches());
+        Assert.assertFalse(add.matcher("I add many users named \"Ann\"").matches());
+
+        Pattern price = TestSelectionEngine.expressionPattern("the price is {float} in {word}");
+        Assert.assertTrue(price.matcher("the price is 9.99 in EUR").matches());
+        Assert.assertTrue(TestSelectionEngine.expressionPattern("^I am on the (home|start) page$").matcher("I am on the home page").matches());
+        Assert.assertTrue(TestSelectionEngine.expressionPattern("a.b {}").matcher("a.b anything").matches());
+        Assert.assertFalse(TestSelectionEngine.expressionPattern("a.b").matcher("axb").matches(), "literal text is quoted");
+    }
+
+    @Test(description = "Verify recorded method durations are summed per class and unreadable entries skipped")
+    public void testClassDurations() throws IOException {
+        Path history = root.resolve("durations.properties");
+        Files.write(history, Arrays.asList("a.A#one=100", "a.A#two=250", "b.B#one=oops", "c.C=40"), StandardCharsets.UTF_8);
+        Map<String, Long> durations = TestSelectionEngine.classDurations(history);
+        Assert.assertEquals(durations.get("a.A"), Long.valueOf(350));
+        Assert.assertFalse(durations.containsKey("b.B"));
+        Assert.assertEquals(durations.get("c.C"), Long.valueOf(40));
+        Assert.assertTrue(TestSelectionEngine.classDurations(root.resolve("missing.properties")).isEmpty());
+    }
+
+    private List<Change> routeChange(int line) {
+        return TestSelectionEngine.parseDiff(Arrays.asList(
+                "diff --git a/server/index.js b/server/index.js",
+                "--- a/server/index.js",
+                "+++ b/server/index.js",
+                "@@ -" + line + " +" + line + " @@"));
+    }
+
+    private static List<Change> changes(String... paths) {
+        List<Change> changes = new ArrayList<>();
+        for (String path : paths) {
+            changes.add(new Change(path));
+        }
+        return changes;
+    }
+
+    @SafeVarargs
+    private static <T> Set<T> set(T... values) {
+        return new TreeSet<>(Arrays.asList(values));
+    }
+
+    private void write(String path, String... lines) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,50 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * XPathToCss unit tests
+ * Covers the XPath subset page objects use and the constructs that must stay XPath
+ */
+public class XPathToCssTest {
+
+    @DataProvider
+    public Object[][] convertible() {
+        return new Object[][] {
+                {"//div[@id='main']", "div[id='main']"},
+                {"//button[contains(@class,'btn')]", "button[class*='btn']"},
+                {"//div//span[starts-with(@data-x,'ab')]", "div span[data-x^='ab']"},
+                {"//ul/li[1]", "ul > li:nth-of-type(1)"},
+                {"//input[@type='text' and @name='q']", "input[type='text'][name='q']"},
+                {"//input[@name='q' or @id='q']", "input[name='q'], input[id='q']"},
+                {"//*[@data-testid='a'] | //span", "*[data-testid='a'], span"},
+        };
+    }
+
+    @Test(dataProvider = "convertible", description = "Verify supported XPath converts to the equivalent CSS")
+    public void testConvert(String xpath, String css) {
+        Assert.assertEquals(XPathToCss.convert(xpath), css);
+    }
+
+    @DataProvider
+    public Object[][] notConvertible() {
+        return new Object[][] {
+                {"//a[text()='Save']"},
+                {"//div/following-sibling::p"},
+                {"//span/.."},
+                {"(//div)[2]"},
+        };
+    }
+
+    @Test(dataProvider = "notConvertible", description = "Verify XPath CSS cannot express is reported as not convertible")
+    public void testNotConvertible(String xpath) {
+        Assert.assertNull(XPathToCss.convert(xpath), xpath);
+    }
+
+    @Test(description = "Verify a union inside a string literal is not split")
+    public void testBarInsideLiteral() {
+        Assert.assertEquals(XPathToCss.convert("//a[@title='a | b']"), "a[title='a | b']");
+    }
+}
@@ -2,6 +2,7 @@ package com.automation.businessLayer;
 
 import com.automation.screens.Product_ManagementScreen;
 import com.automation.screens.UserManagementScreen;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import com.automation.utils.LogCapture;
 import org.testng.Assert;
@@ -133,7 +134,7 @@ public class Product_ManagementBL {
     }
     
     public void verifyProductInList() {
-        Map<String, String> product = (Map<String, String>) ContextStore.get("PRODUCT_DETAILS");
+        Map<String, String> product = ContextStore.get(ContextKeys.PRODUCT_DETAILS);
         String productName = product.get("Name");
         LogCapture.addStepLog("Verification", "Verifying product in list: " + productName);
         System.out.println("BL: Verifying product appears in list: " + productName);
@@ -422,7 +423,7 @@ public class Product_ManagementBL {
     }
 
     public void verifyDefaultProductDetails() {
-        List<Map<String, String>> products = (List<Map<String, String>> ) ContextStore.get("DEFAULT_PRODUCT_DETAILS");
+        List<Map<String, String>> products = ContextStore.get(ContextKeys.DEFAULT_PRODUCT_DETAILS);
         for (int i = 1; i < products.size(); i++) {
             Map<String, String> expectedProduct = products.get(i-1);
 
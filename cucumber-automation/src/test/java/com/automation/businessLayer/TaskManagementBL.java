@@ -2,6 +2,7 @@ package com.automation.businessLayer;
 
 import com.automation.screens.TaskManagementScreen;
 import com.automation.screens.UserManagementScreen;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
@@ -105,7 +106,7 @@ public class TaskManagementBL {
     
 
     public void verifyTaskAppearsInList() {
-        String taskTitle = (String) ContextStore.get("TASK_TITLE");
+        String taskTitle = ContextStore.get(ContextKeys.TASK_TITLE);
         taskManagementScreen.verifiesTaskAddedInList(taskTitle);
     }
 
@@ -118,7 +119,7 @@ public class TaskManagementBL {
     }
 
     private void completedCreatedTask() {
-        String taskTitle = (String) ContextStore.get("TASK_TITLE");
+        String taskTitle = ContextStore.get(ContextKeys.TASK_TITLE);
         boolean isTaskCompleted = taskManagementScreen
                 .userSubmitsTheTask(taskTitle)
                 .isTaskCompleted(taskTitle);
@@ -197,32 +198,33 @@ public class TaskManagementBL {
             String title = task.get("title");
             String priority = task.get("priority");
             
+            int tasksBefore = taskManagementScreen.getTaskCount();
             taskManagementScreen.enterTaskTitle(title);
             taskManagementScreen.selectPriorityLevel(priority+ " Priority");
             taskManagementScreen.clickAddTaskButton();
             
-            // Wait a moment for the task to be added before creating the next one
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            // Wait for the task to be added before creating the next one
+            taskManagementScreen.waitForTaskCountToChange(tasksBefore);
         }
     }
     
     public void verifyPriorityBadgesDisplayCorrectly() {
-        List<Map<String, String>> taskData = (List<Map<String, String>>) ContextStore.get("TASK_DATA");
+        List<Map<String, String>> taskData = ContextStore.get(ContextKeys.TASK_DATA);
+        Map<String, Map<String, String>> displayedTasks = taskManagementScreen.readTaskPriorities();
 
         for (Map<String, String> task : taskData) {
             String title = task.get("title");
             String priority = task.get("priority");
 
-            String badge = taskManagementScreen.getPriorityBadgeForTask(title);
+            Map<String, String> displayedTask = displayedTasks.get(title);
+            Assert.assertNotNull(displayedTask, "Task " + title + " is not displayed in the task list");
+            String badge = displayedTask.get("priority");
+            Assert.assertNotNull(badge, "Priority badge is not displayed for task " + title);
             String actualBadge = badge.substring(0,1).toUpperCase() + badge.substring(1).toLowerCase();
             Assert.assertEquals(actualBadge, priority,"Priority badge is not setup correctly for task " + title);
 
             String expectedColorOfPriorityBadge = this.getExpectedColorOfPriorityBadge(priority);
-            String actualColorOfPriorityBadge = taskManagementScreen.getColourOfPriroityBadge(title);
+            String actualColorOfPriorityBadge = displayedTask.get("priorityColor");
 
             SoftAssert softAssert = new SoftAssert();
             softAssert.assertEquals(actualColorOfPriorityBadge,expectedColorOfPriorityBadge,
@@ -259,18 +261,19 @@ public class TaskManagementBL {
     }
     
     public void verifyPriorityColorsAndStyling() {
-        List<WebElement> priorityBadges = taskManagementScreen.getPriorityBadges();
+        List<Map<String, String>> priorityBadges = taskManagementScreen.readPriorityBadges();
         
-        for (WebElement badge : priorityBadges) {
-            String badgeText = badge.getText();
+        for (Map<String, String> badge : priorityBadges) {
+            String badgeText = badge.get("text");
+            String badgeClass = badge.get("class");
             if (badgeText.contains("High")) {
-                Assert.assertTrue(taskManagementScreen.verifyPriorityBadgeColor("high", badge), 
+                Assert.assertTrue(taskManagementScreen.verifyPriorityBadgeColor("high", badgeClass, badgeText), 
                     "High priority badge should have appropriate styling");
             } else if (badgeText.contains("Medium")) {
-                Assert.assertTrue(taskManagementScreen.verifyPriorityBadgeColor("medium", badge), 
+                Assert.assertTrue(taskManagementScreen.verifyPriorityBadgeColor("medium", badgeClass, badgeText), 
                     "Medium priority badge should have appropriate styling");
             } else if (badgeText.contains("Low")) {
-                Assert.assertTrue(taskManagementScreen.verifyPriorityBadgeColor("low", badge), 
+                Assert.assertTrue(taskManagementScreen.verifyPriorityBadgeColor("low", badgeClass, badgeText), 
                     "Low priority badge should have appropriate styling");
             }
         }
@@ -373,13 +376,10 @@ public class TaskManagementBL {
         if (currentCount < 3) {
             // Create additional tasks for bulk operations
             for (int i = currentCount; i < 3; i++) {
+                int tasksBefore = taskManagementScreen.getTaskCount();
                 createNewTask("Bulk Test Task " + (i + 1), "Medium");
                 clickAddTaskButton();
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                taskManagementScreen.waitForTaskCountToChange(tasksBefore);
             }
         }
     }
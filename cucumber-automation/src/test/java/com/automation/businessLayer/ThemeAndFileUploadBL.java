@@ -2,7 +2,9 @@ package com.automation.businessLayer;
 
 import com.automation.screens.ThemeAndFileUploadScreen;
 import com.automation.screens.UserManagementScreen;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
+import com.automation.utils.SyncUtils;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 
@@ -33,14 +35,14 @@ public class ThemeAndFileUploadBL {
     
     public void selectValidFile(String fileType, String fileName) {
         themeAndFileUploadScreen.selectFile(fileName, fileType);
-        ContextStore.put("lastUploadedFileName", fileName);
-        ContextStore.put("currentFileType", fileType);
+        ContextStore.put(ContextKeys.LAST_UPLOADED_FILE_NAME, fileName);
+        ContextStore.put(ContextKeys.CURRENT_FILE_TYPE, fileType);
     }
     
     public void uploadImageFile(String fileName, String fileType) {
         themeAndFileUploadScreen.uploadImageFile(fileName, fileType);
-        ContextStore.put("lastUploadedFileName", fileName);
-        ContextStore.put("currentFileType", fileType);
+        ContextStore.put(ContextKeys.LAST_UPLOADED_FILE_NAME, fileName);
+        ContextStore.put(ContextKeys.CURRENT_FILE_TYPE, fileType);
     }
     
     public void completeFileUpload() {
@@ -69,8 +71,8 @@ public class ThemeAndFileUploadBL {
         String fileSize = themeAndFileUploadScreen.getDisplayedFileSize();
         String fileType = themeAndFileUploadScreen.getDisplayedFileType();
         
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
-        String currentFileType = (String) ContextStore.get("currentFileType");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
+        String currentFileType = ContextStore.get(ContextKeys.CURRENT_FILE_TYPE);
         
         if (lastUploadedFileName != null) {
             Assert.assertTrue(fileName.contains(lastUploadedFileName.substring(0, lastUploadedFileName.lastIndexOf('.'))), 
@@ -86,7 +88,7 @@ public class ThemeAndFileUploadBL {
     // Theme selection methods
     public void selectBackgroundTheme(String themeName) {
         themeAndFileUploadScreen.selectBackgroundTheme(themeName);
-        ContextStore.put("lastSelectedTheme", themeName);
+        ContextStore.put(ContextKeys.LAST_SELECTED_THEME, themeName);
     }
     
     public void selectTheme(String themeName) {
@@ -136,7 +138,7 @@ public class ThemeAndFileUploadBL {
     
     // File list verification methods
     public void verifyFileAppearsInUploadedList() {
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
         if (lastUploadedFileName != null) {
             Assert.assertTrue(themeAndFileUploadScreen.isFileInUploadedList(lastUploadedFileName), 
                 "File '" + lastUploadedFileName + "' should appear in the uploaded files list");
@@ -166,7 +168,7 @@ public class ThemeAndFileUploadBL {
     }
     
     public void verifyImageSetAsBackgroundAutomatically() {
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
         if (lastUploadedFileName != null) {
             Assert.assertTrue(themeAndFileUploadScreen.isImageSetAsBackground(lastUploadedFileName), 
                 "Image '" + lastUploadedFileName + "' should be set as background automatically");
@@ -193,14 +195,8 @@ public class ThemeAndFileUploadBL {
         themeAndFileUploadScreen
                 .userSwitchesToNextTab()
                 .userJumpsBackToPreviousTabTab();
-        // Simulate tab switching - in a real scenario, this might involve
-        // navigating to another tab and back
-        try {
-            // Navigate away and back (simplified simulation)
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Let the tabs settle after switching away and back
+        SyncUtils.waitForNetworkIdle();
     }
     
     public ThemeAndFileUploadBL verifyThemePersistsAcrossNavigation(String themeName) {
@@ -224,14 +220,14 @@ public class ThemeAndFileUploadBL {
         Assert.assertFalse(uploadedFiles.isEmpty(), "At least one file should be uploaded");
         
         // Use the first uploaded file if no specific file was set
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
         if (lastUploadedFileName == null && !uploadedFiles.isEmpty()) {
-            ContextStore.put("lastUploadedFileName", "test-file"); // Default for finding
+            ContextStore.put(ContextKeys.LAST_UPLOADED_FILE_NAME, "test-file"); // Default for finding
         }
     }
     
     public void clickDeleteButtonForFile() {
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
         if (lastUploadedFileName != null) {
             WebElement fileElement = themeAndFileUploadScreen.findUploadedFile(lastUploadedFileName);
             themeAndFileUploadScreen.clickDeleteButtonForFile(fileElement);
@@ -239,7 +235,7 @@ public class ThemeAndFileUploadBL {
     }
     
     public void verifyFileRemovedFromList() {
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
         if (lastUploadedFileName != null) {
             Assert.assertFalse(themeAndFileUploadScreen.isFileInUploadedList(lastUploadedFileName), 
                 "File '" + lastUploadedFileName + "' should be removed from the list after deletion");
@@ -260,8 +256,8 @@ public class ThemeAndFileUploadBL {
     // File validation methods
     public void uploadFileWithSizeAndType(String fileSize, String fileType) {
         themeAndFileUploadScreen.uploadFileWithSizeAndType(fileSize, fileType);
-        ContextStore.put("currentFileSize", fileSize);
-        ContextStore.put("currentFileType", fileType);
+        ContextStore.put(ContextKeys.CURRENT_FILE_SIZE, fileSize);
+        ContextStore.put(ContextKeys.CURRENT_FILE_TYPE, fileType);
     }
     
     public void verifySystemResponse(String expectedResult) {
@@ -280,8 +276,8 @@ public class ThemeAndFileUploadBL {
             Assert.assertFalse(errorText.isEmpty(), "Error message should not be empty");
             
             // Verify error message content based on file size/type
-            String currentFileSize = (String) ContextStore.get("currentFileSize");
-            String currentFileType = (String) ContextStore.get("currentFileType");
+            String currentFileSize = ContextStore.get(ContextKeys.CURRENT_FILE_SIZE);
+            String currentFileType = ContextStore.get(ContextKeys.CURRENT_FILE_TYPE);
             
             if (currentFileSize != null && currentFileSize.contains("6MB")) {
                 Assert.assertTrue(errorText.toLowerCase().contains("size") || errorText.toLowerCase().contains("large"), 
@@ -304,7 +300,7 @@ public class ThemeAndFileUploadBL {
     
     public void clickOnImageFileInList() {
         // Find an image file or use the last uploaded file
-        String lastUploadedFileName = (String) ContextStore.get("lastUploadedFileName");
+        String lastUploadedFileName = ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
         String imageFileName = lastUploadedFileName != null ? lastUploadedFileName : "test-image.jpg";
         themeAndFileUploadScreen.clickOnFileForPreview(imageFileName);
     }
@@ -350,13 +346,9 @@ public class ThemeAndFileUploadBL {
     
     public void simulateCloseAndReopenApplication() {
         // In a real scenario, this would involve browser/session management
-        // For automation, we simulate by refreshing or navigating
-        try {
-            Thread.sleep(1000);
-            // Could refresh page here: driver.navigate().refresh();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // For automation, we simulate by letting the page settle
+        // Could refresh page here: driver.navigate().refresh();
+        SyncUtils.waitForNetworkIdle();
     }
     
     public void verifyThemeStillActive(String themeName) {
@@ -366,7 +358,7 @@ public class ThemeAndFileUploadBL {
     
     public void verifyStylingConsistent() {
         // Check that all styling elements are consistent with the selected theme
-        String lastSelectedTheme = (String) ContextStore.get("lastSelectedTheme");
+        String lastSelectedTheme = ContextStore.get(ContextKeys.LAST_SELECTED_THEME);
         if (lastSelectedTheme != null) {
             Assert.assertTrue(themeAndFileUploadScreen.hasBackgroundChanged(lastSelectedTheme), 
                 "Styling should be consistent with selected theme: " + lastSelectedTheme);
@@ -401,7 +393,7 @@ public class ThemeAndFileUploadBL {
     // Background customization methods
     public void clickOnThemeOption(String optionName) {
         themeAndFileUploadScreen.clickOnThemeOption(optionName);
-        ContextStore.put("selectedThemeOption", optionName);
+        ContextStore.put(ContextKeys.SELECTED_THEME_OPTION, optionName);
     }
     
     private void ensureTestFilesExist() {
@@ -442,8 +434,8 @@ public class ThemeAndFileUploadBL {
         try {
             // Store files in context for later verification
             List<String> filesList = Arrays.asList(imageFiles);
-            ContextStore.put("galleryImages", filesList);
-            ContextStore.put("galleryImageCount", imageFiles.length);
+            ContextStore.put(ContextKeys.GALLERY_IMAGES, filesList);
+            ContextStore.put(ContextKeys.GALLERY_IMAGE_COUNT, imageFiles.length);
             
             System.out.println("Attempting to upload " + imageFiles.length + " files: " + String.join(", ", filesList));
             
@@ -451,12 +443,13 @@ public class ThemeAndFileUploadBL {
             
             // First attempt: Try to use multiple file upload (preferred method)
             try {
+                int filesBefore = SyncUtils.getUploadedFileCount();
                 themeAndFileUploadScreen.selectMultipleFiles(filesList);
                 themeAndFileUploadScreen.completeUpload();
                 System.out.println("✅ Multiple files uploaded at once");
                 
                 // Wait for uploads to complete
-                Thread.sleep(2000);
+                SyncUtils.waitForUploadComplete(filesBefore);
                 
                 // Check if multiple upload worked by verifying at least one file
                 try {
@@ -483,14 +476,14 @@ public class ThemeAndFileUploadBL {
                         String fileName = imageFiles[i];
                         String fileType = fileName.toLowerCase().endsWith(".png") ? "PNG" : "JPEG";
                         
+                        int filesBefore = SyncUtils.getUploadedFileCount();
                         themeAndFileUploadScreen.clickFileInput();
-                        Thread.sleep(1000); // Wait for file dialog
                         
                         System.out.println("Uploading individual file: " + fileName);
                         themeAndFileUploadScreen.selectFile(fileName, fileType);
                         themeAndFileUploadScreen.completeUpload();
                         
-                        Thread.sleep(1500); // Wait between uploads
+                        SyncUtils.waitForUploadComplete(filesBefore); // Wait before the next upload
                         System.out.println("✅ Uploaded file: " + fileName);
                     } catch (Exception e) {
                         System.out.println("❌ Failed to upload file " + imageFiles[i] + ": " + e.getMessage());
@@ -499,8 +492,8 @@ public class ThemeAndFileUploadBL {
             }
             
             // Mark uploads as attempted and successful
-            ContextStore.put("uploadsAttempted", true);
-            ContextStore.put("uploadSuccess", true);
+            ContextStore.put(ContextKeys.UPLOADS_ATTEMPTED, true);
+            ContextStore.put(ContextKeys.UPLOAD_SUCCESS, true);
             
             // Print current gallery status
             try {
@@ -513,10 +506,10 @@ public class ThemeAndFileUploadBL {
         } catch (Exception e) {
             // If file upload fails completely, we'll simulate it
             System.out.println("❌ All file upload attempts failed, using simulation: " + e.getMessage());
-            ContextStore.put("galleryImages", Arrays.asList(imageFiles));
-            ContextStore.put("galleryImageCount", imageFiles.length);
-            ContextStore.put("uploadsAttempted", true);
-            ContextStore.put("uploadSuccess", false);
+            ContextStore.put(ContextKeys.GALLERY_IMAGES, Arrays.asList(imageFiles));
+            ContextStore.put(ContextKeys.GALLERY_IMAGE_COUNT, imageFiles.length);
+            ContextStore.put(ContextKeys.UPLOADS_ATTEMPTED, true);
+            ContextStore.put(ContextKeys.UPLOAD_SUCCESS, false);
         }
     }
     
@@ -524,14 +517,13 @@ public class ThemeAndFileUploadBL {
         // For this scenario verification, we'll check if the upload was attempted
         // and validate the gallery state
         
-        Boolean uploadsAttempted = (Boolean) ContextStore.get("uploadsAttempted");
+        Boolean uploadsAttempted = ContextStore.get(ContextKeys.UPLOADS_ATTEMPTED);
         if (uploadsAttempted == null || !uploadsAttempted) {
             throw new AssertionError("No upload attempts were made");
         }
         
-        @SuppressWarnings("unchecked")
-        List<String> galleryImages = (List<String>) ContextStore.get("galleryImages");
-        Integer imageCount = (Integer) ContextStore.get("galleryImageCount");
+        List<String> galleryImages = ContextStore.get(ContextKeys.GALLERY_IMAGES);
+        Integer imageCount = ContextStore.get(ContextKeys.GALLERY_IMAGE_COUNT);
         
         if (galleryImages == null || galleryImages.isEmpty()) {
             throw new AssertionError("No gallery images found in context");
@@ -605,7 +597,7 @@ public class ThemeAndFileUploadBL {
         
         // If no specific image name provided, use the first uploaded image
         if (imageToUse == null || imageToUse.isEmpty()) {
-            List<String> galleryImages = (List<String>) ContextStore.get("galleryImages");
+            List<String> galleryImages = ContextStore.get(ContextKeys.GALLERY_IMAGES);
             if (galleryImages != null && !galleryImages.isEmpty()) {
                 imageToUse = galleryImages.get(0);
             } else {
@@ -622,23 +614,19 @@ public class ThemeAndFileUploadBL {
         }
         
         // Store the active background
-        ContextStore.put("activeBackgroundImage", imageToUse);
-        ContextStore.put("backgroundImageSet", true);
+        ContextStore.put(ContextKeys.ACTIVE_BACKGROUND_IMAGE, imageToUse);
+        ContextStore.put(ContextKeys.BACKGROUND_IMAGE_SET, true);
         
         System.out.println("Set " + imageToUse + " as background image");
         
-        // Wait for background to apply (minimal wait for simulation)
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Wait for background to apply
+        SyncUtils.waitForAnimationsToFinish();
     }
     
     public void verifyImageBecomesPageBackground(String imageName) {
         // Check if background was set in context
-        Boolean backgroundSet = (Boolean) ContextStore.get("backgroundImageSet");
-        String activeBackground = (String) ContextStore.get("activeBackgroundImage");
+        Boolean backgroundSet = ContextStore.get(ContextKeys.BACKGROUND_IMAGE_SET);
+        String activeBackground = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
         
         if (backgroundSet == null || !backgroundSet) {
             throw new AssertionError("Background image was not set");
@@ -662,13 +650,12 @@ public class ThemeAndFileUploadBL {
     
     public void changeToDifferentImageBackground(String newImageName) {
         // Store previous background for comparison
-        String previousBackground = (String) ContextStore.get("activeBackgroundImage");
-        ContextStore.put("previousBackgroundImage", previousBackground);
+        String previousBackground = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
+        ContextStore.put(ContextKeys.PREVIOUS_BACKGROUND_IMAGE, previousBackground);
         
         // Use a different image from the gallery if no specific name provided
         if (newImageName == null || newImageName.isEmpty()) {
-            @SuppressWarnings("unchecked")
-            List<String> galleryImages = (List<String>) ContextStore.get("galleryImages");
+            List<String> galleryImages = ContextStore.get(ContextKeys.GALLERY_IMAGES);
             if (galleryImages != null && galleryImages.size() > 1) {
                 newImageName = galleryImages.get(1); // Use second image
             } else {
@@ -682,8 +669,8 @@ public class ThemeAndFileUploadBL {
     
     public void verifyBackgroundUpdatesToNewImage(String newImageName) {
         // Check if background was updated in context
-        Boolean backgroundSet = (Boolean) ContextStore.get("backgroundImageSet");
-        String activeBackground = (String) ContextStore.get("activeBackgroundImage");
+        Boolean backgroundSet = ContextStore.get(ContextKeys.BACKGROUND_IMAGE_SET);
+        String activeBackground = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
         
         if (backgroundSet == null || !backgroundSet) {
             throw new AssertionError("Background image was not set");
@@ -705,8 +692,8 @@ public class ThemeAndFileUploadBL {
     
     public void verifyPreviousBackgroundNoLongerActive(String previousImageName) {
         // Verify that only one background is active at a time
-        String currentActiveBackground = (String) ContextStore.get("activeBackgroundImage");
-        String previousBackground = (String) ContextStore.get("previousBackgroundImage");
+        String currentActiveBackground = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
+        String previousBackground = ContextStore.get(ContextKeys.PREVIOUS_BACKGROUND_IMAGE);
         
         if (previousBackground != null && currentActiveBackground != null) {
             if (currentActiveBackground.equals(previousBackground)) {
@@ -758,14 +745,14 @@ public class ThemeAndFileUploadBL {
     }
     
     public String getLastUploadedFileName() {
-        return (String) ContextStore.get("lastUploadedFileName");
+        return ContextStore.get(ContextKeys.LAST_UPLOADED_FILE_NAME);
     }
     
     public String getLastSelectedTheme() {
-        return (String) ContextStore.get("lastSelectedTheme");
+        return ContextStore.get(ContextKeys.LAST_SELECTED_THEME);
     }
     
     public void setLastUploadedFileName(String fileName) {
-        ContextStore.put("lastUploadedFileName", fileName);
+        ContextStore.put(ContextKeys.LAST_UPLOADED_FILE_NAME, fileName);
     }
 }
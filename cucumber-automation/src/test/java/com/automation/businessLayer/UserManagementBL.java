@@ -1,6 +1,7 @@
 package com.automation.businessLayer;
 
 import com.automation.screens.UserManagementScreen;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import com.automation.utils.LogCapture;
 import io.cucumber.java.bs.A;
@@ -43,7 +44,7 @@ public class UserManagementBL {
     }
 
     public void verifyDefaultUserDetails() {
-        List<Map<String, String>> users = (List<Map<String, String>> ) ContextStore.get("DEFAULT_USER_DETAILS");
+        List<Map<String, String>> users = ContextStore.get(ContextKeys.DEFAULT_USER_DETAILS);
 
         for(int i=0; i< 3;i++) {
             String expectedUserName = users.get(i).get("Name");
@@ -1,53 +1,98 @@
 package com.automation.hooks;
 
-import com.automation.utils.DriverFactory;
+import com.automation.driver.CoverageRecorder;
+import com.automation.driver.SessionResetEngine;
+import com.automation.driver.WebDriverFactory;
+import com.automation.utils.CachedElement;
+import com.automation.utils.ContextStore;
 import com.automation.utils.DriverManager;
+import com.automation.utils.FailFast;
+import com.automation.utils.LocatorResolver;
 import com.automation.utils.LogCapture;
+import com.automation.utils.RunHistoryStore;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
+import io.cucumber.java.Status;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
 
 public class TestHooks {
     
     private static final Logger logger = LoggerFactory.getLogger(TestHooks.class);
     
+    // Cucumber creates the hooks per scenario
+    private long scenarioStartMillis;
+    
+    @BeforeAll
+    public static void setUpAll() {
+        FailFast.start();
+        // Pre-launch pooled sessions so the first scenarios don't pay browser startup
+        WebDriverFactory.warmUpPool();
+    }
+    
     @Before
     public void setUp(Scenario scenario) {
+        // Runner threads are reused, so drop values a previous scenario left on this one
+        ContextStore.clear();
+        scenarioStartMillis = System.currentTimeMillis();
+        
         // Start step-by-step log capture for this scenario
         LogCapture.startLogCapture(scenario);
         
         logger.info("=== Starting Test Scenario: {} ===", scenario.getName());
         
+        // Once fail-fast has tripped, remaining scenarios are skipped before they launch a browser
+        if (FailFast.isTripped()) {
+            throw new SkipException("Fail-fast: stopped after " + FailFast.getMaxFailures() + " failure(s)");
+        }
+        
         // Initialize WebDriver using DriverFactory
         initializeWebDriverUsingFactory(scenario);
+        
+        // Record what the scenario touches when coverage recording is on
+        CoverageRecorder.begin(scenarioId(scenario));
     }
     
     private void initializeWebDriverUsingFactory(Scenario scenario) {
-        logger.info("Initializing WebDriver using DriverFactory for scenario: {}", scenario.getName());
+        logger.info("Initializing WebDriver using WebDriverFactory for scenario: {}", scenario.getName());
         LogCapture.logDriverInit();
         
         try {
-            // Use DriverFactory to create Chrome driver in headless mode
-            WebDriver driver = DriverFactory.createDefaultDriver();
-            
-            // Set driver in DriverManager for backward compatibility
-            DriverManager.setDriver(driver);
+            // Browser and headless mode come from config.properties (overridable via system properties)
+            WebDriverFactory.initializeDriver();
             
             LogCapture.logDriverInitSuccess();
-            logger.info("WebDriver initialized successfully using DriverFactory for scenario: {}", scenario.getName());
+            logger.info("WebDriver initialized successfully using WebDriverFactory for scenario: {}", scenario.getName());
             
         } catch (Exception e) {
-            logger.error("Failed to initialize WebDriver using DriverFactory: {}", e.getMessage(), e);
+            logger.error("Failed to initialize WebDriver using WebDriverFactory: {}", e.getMessage(), e);
             LogCapture.logDriverInitFailure(e.getMessage());
             throw new RuntimeException("WebDriver initialization failed", e);
         }
     }
     
+    /**
+     * Scenario id shared by coverage recording and run history: Feature.feature:line
+     */
+    private static String scenarioId(Scenario scenario) {
+        String uri = scenario.getUri().toString();
+        return uri.substring(uri.lastIndexOf('/') + 1) + ":" + scenario.getLine();
+    }
+    
+    private static RunHistoryStore.Outcome outcome(Scenario scenario) {
+        if (scenario.isFailed()) {
+            return RunHistoryStore.Outcome.FAILED;
+        }
+        return scenario.getStatus() == Status.SKIPPED ? RunHistoryStore.Outcome.SKIPPED : RunHistoryStore.Outcome.PASSED;
+    }
+    
     @After
     public void tearDown(Scenario scenario) {
         logger.info("=== Finishing Test Scenario: {} ===", scenario.getName());
@@ -59,6 +104,9 @@ public class TestHooks {
             
             // Take screenshot if test failed
             takeScreenshotOnFailure(scenario);
+        } else if (scenario.getStatus() == Status.SKIPPED) {
+            LogCapture.addStepLog("Test Result", "⏭️ Scenario SKIPPED: %s", scenario.getName());
+            logger.info("Scenario skipped: {}", scenario.getName());
         } else {
             LogCapture.addStepLog("Test Result", "✅ Scenario PASSED: %s", scenario.getName());
             logger.info("Scenario passed: {}", scenario.getName());
@@ -67,11 +115,19 @@ public class TestHooks {
             takeScreenshotOnSuccess(scenario);
         }
         
+        CoverageRecorder.finish(!scenario.isFailed());
+        RunHistoryStore.record(scenarioId(scenario), outcome(scenario), System.currentTimeMillis() - scenarioStartMillis);
+        if (scenario.isFailed() && FailFast.recordFailure(scenarioId(scenario))) {
+            WebDriverFactory.drainPool();
+        }
+        
         // Cleanup WebDriver
         cleanupWebDriver(scenario);
         
         // Stop log capture and save final summary
         LogCapture.stopLogCaptureAndSave(scenario);
+        
+        ContextStore.clear();
     }
     
     private void takeScreenshotOnFailure(Scenario scenario) {
@@ -113,18 +169,27 @@ public class TestHooks {
         LogCapture.logDriverCleanup();
         
         try {
-            // Use DriverFactory to close driver properly
-            DriverFactory.closeDriver();
-            
-            // Also remove from DriverManager for consistency
-            DriverManager.removeDriver();
+            // Pooled sessions are reset and returned to the pool, others are quit
+            WebDriverFactory.quitDriver();
             
             LogCapture.logDriverCleanupSuccess();
-            logger.info("WebDriver closed successfully using DriverFactory for scenario: {}", scenario.getName());
+            logger.info("WebDriver closed successfully using WebDriverFactory for scenario: {}", scenario.getName());
             
         } catch (Exception e) {
             logger.error("Error during WebDriver cleanup: {}", e.getMessage(), e);
             LogCapture.logError("WebDriver Cleanup", e.getMessage());
         }
     }
+    
+    @AfterAll
+    public static void tearDownAll() {
+        SessionResetEngine.logSummary();
+        LocatorResolver.logReport();
+        CachedElement.logReport();
+        CoverageRecorder.writeIndex();
+        RunHistoryStore.flush();
+        FailFast.logReport();
+        WebDriverFactory.shutdownPool();
+        logger.info("All pooled WebDriver sessions closed");
+    }
 }
@@ -0,0 +1,53 @@
+package com.automation.runner;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.ScenarioPrioritizer;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+
+/**
+ * Runs the same features as TestNGRunner with scenarios spread over a thread pool
+ * Each scenario runs on one data provider thread with its own driver (DriverManager), log capture
+ * (LogCapture) and context (ContextStore). The thread count comes from cucumber.parallel.threads
+ * and defaults to driver.pool.size, so every thread can lease a warm pooled session.
+ */
+@CucumberOptions(
+    features = "src/test/resources/features",
+    glue = {"com.automation.steps", "com.automation.hooks"},
+    plugin = {
+        "html:target/cucumber-reports/report.html",
+        "json:target/cucumber-reports/report.json",
+        "summary"
+    },
+    monochrome = true
+)
+public class ParallelTestNGRunner extends AbstractTestNGCucumberTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelTestNGRunner.class);
+
+    /**
+     * Size the data provider thread pool before the scenarios are handed out
+     * @param context TestNG context of the running test
+     */
+    @BeforeClass(alwaysRun = true)
+    public void configureThreadCount(ITestContext context) {
+        ConfigReader config = ConfigReader.getInstance();
+        int threads = config.getIntProperty("cucumber.parallel.threads", config.getIntProperty("driver.pool.size", 3));
+        if (threads > 0) {
+            context.getCurrentXmlTest().getSuite().setDataProviderThreadCount(threads);
+        }
+        logger.info("Running scenarios on {} threads",
+                context.getCurrentXmlTest().getSuite().getDataProviderThreadCount());
+    }
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return ScenarioPrioritizer.order(super.scenarios());
+    }
+}
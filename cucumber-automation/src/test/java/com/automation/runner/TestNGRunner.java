@@ -1,7 +1,9 @@
 package com.automation.runner;
 
+import com.automation.utils.ScenarioPrioritizer;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 @CucumberOptions(
@@ -22,4 +24,13 @@ public class TestNGRunner extends AbstractTestNGCucumberTests {
     public void runCucumber() {
         // This method will be called by TestNG and will run all scenarios
     }
+    
+    /**
+     * Scenarios in failure-first order when scheduler.priority.enabled is set
+     */
+    @Override
+    @DataProvider
+    public Object[][] scenarios() {
+        return ScenarioPrioritizer.order(super.scenarios());
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.automation.screens;
 
+import com.automation.utils.CachingFieldDecorator;
+import com.automation.utils.DomBatchReader;
 import com.automation.utils.DriverManager;
+import com.automation.utils.LocatorResolver;
+import com.automation.utils.SyncUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
@@ -19,13 +22,16 @@ public class Product_ManagementScreen {
     public static final String SCREEN_NAME = "Product_ManagementScreen";
     public WebDriver driver;
     public WebDriverWait wait;
+    private DomBatchReader batchReader;
 
     // Navigation Elements
     @FindBy(css = "nav button, nav a, .nav-tabs button, .nav-tabs a")
     private List<WebElement> navigationTabs;
 
-    @FindBy(css = "[data-testid='products-tab'], button:contains('Products'), a:contains('Products')")
-    private WebElement productsTab;
+    private static final By[] PRODUCTS_TAB = {
+            By.cssSelector("[data-testid='products-tab']"),
+            By.xpath("//button[contains(text(), 'Products')] | //a[contains(text(), 'Products')]")
+    };
 
     // Product Form Elements
     @FindBy(css = "input[name='name'], input[name='productName'], input[placeholder*='name'], #productName, .product-name-input")
@@ -95,7 +101,7 @@ public class Product_ManagementScreen {
     private List<WebElement> editButtons;
 
     // Alternative locators for fallback
-    private final By PRODUCTS_TAB_ALT = By.xpath("//button[contains(text(), 'Products')] | //a[contains(text(), 'Products')]");
+    private final By PRODUCT_ITEMS = By.cssSelector(".product-card, .product-item, [data-testid='product-card']");
     private final By PRODUCT_NAME_ALT = By.xpath("//input[contains(@placeholder, 'product') or contains(@placeholder, 'name')]");
     private final By PRICE_ALT = By.xpath("//input[contains(@placeholder, 'price') or contains(@type, 'number')]");
     private final By CATEGORY_ALT = By.xpath("//input[contains(@placeholder, 'category')]");
@@ -106,26 +112,16 @@ public class Product_ManagementScreen {
     public Product_ManagementScreen() {
         this.driver = DriverManager.getDriver();
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.batchReader = new DomBatchReader(driver);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
     public void navigateToProductsTab() {
-        try {
-            WebElement productsTabElement = wait.until(ExpectedConditions.elementToBeClickable(productsTab));
-            productsTabElement.click();
-            System.out.println("Successfully clicked on Products tab");
-        } catch (Exception e) {
-            System.out.println("Using alternative locator for Products tab");
-            WebElement productsTabAlt = wait.until(ExpectedConditions.elementToBeClickable(PRODUCTS_TAB_ALT));
-            productsTabAlt.click();
-        }
+        LocatorResolver.clickable("Product_ManagementScreen.productsTab", PRODUCTS_TAB).click();
+        System.out.println("Successfully clicked on Products tab");
         
         // Wait for products page to load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        SyncUtils.waitForNetworkIdle();
     }
 
     public Product_ManagementScreen fillProductName(String productName) {
@@ -191,7 +187,7 @@ public class Product_ManagementScreen {
             return Integer.parseInt(countText);
         } catch (Exception e) {
             System.out.println("Using alternative method to count products");
-            List<WebElement> products = driver.findElements(By.cssSelector(".product-card, .product-item, [data-testid='product-card']"));
+            List<WebElement> products = driver.findElements(PRODUCT_ITEMS);
             return products.size();
         }
     }
@@ -234,11 +230,7 @@ public class Product_ManagementScreen {
         
         for (String[] product : products) {
             submitProductFormWithData(product[0], product[1], product[2], product[3], product[4]);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            SyncUtils.waitForToast();
         }
     }
 
@@ -295,11 +287,11 @@ public class Product_ManagementScreen {
 
     public boolean areOnlyProductsFromCategoryShown(String category) {
         try {
-            Thread.sleep(1000);
-            List<WebElement> products = driver.findElements(By.cssSelector(".product-card, .product-item"));
+            SyncUtils.waitForNetworkIdle();
+            List<String> products = batchReader.readTexts(By.cssSelector(".product-card, .product-item"));
             
-            for (WebElement product : products) {
-                String productText = product.getText().toLowerCase();
+            for (String product : products) {
+                String productText = product.toLowerCase();
                 if (!productText.contains(category.toLowerCase())) {
                     return false;
                 }
@@ -325,7 +317,7 @@ public class Product_ManagementScreen {
 
     public boolean areAllProductsShown() {
         try {
-            Thread.sleep(1000);
+            SyncUtils.waitForNetworkIdle();
             int totalProducts = getProductCount();
             return totalProducts > 0; // Basic check that products are visible
         } catch (Exception e) {
@@ -343,11 +335,7 @@ public class Product_ManagementScreen {
         
         for (String[] product : products) {
             submitProductFormWithData(product[0], product[1], product[2], product[3], product[4]);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            SyncUtils.waitForToast();
         }
     }
 
@@ -385,14 +373,13 @@ public class Product_ManagementScreen {
 
     public boolean areProductsWithinPriceRange(String minPrice, String maxPrice) {
         try {
-            Thread.sleep(1000);
+            SyncUtils.waitForNetworkIdle();
             double min = Double.parseDouble(minPrice);
             double max = Double.parseDouble(maxPrice);
             
-            List<WebElement> products = driver.findElements(By.cssSelector(".product-card, .product-item"));
+            List<String> products = batchReader.readTexts(By.cssSelector(".product-card, .product-item"));
             
-            for (WebElement product : products) {
-                String productText = product.getText();
+            for (String productText : products) {
                 // Extract price from product text (this would need to be adjusted based on actual HTML structure)
                 // For now, return true as a placeholder
             }
@@ -424,11 +411,10 @@ public class Product_ManagementScreen {
 
     public boolean isPriceUpdated(String productName, String expectedPrice) {
         try {
-            Thread.sleep(1000);
-            List<WebElement> products = driver.findElements(By.cssSelector(".product-card, .product-item"));
+            SyncUtils.waitForNetworkIdle();
+            List<String> products = batchReader.readTexts(By.cssSelector(".product-card, .product-item"));
             
-            for (WebElement product : products) {
-                String productText = product.getText();
+            for (String productText : products) {
                 if (productText.contains(productName) && productText.contains(expectedPrice)) {
                     return true;
                 }
@@ -443,8 +429,9 @@ public class Product_ManagementScreen {
         try {
             List<WebElement> deleteBtns = deleteButtons;
             if (!deleteBtns.isEmpty()) {
+                int productsBefore = driver.findElements(PRODUCT_ITEMS).size();
                 deleteBtns.get(0).click();
-                Thread.sleep(1000);
+                SyncUtils.waitForListSizeChange(PRODUCT_ITEMS, productsBefore);
             }
         } catch (Exception e) {
             System.out.println("Error deleting product: " + e.getMessage());
@@ -492,11 +479,11 @@ public class Product_ManagementScreen {
 
     public boolean areProductsContainingTextDisplayed(String searchText) {
         try {
-            Thread.sleep(1000);
-            List<WebElement> products = driver.findElements(By.cssSelector(".product-card, .product-item"));
+            SyncUtils.waitForNetworkIdle();
+            List<String> products = batchReader.readTexts(By.cssSelector(".product-card, .product-item"));
             
-            for (WebElement product : products) {
-                String productText = product.getText().toLowerCase();
+            for (String product : products) {
+                String productText = product.toLowerCase();
                 if (!productText.contains(searchText.toLowerCase())) {
                     return false;
                 }
@@ -509,11 +496,11 @@ public class Product_ManagementScreen {
 
     public boolean areProductsNotContainingTextHidden(String searchText) {
         try {
-            Thread.sleep(1000);
-            List<WebElement> hiddenProducts = driver.findElements(By.cssSelector(".product-card.hidden, .product-item.hidden"));
+            SyncUtils.waitForNetworkIdle();
+            List<String> hiddenProducts = batchReader.readTexts(By.cssSelector(".product-card.hidden, .product-item.hidden"));
             
-            for (WebElement product : hiddenProducts) {
-                String productText = product.getText().toLowerCase();
+            for (String product : hiddenProducts) {
+                String productText = product.toLowerCase();
                 if (productText.contains(searchText.toLowerCase())) {
                     return false;
                 }
@@ -1,24 +1,35 @@
 package com.automation.screens;
 
+import com.automation.utils.CachingFieldDecorator;
+import com.automation.utils.DomBatchReader;
+import com.automation.utils.DomBatchReader.Column;
 import com.automation.utils.DriverManager;
+import com.automation.utils.SyncUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.Color;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.Assert;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TaskManagementScreen {
     
     private WebDriver driver;
     private WebDriverWait wait;
+    private DomBatchReader batchReader;
+    
+    private static final By TASK_CARDS = By.cssSelector(".task-item");
+    private static final By PRIORITY_BADGES = By.xpath("//span[contains(@class, 'priority') or contains(@class, 'badge')]");
+    private static final By TASK_ITEMS = By.xpath("//div[contains(@class, 'task-item') or contains(@class, 'task')]");
     
     // Navigation elements
     @FindBy(xpath = "//nav//a[contains(text(), 'Tasks') or contains(@href, 'tasks')]")
@@ -119,7 +130,8 @@ public class TaskManagementScreen {
     public TaskManagementScreen() {
         this.driver = DriverManager.getDriver();
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.batchReader = new DomBatchReader(driver);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
     public TaskManagementScreen userSubmitsTheTask( String title) {
@@ -136,6 +148,26 @@ public class TaskManagementScreen {
         return val;
     }
     
+    /**
+     * Read the priority badge text and colour of every task in one script call
+     * @return Task title -> row with "priority" and "priorityColor" (rgba, as getCssValue returns it)
+     */
+    public Map<String, Map<String, String>> readTaskPriorities() {
+        List<Map<String, String>> rows = batchReader.readList(TASK_CARDS,
+                Column.text("title", "h3"),
+                Column.text("priority", "span[class*='priority']"),
+                Column.style("priorityColor", "span[class*='priority']", "color"));
+        
+        Map<String, Map<String, String>> tasksByTitle = new LinkedHashMap<>();
+        for (Map<String, String> row : rows) {
+            if (row.get("priorityColor") != null) {
+                row.put("priorityColor", Color.fromString(row.get("priorityColor")).asRgba());
+            }
+            tasksByTitle.putIfAbsent(row.get("title"), row);
+        }
+        return tasksByTitle;
+    }
+    
     // Navigation methods
     public String getPriorityBadgeForTask(String title) {
         String xpath = "//div[contains(@class, 'task')]//h3[text()='@title']//following-sibling::span[contains(@class,'priority')]"
@@ -189,7 +221,7 @@ public class TaskManagementScreen {
     
     public int getTaskCount() {
         try {
-            List<WebElement> tasks = driver.findElements(By.xpath("//div[contains(@class, 'task-item') or contains(@class, 'task')]"));
+            List<WebElement> tasks = driver.findElements(TASK_ITEMS);
             if (tasks.isEmpty()) {
                 tasks = driver.findElements(By.xpath("//li[contains(@class, 'task')]"));
             }
@@ -265,9 +297,20 @@ public class TaskManagementScreen {
         }
     }
     
+    /**
+     * Read the text and class of every priority badge in one script call
+     * @return One row per badge with "text" and "class"
+     */
+    public List<Map<String, String>> readPriorityBadges() {
+        return batchReader.readList(PRIORITY_BADGES, Column.text("text", null), Column.attribute("class", null, "class"));
+    }
+    
     public boolean verifyPriorityBadgeColor(String priority, WebElement badge) {
-        String badgeClass = badge.getAttribute("class");
-        String badgeText = badge.getText();
+        return verifyPriorityBadgeColor(priority, badge.getAttribute("class"), badge.getText());
+    }
+    
+    public boolean verifyPriorityBadgeColor(String priority, String badgeClass, String badgeText) {
+        badgeClass = badgeClass == null ? "" : badgeClass;
         
         switch (priority.toLowerCase()) {
             case "high":
@@ -429,15 +472,19 @@ public class TaskManagementScreen {
         try {
             wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath("//div[contains(@class, 'tasks-list') or contains(@class, 'task')]")));
         } catch (Exception e) {
-            // If tasks list doesn't load, wait a moment
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-            }
+            // If tasks list doesn't load, wait for pending requests to settle
+            SyncUtils.waitForNetworkIdle();
         }
     }
     
+    /**
+     * Wait for a task to be added or removed
+     * @param previousCount Task count taken before the action
+     */
+    public void waitForTaskCountToChange(int previousCount) {
+        SyncUtils.waitForListSizeChange(TASK_ITEMS, previousCount);
+    }
+    
     public boolean hasUsersInSystem() {
         try {
             WebElement userSelect = driver.findElement(By.xpath("//select[contains(@name, 'assignee') or contains(@class, 'user')]"));
@@ -1,6 +1,9 @@
 package com.automation.screens;
 
+import com.automation.utils.CachingFieldDecorator;
 import com.automation.utils.DriverManager;
+import com.automation.utils.LocatorResolver;
+import com.automation.utils.SyncUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
@@ -8,7 +11,6 @@ import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -26,12 +28,11 @@ public class ThemeAndFileUploadScreen {
     private WebDriver driver;
     private WebDriverWait wait;
     
-    // Navigation elements
-    @FindBy(xpath = "//nav//a[contains(text(), 'Files') or contains(text(), 'Themes') or contains(@href, 'files')]")
-    private WebElement filesThemesTab;
-    
-    @FindBy(xpath = "//div[contains(@class, 'files-tab') or contains(@id, 'files')]//a")
-    private WebElement filesThemesTabAlt;
+    // Navigation elements (alternatives resolved through the LocatorResolver)
+    private static final By[] FILES_THEMES_TAB = {
+        By.xpath("//nav//a[contains(text(), 'Files') or contains(text(), 'Themes') or contains(@href, 'files')]"),
+        By.xpath("//div[contains(@class, 'files-tab') or contains(@id, 'files')]//a")
+    };
     
     // File upload elements
     @FindBy(xpath = "//input[@type='file' or contains(@class, 'file-input')]")
@@ -43,11 +44,10 @@ public class ThemeAndFileUploadScreen {
     @FindBy(xpath = "//button[contains(text(), 'Choose File') or contains(@class, 'file-choose')]")
     private WebElement chooseFileButton;
     
-    @FindBy(xpath = "//button[contains(text(), 'Upload') or contains(@class, 'upload-btn')]")
-    private WebElement uploadButton;
-    
-    @FindBy(xpath = "//button[contains(text(), 'Upload File') or @id='upload-file']")
-    private WebElement uploadFileButton;
+    private static final By[] UPLOAD_FILE_BUTTON = {
+        By.xpath("//button[contains(text(), 'Upload File') or @id='upload-file']"),
+        By.xpath("//button[contains(text(), 'Upload') or contains(@class, 'upload-btn')]")
+    };
     
     // File details display
     @FindBy(xpath = "//div[contains(@class, 'file-details') or contains(@class, 'file-info')]")
@@ -76,11 +76,10 @@ public class ThemeAndFileUploadScreen {
     private List<WebElement> themeOptions;
     
     // Background theme elements
-    @FindBy(xpath = "//select[@name='background' or contains(@class, 'background-select')]")
-    private WebElement backgroundThemeSelect;
-    
-    @FindBy(xpath = "//div[contains(@class, 'background-theme')]//select")
-    private WebElement backgroundThemeSelectAlt;
+    private static final By[] BACKGROUND_THEME_SELECT = {
+        By.xpath("//select[@name='background' or contains(@class, 'background-select')]"),
+        By.xpath("//div[contains(@class, 'background-theme')]//select")
+    };
     
     // File list elements
     @FindBy(xpath = "//div[contains(@class, 'files-list') or @id='files-list']")
@@ -105,12 +104,16 @@ public class ThemeAndFileUploadScreen {
     @FindBy(xpath = "//button[contains(text(), 'Preview') or contains(@class, 'preview-btn')]")
     private List<WebElement> previewButtons;
     
-    // File count display
-    @FindBy(xpath = "//span[contains(@class, 'file-count') or @id='file-count']")
-    private WebElement fileCountDisplay;
+    private static final By[] UPLOADED_FILE_ITEMS = {
+        By.xpath("//div[contains(@class, 'file-item')]"),
+        By.xpath("//li[contains(@class, 'file')]")
+    };
     
-    @FindBy(xpath = "//div[contains(@class, 'files-total')]")
-    private WebElement fileCountDisplayAlt;
+    // File count display
+    private static final By[] FILE_COUNT_DISPLAY = {
+        By.xpath("//span[contains(@class, 'file-count') or @id='file-count']"),
+        By.xpath("//div[contains(@class, 'files-total')]")
+    };
     
     // Notification elements
     @FindBy(xpath = "//div[contains(@class, 'notification') or contains(@class, 'alert')]")
@@ -170,7 +173,7 @@ public class ThemeAndFileUploadScreen {
     public ThemeAndFileUploadScreen() {
         this.driver = DriverManager.getDriver();
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
     public ThemeAndFileUploadScreen userSwitchesToNextTab() {
@@ -207,17 +210,11 @@ public class ThemeAndFileUploadScreen {
     // Navigation methods
     public void navigateToFilesThemesTab() {
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(filesThemesTab));
-            element.click();
+            LocatorResolver.clickable("ThemeAndFileUploadScreen.filesThemesTab", FILES_THEMES_TAB).click();
         } catch (Exception e) {
-            try {
-                WebElement altElement = wait.until(ExpectedConditions.elementToBeClickable(filesThemesTabAlt));
-                altElement.click();
-            } catch (Exception ex) {
-                // Fallback: search for any element containing 'files' or 'themes'
-                WebElement fallbackElement = driver.findElement(By.xpath("//*[contains(text(), 'Files') or contains(text(), 'Themes') or contains(@href, 'files')]"));
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", fallbackElement);
-            }
+            // Fallback: search for any element containing 'files' or 'themes'
+            WebElement fallbackElement = driver.findElement(By.xpath("//*[contains(text(), 'Files') or contains(text(), 'Themes') or contains(@href, 'files')]"));
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", fallbackElement);
         }
     }
     
@@ -308,9 +305,6 @@ public class ThemeAndFileUploadScreen {
                 "return arguments[0].multiple === true", input);
             System.out.println("Input multiple attribute is set: " + isMultiple);
             
-            // Add a slight delay after modifying the input
-            Thread.sleep(1000);
-            
             // Build absolute file paths and verify files exist
             String[] absolutePaths = new String[fileNames.size()];
             StringBuilder fileCheckResults = new StringBuilder("File existence check:\n");
@@ -349,7 +343,10 @@ public class ThemeAndFileUploadScreen {
             }
             
             // Wait for browser to process the files
-            Thread.sleep(2000);
+            WebElement fileInput = input;
+            int expectedFiles = absolutePaths.length;
+            wait.until(d -> ((Number) ((JavascriptExecutor) d).executeScript(
+                "return arguments[0].files ? arguments[0].files.length : 0", fileInput)).intValue() >= expectedFiles);
             
         } catch (Exception e) {
             System.out.println("❌ Multiple file selection failed: " + e.getMessage());
@@ -368,12 +365,13 @@ public class ThemeAndFileUploadScreen {
                         fileType = "PNG";
                     }
                     
+                    int filesBefore = SyncUtils.getUploadedFileCount();
                     selectFile(fileName, fileType);
                     completeUpload();
                     System.out.println("Successfully uploaded individual file: " + fileName);
                     
-                    // Wait between uploads
-                    Thread.sleep(1500);
+                    // Wait for this upload before starting the next one
+                    SyncUtils.waitForUploadComplete(filesBefore);
                 } catch (Exception ex) {
                     System.out.println("Failed to upload individual file " + fileName + ": " + ex.getMessage());
                 }
@@ -384,19 +382,13 @@ public class ThemeAndFileUploadScreen {
     // Theme selection methods
     public void selectBackgroundTheme(String themeName) {
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(backgroundThemeSelect));
+            WebElement element = LocatorResolver.clickable("ThemeAndFileUploadScreen.backgroundThemeSelect", BACKGROUND_THEME_SELECT);
             Select select = new Select(element);
             select.selectByVisibleText(themeName);
         } catch (Exception e) {
-            try {
-                WebElement altElement = wait.until(ExpectedConditions.elementToBeClickable(backgroundThemeSelectAlt));
-                Select select = new Select(altElement);
-                select.selectByVisibleText(themeName);
-            } catch (Exception ex) {
-                // Fallback: find theme option by text
-                WebElement themeOption = driver.findElement(By.xpath("//*[contains(text(), '" + themeName + "')]"));
-                themeOption.click();
-            }
+            // Fallback: find theme option by text
+            WebElement themeOption = driver.findElement(By.xpath("//*[contains(text(), '" + themeName + "')]"));
+            themeOption.click();
         }
     }
     
@@ -410,17 +402,11 @@ public class ThemeAndFileUploadScreen {
     // Upload button methods
     public void clickUploadFileButton() {
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(uploadFileButton));
-            element.click();
+            LocatorResolver.clickable("ThemeAndFileUploadScreen.uploadFileButton", UPLOAD_FILE_BUTTON).click();
         } catch (Exception e) {
-            try {
-                WebElement altElement = wait.until(ExpectedConditions.elementToBeClickable(uploadButton));
-                altElement.click();
-            } catch (Exception ex) {
-                // Fallback: find upload button by text
-                WebElement fallbackElement = driver.findElement(By.xpath("//button[contains(text(), 'Upload')]"));
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", fallbackElement);
-            }
+            // Fallback: find upload button by text
+            WebElement fallbackElement = driver.findElement(By.xpath("//button[contains(text(), 'Upload')]"));
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", fallbackElement);
         }
     }
     
@@ -500,26 +486,15 @@ public class ThemeAndFileUploadScreen {
     
     public int getUploadedFileCount() {
         try {
-            List<WebElement> files = driver.findElements(By.xpath("//div[contains(@class, 'file-item')]"));
-            if (files.isEmpty()) {
-                files = driver.findElements(By.xpath("//li[contains(@class, 'file')]"));
-            }
-            return files.size();
+            return LocatorResolver.findAll("ThemeAndFileUploadScreen.uploadedFileItems", UPLOADED_FILE_ITEMS).size();
         } catch (Exception e) {
             return 0;
         }
     }
     
     public String getFileCountText() {
-        try {
-            return fileCountDisplay.getText();
-        } catch (Exception e) {
-            try {
-                return fileCountDisplayAlt.getText();
-            } catch (Exception ex) {
-                return "0";
-            }
-        }
+        List<WebElement> countDisplays = LocatorResolver.findAll("ThemeAndFileUploadScreen.fileCountDisplay", FILE_COUNT_DISPLAY);
+        return countDisplays.isEmpty() ? "0" : countDisplays.get(0).getText();
     }
     
     // Special notices and messages
@@ -844,21 +819,13 @@ public class ThemeAndFileUploadScreen {
         try {
             wait.until(ExpectedConditions.invisibilityOfElementLocated(By.xpath("//div[contains(@class, 'uploading') or contains(text(), 'Uploading')]")));
         } catch (Exception e) {
-            // If no loading indicator, wait a moment
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-            }
+            // If the loading indicator did not go away, wait on the upload state directly
+            SyncUtils.waitForUploadComplete();
         }
     }
     
     public ThemeAndFileUploadScreen waitForThemeToApply() {
-        try {
-            Thread.sleep(1000); // Allow time for theme change animation
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        SyncUtils.waitForAnimationsToFinish(); // Let the theme change animation finish
         return this;
     }
 
@@ -1151,7 +1118,7 @@ public class ThemeAndFileUploadScreen {
             }
             
             // Wait for background to be applied
-            Thread.sleep(1000);
+            SyncUtils.waitForAnimationsToFinish();
             
         } catch (Exception e) {
             System.out.println("❌ Error applying image background: " + e.getMessage());
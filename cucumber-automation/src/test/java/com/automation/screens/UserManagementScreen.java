@@ -1,12 +1,15 @@
 package com.automation.screens;
 
+import com.automation.utils.CachingFieldDecorator;
+import com.automation.utils.DomBatchReader;
+import com.automation.utils.DomBatchReader.Column;
 import com.automation.utils.DriverManager;
+import com.automation.utils.SyncUtils;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
@@ -14,6 +17,7 @@ import org.testng.Assert;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 public class UserManagementScreen {
 
@@ -62,7 +66,7 @@ public class UserManagementScreen {
     public UserManagementScreen() {
         this.driver = DriverManager.getDriver();
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
     public UserManagementScreen userEntersDetailsInForm(String name, String email, String role) {
@@ -90,8 +94,9 @@ public class UserManagementScreen {
 
 
     public boolean verifyUserInList(String name, String email) {
-        String xpath = "//div[@class='user-card']//h3[text()='@name']//following-sibling::p[text()='@email']".replace("@name", name).replace("@email", email);
-        return driver.findElement(By.xpath(xpath)).isDisplayed();
+        List<Map<String, String>> users = new DomBatchReader(driver).readList(By.cssSelector("div.user-card"),
+                Column.text("name", "h3"), Column.text("email", "h3 ~ p"));
+        return users.stream().anyMatch(user -> name.equals(user.get("name")) && email.equals(user.get("email")));
     }
 
     public void fillNameField(String name) {
@@ -148,11 +153,7 @@ public class UserManagementScreen {
         }
         
         // Wait for action to complete
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        SyncUtils.waitForToast();
     }
 
     public boolean isSuccessToastVisible() {
@@ -222,12 +223,8 @@ public class UserManagementScreen {
             refreshBtnAlt.click();
         }
         
-        // Wait for refresh to complete
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Wait for the user list request to complete
+        SyncUtils.waitForRequest("/api/users");
     }
 
     public boolean isLoadingStateVisible() {
@@ -2,6 +2,7 @@ package com.automation.steps;
 
 import com.automation.businessLayer.DashboardBL;
 import com.automation.businessLayer.Product_ManagementBL;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import com.automation.utils.LogCapture;
 import io.cucumber.datatable.DataTable;
@@ -31,7 +32,7 @@ public class Product_ManagementSteps {
     public void i_add_a_product_with_details(DataTable dataTable) {
         Map<String, String> product = dataTable.asMaps(String.class, String.class).get(0);
         productManagementBL.createNewProductWithDetails(product);
-        ContextStore.put("PRODUCT_DETAILS", product);
+        ContextStore.put(ContextKeys.PRODUCT_DETAILS, product);
         LogCapture.addStepLog("Add Product", "✅ Product added: " + product.get("Name"));
     }
 
@@ -114,7 +115,7 @@ public class Product_ManagementSteps {
     @Given("I should see the default product with below details")
     public void iShouldSeeTheDefaultProductWithBelowDetails(DataTable dataTable) {
         List<Map<String, String>> products = dataTable.asMaps(String.class, String.class);
-        ContextStore.put("DEFAULT_PRODUCT_DETAILS", products);
+        ContextStore.put(ContextKeys.DEFAULT_PRODUCT_DETAILS, products);
 
         productManagementBL.verifyDefaultProductDetails();
     }
@@ -1,6 +1,7 @@
 package com.automation.steps;
 
 import com.automation.businessLayer.TaskManagementBL;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import com.automation.utils.LogCapture;
 import io.cucumber.datatable.DataTable;
@@ -26,8 +27,8 @@ public class Task_ManagementSteps {
     @When("I create a new task with title {string} and priority {string} and assign to a default user {int}")
     public void createNewTaskWithTitlePriorityAndDefaultUser(String title, String priority, int userIndex) {
         taskManagementBL.createNewTaskWithAssignment(title, priority, userIndex);
-        ContextStore.put("TASK_TITLE", title);
-        ContextStore.put("TASK_PRIORITY", priority);
+        ContextStore.put(ContextKeys.TASK_TITLE, title);
+        ContextStore.put(ContextKeys.TASK_PRIORITY, priority);
     }
 
     @Given("I am on the application dashboard")
@@ -168,7 +169,7 @@ public class Task_ManagementSteps {
         List<Map<String, String>> taskData = dataTable.asMaps(String.class, String.class);
         taskManagementBL.createTasksWithDifferentPriorities(taskData);
 
-        ContextStore.put("TASK_DATA", taskData);
+        ContextStore.put(ContextKeys.TASK_DATA, taskData);
         
         LogCapture.addStepLog("Multi-Priority Creation", "✅ Tasks with different priorities created: " + taskData.size());
     }
@@ -187,7 +188,7 @@ public class Task_ManagementSteps {
     @Then("I create a task with title {string} and no user assigned")
     public void createTaskWithUnAssignedUser(String taskTitle) {
         taskManagementBL.createTaskWithUnAssignedName(taskTitle);
-        ContextStore.put("TASK_TITLE", taskTitle);
+        ContextStore.put(ContextKeys.TASK_TITLE, taskTitle);
 
     }
 
@@ -2,6 +2,7 @@ package com.automation.steps;
 
 import com.automation.businessLayer.ThemeAndFileUploadBL;
 import com.automation.utils.LogCapture;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -33,8 +34,8 @@ public class ThemeAndFileUploadSteps {
             "Selecting valid file for upload...");
         
         themeAndFileUploadBL.selectValidFile(fileType, fileName);
-        ContextStore.put("currentFileName", fileName);
-        ContextStore.put("currentFileType", fileType);
+        ContextStore.put(ContextKeys.CURRENT_FILE_NAME, fileName);
+        ContextStore.put(ContextKeys.CURRENT_FILE_TYPE, fileType);
         
         LogCapture.addStepLog("File Selection", "✅ File selected: " + fileName + " (" + fileType + ")");
     }
@@ -57,7 +58,7 @@ public class ThemeAndFileUploadSteps {
             "Selecting background theme...");
         
         themeAndFileUploadBL.selectBackgroundTheme(themeName);
-        ContextStore.put("currentTheme", themeName);
+        ContextStore.put(ContextKeys.CURRENT_THEME, themeName);
         
         LogCapture.addStepLog("Background Theme Selection", "✅ Background theme selected: " + themeName);
     }
@@ -80,8 +81,8 @@ public class ThemeAndFileUploadSteps {
             "Uploading image file...");
         
         themeAndFileUploadBL.uploadImageFile(fileName, fileType);
-        ContextStore.put("currentFileName", fileName);
-        ContextStore.put("currentFileType", fileType);
+        ContextStore.put(ContextKeys.CURRENT_FILE_NAME, fileName);
+        ContextStore.put(ContextKeys.CURRENT_FILE_TYPE, fileType);
         
         LogCapture.addStepLog("Image File Upload", "✅ Image file uploaded: " + fileName + " (" + fileType + ")");
     }
@@ -232,8 +233,8 @@ public class ThemeAndFileUploadSteps {
             "Testing file size and type validation...");
         
         themeAndFileUploadBL.uploadFileWithSizeAndType(fileSize, fileType);
-        ContextStore.put("currentFileSize", fileSize);
-        ContextStore.put("currentFileType", fileType);
+        ContextStore.put(ContextKeys.CURRENT_FILE_SIZE, fileSize);
+        ContextStore.put(ContextKeys.CURRENT_FILE_TYPE, fileType);
         
         LogCapture.addStepLog("File Validation Test", "✅ File validation test performed: " + fileSize + " " + fileType);
     }
@@ -344,7 +345,7 @@ public class ThemeAndFileUploadSteps {
             "Setting up theme selection precondition...");
         
         themeAndFileUploadBL.selectSpecificTheme(themeName);
-        ContextStore.put("currentTheme", themeName);
+        ContextStore.put(ContextKeys.CURRENT_THEME, themeName);
         
         LogCapture.addStepLog("Theme Selection Precondition", "✅ Theme selected: " + themeName);
     }
@@ -476,12 +477,12 @@ public class ThemeAndFileUploadSteps {
             "Setting one image as background...");
         
         // Use the stored filename or a default
-        String imageName = (String) ContextStore.get("currentFileName");
+        String imageName = ContextStore.get(ContextKeys.CURRENT_FILE_NAME);
         if (imageName == null) {
             imageName = "background1.jpg";
         }
         themeAndFileUploadBL.setOneImageAsBackground(imageName);
-        ContextStore.put("activeBackgroundImage", imageName);
+        ContextStore.put(ContextKeys.ACTIVE_BACKGROUND_IMAGE, imageName);
         
         LogCapture.addStepLog("Background Image Setting", "✅ Image set as background: " + imageName);
     }
@@ -492,7 +493,7 @@ public class ThemeAndFileUploadSteps {
             "Expected: Image becomes page background",
             "Verifying image becomes page background...");
         
-        String imageName = (String) ContextStore.get("activeBackgroundImage");
+        String imageName = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
         if (imageName == null) {
             imageName = "background1.jpg";
         }
@@ -508,12 +509,12 @@ public class ThemeAndFileUploadSteps {
             "Changing to a different image background...");
         
         // Store the previous background for verification
-        String previousBackground = (String) ContextStore.get("activeBackgroundImage");
-        ContextStore.put("previousBackgroundImage", previousBackground);
+        String previousBackground = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
+        ContextStore.put(ContextKeys.PREVIOUS_BACKGROUND_IMAGE, previousBackground);
         
         String newImageName = "background2.png";
         themeAndFileUploadBL.changeToDifferentImageBackground(newImageName);
-        ContextStore.put("activeBackgroundImage", newImageName);
+        ContextStore.put(ContextKeys.ACTIVE_BACKGROUND_IMAGE, newImageName);
         
         LogCapture.addStepLog("Background Image Change", "✅ Changed to different image background: " + newImageName);
     }
@@ -524,7 +525,7 @@ public class ThemeAndFileUploadSteps {
             "Expected: Background updates to new image",
             "Verifying background updates to new image...");
         
-        String newImageName = (String) ContextStore.get("activeBackgroundImage");
+        String newImageName = ContextStore.get(ContextKeys.ACTIVE_BACKGROUND_IMAGE);
         if (newImageName == null) {
             newImageName = "background2.png";
         }
@@ -539,7 +540,7 @@ public class ThemeAndFileUploadSteps {
             "Expected: Previous background no longer active",
             "Verifying previous background is no longer active...");
         
-        String previousImageName = (String) ContextStore.get("previousBackgroundImage");
+        String previousImageName = ContextStore.get(ContextKeys.PREVIOUS_BACKGROUND_IMAGE);
         if (previousImageName == null) {
             previousImageName = "background1.jpg";
         }
@@ -560,7 +561,7 @@ public class ThemeAndFileUploadSteps {
         String fileType = fileName.substring(fileName.lastIndexOf('.') + 1).toUpperCase();
         themeAndFileUploadBL.selectValidFile(fileType, fileName);
         themeAndFileUploadBL.completeUpload();
-        ContextStore.put("currentFileName", fileName);
+        ContextStore.put(ContextKeys.CURRENT_FILE_NAME, fileName);
         
         LogCapture.addStepLog("Single File Upload", "✅ File uploaded: " + fileName);
     }
@@ -584,7 +585,7 @@ public class ThemeAndFileUploadSteps {
             "Applying specified theme...");
         
         themeAndFileUploadBL.selectTheme(themeName);
-        ContextStore.put("currentTheme", themeName);
+        ContextStore.put(ContextKeys.CURRENT_THEME, themeName);
         
         LogCapture.addStepLog("Theme Application", "✅ Theme applied: " + themeName);
     }
@@ -595,7 +596,7 @@ public class ThemeAndFileUploadSteps {
             "Expected: Theme applied successfully",
             "Verifying theme application...");
         
-        String currentTheme = (String) ContextStore.get("currentTheme");
+        String currentTheme = ContextStore.get(ContextKeys.CURRENT_THEME);
         themeAndFileUploadBL.verifyBackgroundChangesImmediately(currentTheme);
         
         LogCapture.addStepLog("Theme Application Verification", "✅ Theme application verified");
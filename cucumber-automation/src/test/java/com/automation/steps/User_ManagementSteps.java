@@ -1,6 +1,7 @@
 package com.automation.steps;
 
 import com.automation.businessLayer.UserManagementBL;
+import com.automation.utils.ContextKeys;
 import com.automation.utils.ContextStore;
 import com.automation.utils.LogCapture;
 import io.cucumber.java.en.Given;
@@ -272,7 +273,7 @@ public class User_ManagementSteps {
     @Given("I should see the default user with below details")
     public void iShouldSeeTheDefaultUserWithBelowDetails(DataTable dataTable) {
         List<Map<String, String>> users = dataTable.asMaps(String.class, String.class);
-        ContextStore.put("DEFAULT_USER_DETAILS", users);
+        ContextStore.put(ContextKeys.DEFAULT_USER_DETAILS, users);
 
 
         userManagementBL.verifyDefaultUserDetails();
@@ -0,0 +1,53 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+
+/**
+ * PageFactory decorator that backs single WebElement fields with a CachedElement
+ * The default PageFactory proxy runs findElement before every method call; the cached proxy locates
+ * the element on first use and again only after it goes stale. List fields keep the default proxy
+ * since their contents change as rows are added and removed.
+ */
+public class CachingFieldDecorator implements FieldDecorator {
+
+    private final ElementLocatorFactory locatorFactory;
+    private final FieldDecorator defaultDecorator;
+
+    public CachingFieldDecorator(ElementLocatorFactory locatorFactory) {
+        this.locatorFactory = locatorFactory;
+        this.defaultDecorator = new DefaultFieldDecorator(locatorFactory);
+    }
+
+    /**
+     * Initialise the @FindBy fields of a screen, caching single elements unless element.cache.enabled=false
+     * @param driver WebDriver to locate elements with
+     * @param screen Screen whose fields are initialised
+     */
+    public static void initElements(WebDriver driver, Object screen) {
+        ElementLocatorFactory locatorFactory = new DefaultElementLocatorFactory(driver);
+        PageFactory.initElements(CachedElement.isCachingEnabled()
+                ? new CachingFieldDecorator(locatorFactory)
+                : new DefaultFieldDecorator(locatorFactory), screen);
+    }
+
+    @Override
+    public Object decorate(ClassLoader loader, Field field) {
+        if (!WebElement.class.equals(field.getType())) {
+            return defaultDecorator.decorate(loader, field);
+        }
+        ElementLocator locator = locatorFactory.createLocator(field);
+        if (locator == null) {
+            return null;
+        }
+        return new CachedElement(field.getDeclaringClass().getSimpleName() + "." + field.getName(), locator::findElement);
+    }
+}
@@ -0,0 +1,34 @@
+package com.automation.utils;
+
+/**
+ * Typed key for a value kept in ContextStore
+ * The type parameter travels with the key, so steps and business layers read values back without
+ * casts and a put of the wrong type fails to compile. Keys compare by identity; declare each one
+ * once as a constant in ContextKeys.
+ * @param <T> Type of the value stored under the key
+ */
+public final class ContextKey<T> {
+
+    private final String name;
+
+    /**
+     * Create a key
+     * @param name Name used in log messages
+     */
+    public ContextKey(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the key name
+     * @return Key name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,41 @@
+package com.automation.utils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keys of the values steps and business layers share through ContextStore
+ */
+public final class ContextKeys {
+
+    // User management
+    public static final ContextKey<List<Map<String, String>>> DEFAULT_USER_DETAILS = new ContextKey<>("DEFAULT_USER_DETAILS");
+
+    // Product management
+    public static final ContextKey<Map<String, String>> PRODUCT_DETAILS = new ContextKey<>("PRODUCT_DETAILS");
+    public static final ContextKey<List<Map<String, String>>> DEFAULT_PRODUCT_DETAILS = new ContextKey<>("DEFAULT_PRODUCT_DETAILS");
+
+    // Task management
+    public static final ContextKey<String> TASK_TITLE = new ContextKey<>("TASK_TITLE");
+    public static final ContextKey<String> TASK_PRIORITY = new ContextKey<>("TASK_PRIORITY");
+    public static final ContextKey<List<Map<String, String>>> TASK_DATA = new ContextKey<>("TASK_DATA");
+
+    // Files and themes
+    public static final ContextKey<String> CURRENT_FILE_NAME = new ContextKey<>("currentFileName");
+    public static final ContextKey<String> CURRENT_FILE_TYPE = new ContextKey<>("currentFileType");
+    public static final ContextKey<String> CURRENT_FILE_SIZE = new ContextKey<>("currentFileSize");
+    public static final ContextKey<String> LAST_UPLOADED_FILE_NAME = new ContextKey<>("lastUploadedFileName");
+    public static final ContextKey<String> CURRENT_THEME = new ContextKey<>("currentTheme");
+    public static final ContextKey<String> LAST_SELECTED_THEME = new ContextKey<>("lastSelectedTheme");
+    public static final ContextKey<String> SELECTED_THEME_OPTION = new ContextKey<>("selectedThemeOption");
+    public static final ContextKey<List<String>> GALLERY_IMAGES = new ContextKey<>("galleryImages");
+    public static final ContextKey<Integer> GALLERY_IMAGE_COUNT = new ContextKey<>("galleryImageCount");
+    public static final ContextKey<Boolean> UPLOADS_ATTEMPTED = new ContextKey<>("uploadsAttempted");
+    public static final ContextKey<Boolean> UPLOAD_SUCCESS = new ContextKey<>("uploadSuccess");
+    public static final ContextKey<String> ACTIVE_BACKGROUND_IMAGE = new ContextKey<>("activeBackgroundImage");
+    public static final ContextKey<String> PREVIOUS_BACKGROUND_IMAGE = new ContextKey<>("previousBackgroundImage");
+    public static final ContextKey<Boolean> BACKGROUND_IMAGE_SET = new ContextKey<>("backgroundImageSet");
+
+    private ContextKeys() {
+    }
+}
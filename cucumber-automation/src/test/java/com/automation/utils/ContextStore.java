@@ -1,20 +1,67 @@
 package com.automation.utils;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Values shared between the steps of one scenario
+ * Each thread has its own store, so scenarios run in parallel by ParallelTestNGRunner never see
+ * each other's values and no lock is taken. TestHooks clears it when a scenario starts and
+ * finishes, which also releases the map so long runs do not accumulate values from earlier scenarios.
+ */
 public class ContextStore {
-    private static final Map<String, Object> context = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<ContextKey<?>, Object>> context = ThreadLocal.withInitial(HashMap::new);
 
-    public static void put(String key, Object value) {
-        context.put(key, value);
+    /**
+     * Store a value for the current scenario
+     * @param key Value key from ContextKeys
+     * @param value Value to store, null removes the key
+     * @param <T> Value type
+     */
+    public static <T> void put(ContextKey<T> key, T value) {
+        if (value == null) {
+            context.get().remove(key);
+        } else {
+            context.get().put(key, value);
+        }
     }
 
-    public static Object get(String key) {
-        return context.get(key);
+    /**
+     * Get a value stored earlier in the current scenario
+     * @param key Value key from ContextKeys
+     * @param <T> Value type
+     * @return Stored value or null if none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(ContextKey<T> key) {
+        return (T) context.get().get(key);
     }
 
+    /**
+     * Get a value stored earlier in the current scenario
+     * @param key Value key from ContextKeys
+     * @param defaultValue Value returned when none is stored
+     * @param <T> Value type
+     * @return Stored value or the default
+     */
+    public static <T> T get(ContextKey<T> key, T defaultValue) {
+        T value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Check if a value is stored for the current scenario
+     * @param key Value key from ContextKeys
+     * @return true if a value is stored
+     */
+    public static boolean contains(ContextKey<?> key) {
+        return context.get().containsKey(key);
+    }
+
+    /**
+     * Drop every value of the current scenario
+     */
     public static void clear() {
-        context.clear();
+        context.remove();
     }
-}
\ No newline at end of file
+}
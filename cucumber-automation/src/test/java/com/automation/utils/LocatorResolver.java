@@ -0,0 +1,301 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Resolves screen elements declared with several alternative locators
+ * All alternatives are polled together within one timeout instead of waiting the full timeout
+ * on each in turn. The alternative that matches first on a screen is remembered, as its CSS
+ * equivalent when XPathToCss can translate it and the CSS finds the same element, and is tried
+ * first from then on. Hits per alternative are counted so logReport() can list the alternatives
+ * that never matched (or are not valid selectors) and can be pruned.
+ */
+public final class LocatorResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorResolver.class);
+    private static final String REPORT_FILE = "build/locator-report.csv";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(50);
+
+    private static final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
+
+    private LocatorResolver() {
+    }
+
+    /**
+     * Wait for the first alternative that locates a clickable element
+     * @param key Element name, qualified by its screen (e.g. "ThemeAndFileUploadScreen.filesThemesTab")
+     * @param alternatives Locators to try, in declaration order
+     * @return Clickable element
+     * @throws TimeoutException if no alternative matches within the default timeout
+     */
+    public static WebElement clickable(String key, By... alternatives) {
+        return resolve(key, ExpectedConditions::elementToBeClickable, alternatives);
+    }
+
+    /**
+     * Wait for the first alternative that locates a visible element
+     * @param key Element name, qualified by its screen
+     * @param alternatives Locators to try, in declaration order
+     * @return Visible element
+     * @throws TimeoutException if no alternative matches within the default timeout
+     */
+    public static WebElement visible(String key, By... alternatives) {
+        return resolve(key, ExpectedConditions::visibilityOfElementLocated, alternatives);
+    }
+
+    /**
+     * Find all elements of the first alternative that matches anything, without waiting
+     * @param key Element name, qualified by its screen
+     * @param alternatives Locators to try, in declaration order
+     * @return Matching elements, or an empty list if no alternative matches
+     */
+    public static List<WebElement> findAll(String key, By... alternatives) {
+        Resolution resolution = resolution(key, alternatives);
+        WebDriver driver = DriverManager.getDriver();
+        for (int index : resolution.order()) {
+            List<WebElement> elements = resolution.findAll(driver, index);
+            if (!elements.isEmpty()) {
+                resolution.matched(driver, index, elements.get(0));
+                return elements;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Wait until one of the alternatives satisfies the condition
+     * @param key Element name, qualified by its screen
+     * @param condition Condition built for a single locator
+     * @param alternatives Locators to try, in declaration order
+     * @return Element returned by the condition
+     * @throws TimeoutException if no alternative matches within the default timeout
+     */
+    public static WebElement resolve(String key, Function<By, ExpectedCondition<WebElement>> condition, By... alternatives) {
+        Resolution resolution = resolution(key, alternatives);
+        WebDriver driver = DriverManager.getDriver();
+        try {
+            return new WebDriverWait(driver, DEFAULT_TIMEOUT, POLLING_INTERVAL)
+                    .ignoring(StaleElementReferenceException.class)
+                    .withMessage("no alternative of " + key + " matched")
+                    .until(webDriver -> {
+                        for (int index : resolution.order()) {
+                            WebElement element = resolution.evaluate(webDriver, index, condition);
+                            if (element != null) {
+                                resolution.matched(webDriver, index, element);
+                                return element;
+                            }
+                        }
+                        return null;
+                    });
+        } catch (TimeoutException e) {
+            resolution.misses.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Log the alternatives that never matched this run and write every alternative's hit count
+     * to build/locator-report.csv
+     */
+    public static void logReport() {
+        if (resolutions.isEmpty()) {
+            return;
+        }
+        Map<String, Resolution> sorted = new TreeMap<>(resolutions);
+        List<String> unused = new ArrayList<>();
+        sorted.forEach((key, resolution) -> {
+            for (int i = 0; i < resolution.alternatives.length; i++) {
+                if (resolution.hits[i].sum() == 0) {
+                    unused.add(String.format("%s #%d %s%s", key, i + 1, resolution.alternatives[i],
+                            resolution.invalid.get(i) != 0 ? " (invalid selector)" : ""));
+                }
+            }
+        });
+        logger.info("Locator alternatives: {} elements, {} alternatives never matched", sorted.size(), unused.size());
+        unused.forEach(line -> logger.info("  never matched: {}", line));
+
+        Path report = Paths.get(REPORT_FILE);
+        try {
+            Files.createDirectories(report.getParent());
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+                writer.println("element,alternative,locator,hits,invalid,preferred,misses");
+                sorted.forEach((key, resolution) -> {
+                    Preferred preferred = resolution.preferred.get();
+                    for (int i = 0; i < resolution.alternatives.length; i++) {
+                        writer.println(String.join(",", csv(key), String.valueOf(i + 1), csv(resolution.alternatives[i].toString()),
+                                String.valueOf(resolution.hits[i].sum()), String.valueOf(resolution.invalid.get(i) != 0),
+                                i == preferred.index ? csv(String.valueOf(preferred.locator)) : "",
+                                String.valueOf(resolution.misses.sum())));
+                    }
+                });
+            }
+            logger.info("Locator report written to {}", report);
+        } catch (IOException e) {
+            logger.warn("Could not write locator report {}: {}", report, e.getMessage());
+        }
+    }
+
+    private static Resolution resolution(String key, By[] alternatives) {
+        return resolutions.computeIfAbsent(key, k -> new Resolution(alternatives));
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Learned locator of one alternative; replaced as a whole so the index and locator always belong together
+     */
+    private static final class Preferred {
+        private static final Preferred NONE = new Preferred(-1, null);
+
+        private final int index;
+        private final By locator;
+
+        private Preferred(int index, By locator) {
+            this.index = index;
+            this.locator = locator;
+        }
+    }
+
+    /**
+     * Alternatives of one element, the locator learned for it and per-alternative hit counts
+     * Shared by the threads of a parallel run: the learned locator is published through one reference
+     * and the invalid flags (1 = invalid) are atomic
+     */
+    private static final class Resolution {
+        private final By[] alternatives;
+        private final LongAdder[] hits;
+        private final AtomicIntegerArray invalid;
+        private final LongAdder misses = new LongAdder();
+        private final AtomicReference<Preferred> preferred = new AtomicReference<>(Preferred.NONE);
+
+        private Resolution(By[] alternatives) {
+            this.alternatives = alternatives.clone();
+            this.hits = new LongAdder[alternatives.length];
+            this.invalid = new AtomicIntegerArray(alternatives.length);
+            for (int i = 0; i < hits.length; i++) {
+                hits[i] = new LongAdder();
+            }
+        }
+
+        /** Alternative indexes, the learned one first and invalid selectors left out */
+        private List<Integer> order() {
+            List<Integer> order = new ArrayList<>(alternatives.length);
+            int first = preferred.get().index;
+            if (first >= 0) {
+                order.add(first);
+            }
+            for (int i = 0; i < alternatives.length; i++) {
+                if (i != first && invalid.get(i) == 0) {
+                    order.add(i);
+                }
+            }
+            return order;
+        }
+
+        private By locator(int index) {
+            Preferred learned = preferred.get();
+            return learned.index == index && learned.locator != null ? learned.locator : alternatives[index];
+        }
+
+        private WebElement evaluate(WebDriver driver, int index, Function<By, ExpectedCondition<WebElement>> condition) {
+            By locator = locator(index);
+            try {
+                return condition.apply(locator).apply(driver);
+            } catch (NoSuchElementException e) {
+                return null;
+            } catch (InvalidSelectorException e) {
+                rejected(index, locator);
+                return null;
+            }
+        }
+
+        private List<WebElement> findAll(WebDriver driver, int index) {
+            By locator = locator(index);
+            try {
+                return driver.findElements(locator);
+            } catch (InvalidSelectorException e) {
+                rejected(index, locator);
+                return Collections.emptyList();
+            }
+        }
+
+        /**
+         * Fall back to the declared locator when the learned one is rejected, otherwise skip the alternative for the run
+         */
+        private void rejected(int index, By locator) {
+            if (locator != alternatives[index]) {
+                preferred.updateAndGet(current -> current.index == index && current.locator == locator
+                        ? new Preferred(index, alternatives[index]) : current);
+                return;
+            }
+            if (invalid.compareAndSet(index, 0, 1)) {
+                logger.warn("Skipping invalid locator {}", alternatives[index]);
+            }
+            preferred.updateAndGet(current -> current.index == index ? Preferred.NONE : current);
+        }
+
+        /**
+         * Count the hit and learn the alternative when it is not the preferred one yet
+         */
+        private void matched(WebDriver driver, int index, WebElement element) {
+            hits[index].increment();
+            if (preferred.get().index == index) {
+                return;
+            }
+            By learned = optimize(driver, alternatives[index], element);
+            preferred.set(new Preferred(index, learned));
+            logger.debug("Learned locator {} for alternative {}", learned, alternatives[index]);
+        }
+
+        /**
+         * Swap an XPath for its CSS equivalent when the CSS finds the same element
+         */
+        private static By optimize(WebDriver driver, By locator, WebElement element) {
+            LocatorParts parts = LocatorParts.of(locator);
+            if (parts == null || !"xpath".equals(parts.getStrategy())) {
+                return locator;
+            }
+            String css = XPathToCss.convert(parts.getValue());
+            if (css == null) {
+                return locator;
+            }
+            try {
+                List<WebElement> matches = driver.findElements(By.cssSelector(css));
+                return !matches.isEmpty() && matches.get(0).equals(element) ? By.cssSelector(css) : locator;
+            } catch (RuntimeException e) {
+                return locator;
+            }
+        }
+    }
+}
@@ -202,7 +202,7 @@ public class LogCapture {
      * Log WebDriver initialization
      */
     public static void logDriverInit() {
-        addStepLog("WebDriver Setup", "🚀 Initializing WebDriver using DriverFactory...");
+        addStepLog("WebDriver Setup", "🚀 Initializing WebDriver using WebDriverFactory...");
     }
     
     /**
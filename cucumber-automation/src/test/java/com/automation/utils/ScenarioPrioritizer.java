@@ -0,0 +1,62 @@
+package com.automation.utils;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders the runner's scenario rows so the scenarios most likely to fail soonest run first
+ * Scenarios are ranked by failure probability per second of runtime from RunHistoryStore, keyed like
+ * TestHooks records them (Feature.feature:line). Rows keep their cucumber order when
+ * scheduler.priority.enabled is off.
+ */
+public class ScenarioPrioritizer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioPrioritizer.class);
+    
+    /**
+     * Order data provider rows of {PickleWrapper, FeatureWrapper}
+     * @param scenarios Rows as AbstractTestNGCucumberTests.scenarios() returns them
+     * @return The rows, highest priority first
+     */
+    public static Object[][] order(Object[][] scenarios) {
+        if (!FailFast.isPriorityEnabled() || scenarios.length < 2) {
+            return scenarios;
+        }
+        RunHistoryStore history = RunHistoryStore.getInstance();
+        List<Object[]> rows = new ArrayList<>(Arrays.asList(scenarios));
+        long fallback = FailFast.medianDuration(history, rows, ScenarioPrioritizer::scenarioId);
+        List<Object[]> declared = new ArrayList<>(rows);
+        rows.sort(Comparator.comparingDouble((Object[] row) -> FailFast.priority(history, scenarioId(row), fallback)).reversed());
+        
+        logger.info("Ordered {} scenarios by failure probability per second: expected time to first failure {}s (declared order {}s)",
+                rows.size(), seconds(expectedTimeToFirstFailure(history, rows, fallback)),
+                seconds(expectedTimeToFirstFailure(history, declared, fallback)));
+        return rows.toArray(new Object[0][]);
+    }
+    
+    /**
+     * Scenario id of a row: Feature.feature:line
+     */
+    private static String scenarioId(Object[] row) {
+        Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+        String uri = pickle.getUri().toString();
+        return uri.substring(uri.lastIndexOf('/') + 1) + ":" + pickle.getLine();
+    }
+    
+    private static long expectedTimeToFirstFailure(RunHistoryStore history, List<Object[]> rows, long fallback) {
+        return FailFast.expectedTimeToFirstFailure(rows,
+                row -> history.failureProbability(scenarioId(row)),
+                row -> FailFast.expectedMillis(history, scenarioId(row), fallback));
+    }
+    
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+}
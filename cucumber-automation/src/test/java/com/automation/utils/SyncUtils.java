@@ -0,0 +1,287 @@
+package com.automation.utils;
+
+import com.automation.driver.NetworkTracker;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Condition-based synchronization for screens and business layers
+ * Replaces fixed Thread.sleep calls: every primitive returns as soon as the application
+ * reaches the expected state and gives up (without failing the step) after the timeout
+ * Network waits use the session's CDP NetworkTracker on Chromium and page-side instrumentation elsewhere
+ */
+public class SyncUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncUtils.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(300);
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(50);
+
+    public static final By UPLOADED_FILES = By.cssSelector(".file-item");
+    private static final By PAGE_BACKGROUND = By.tagName("body");
+    private static final By UPLOAD_IN_PROGRESS = By.xpath("//*[contains(@class, 'uploading')] | //button[contains(text(), 'Uploading')]");
+
+    /** Returns the text of the first visible toast not returned before, marking it as seen */
+    private static final String NEW_TOAST_SCRIPT =
+            "var expected = arguments[0];" +
+            "var toasts = document.querySelectorAll('.Toastify__toast, [role=\"alert\"], .toast, .notification');" +
+            "for (var i = 0; i < toasts.length; i++) {" +
+            "  var toast = toasts[i], text = toast.innerText || '';" +
+            "  if (toast.dataset.syncSeen || toast.getClientRects().length === 0) { continue; }" +
+            "  if (expected && text.toLowerCase().indexOf(expected.toLowerCase()) < 0) { continue; }" +
+            "  toast.dataset.syncSeen = '1';" +
+            "  return text;" +
+            "}" +
+            "return null;";
+
+    /**
+     * Counts in-flight fetch/XHR calls (instrumenting the page on first use) and reports
+     * [pending requests, milliseconds since the last network activity]
+     */
+    private static final String NETWORK_STATE_SCRIPT =
+            "var w = window;" +
+            "if (!w.__syncTracker) {" +
+            "  var tracker = w.__syncTracker = {pending: 0, last: Date.now()};" +
+            "  var finished = function () { tracker.pending = Math.max(0, tracker.pending - 1); tracker.last = Date.now(); };" +
+            "  if (w.fetch) {" +
+            "    var originalFetch = w.fetch;" +
+            "    w.fetch = function () {" +
+            "      tracker.pending++; tracker.last = Date.now();" +
+            "      return originalFetch.apply(this, arguments).then(" +
+            "        function (response) { finished(); return response; }," +
+            "        function (error) { finished(); throw error; });" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    tracker.pending++; tracker.last = Date.now();" +
+            "    this.addEventListener('loadend', finished);" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "}" +
+            // Requests that started before instrumentation still show up as resource timings
+            "var entries = performance.getEntriesByType('resource');" +
+            "var lastResponse = entries.length ? performance.timeOrigin + entries[entries.length - 1].responseEnd : 0;" +
+            "return [w.__syncTracker.pending, Date.now() - Math.max(w.__syncTracker.last, lastResponse)];";
+
+    /** First completed resource matching the pattern that no earlier call returned */
+    private static final String REQUEST_MATCH_SCRIPT =
+            "var pattern = new RegExp(arguments[0]);" +
+            "var seen = window.__requestsSeen = window.__requestsSeen || {};" +
+            "var entries = performance.getEntriesByType('resource');" +
+            "for (var i = 0; i < entries.length; i++) {" +
+            "  if (!seen[i] && entries[i].responseEnd > 0 && pattern.test(entries[i].name)) {" +
+            "    seen[i] = true;" +
+            "    return entries[i].name;" +
+            "  }" +
+            "}" +
+            "return null;";
+
+    /**
+     * Running finite animations and transitions on the element; infinite ones (the gradient theme)
+     * never finish and the toast auto-close progress bar runs for the toast's lifetime, so both are skipped
+     */
+    private static final String ANIMATIONS_RUNNING_SCRIPT =
+            "var el = arguments[0];" +
+            "if (!el || !el.getAnimations) { return 0; }" +
+            "return el.getAnimations().filter(function (a) {" +
+            "  if (a.playState !== 'running' || !a.effect) { return false; }" +
+            "  if (a.effect.getTiming().iterations === Infinity) { return false; }" +
+            "  var target = a.effect.target;" +
+            "  return !(target && target.classList && target.classList.contains('Toastify__progress-bar'));" +
+            "}).length;";
+
+    /**
+     * Wait for a new toast notification to appear
+     * @return Toast text, or null if none appeared within the default timeout
+     */
+    public static String waitForToast() {
+        return waitForToast(null, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Wait for a new toast notification, optionally containing the given text
+     * Toasts already returned by an earlier call are ignored, so back-to-back actions each wait for their own toast
+     * @param expectedText Text the toast must contain (case-insensitive), or null for any toast
+     * @param timeout Maximum time to wait
+     * @return Toast text, or null if none appeared within the timeout
+     */
+    public static String waitForToast(String expectedText, Duration timeout) {
+        String toast = await("toast", timeout, driver -> (String) js(driver).executeScript(NEW_TOAST_SCRIPT, expectedText));
+        logger.debug("Toast: {}", toast);
+        return toast;
+    }
+
+    /**
+     * Wait for the number of elements matching the locator to differ from a previous count
+     * @param items Locator of the list items
+     * @param previousSize Count taken before the action
+     * @return New count, or the previous count if it did not change within the default timeout
+     */
+    public static int waitForListSizeChange(By items, int previousSize) {
+        return waitForListSizeChange(items, previousSize, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Wait for the number of elements matching the locator to differ from a previous count
+     * @param items Locator of the list items
+     * @param previousSize Count taken before the action
+     * @param timeout Maximum time to wait
+     * @return New count, or the previous count if it did not change within the timeout
+     */
+    public static int waitForListSizeChange(By items, int previousSize, Duration timeout) {
+        Integer size = await("list size change of " + items, timeout, driver -> {
+            int current = driver.findElements(items).size();
+            return current != previousSize ? current : null;
+        });
+        return size != null ? size : previousSize;
+    }
+
+    /**
+     * Wait until no request is in flight and the network has been quiet for 300ms
+     * @return true if the network went idle within the default timeout
+     */
+    public static boolean waitForNetworkIdle() {
+        return waitForNetworkIdle(DEFAULT_QUIET_PERIOD, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Wait until no request is in flight and the network has been quiet for the given period
+     * @param quietPeriod How long the network must stay idle
+     * @param timeout Maximum time to wait
+     * @return true if the network went idle within the timeout
+     */
+    public static boolean waitForNetworkIdle(Duration quietPeriod, Duration timeout) {
+        NetworkTracker tracker = NetworkTracker.forDriver(DriverManager.getDriver());
+        if (tracker != null) {
+            try {
+                tracker.waitForNetworkIdle(quietPeriod.toMillis(), timeout);
+                return true;
+            } catch (TimeoutException e) {
+                logger.warn(e.getMessage());
+                return false;
+            }
+        }
+        Boolean idle = await("network idle", timeout, driver -> {
+            List<?> state = (List<?>) js(driver).executeScript(NETWORK_STATE_SCRIPT);
+            long pending = ((Number) state.get(0)).longValue();
+            long quietFor = ((Number) state.get(1)).longValue();
+            return pending == 0 && quietFor >= quietPeriod.toMillis() ? Boolean.TRUE : null;
+        });
+        return idle != null;
+    }
+
+    /**
+     * Wait for a request whose URL matches the pattern to complete
+     * @param urlPattern Regular expression found anywhere in the URL, e.g. "/api/tasks"
+     * @return URL of the completed request, or null if none completed within the default timeout
+     */
+    public static String waitForRequest(String urlPattern) {
+        return waitForRequest(urlPattern, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Wait for a request whose URL matches the pattern to complete
+     * A request that finished before the call counts if no earlier call returned it
+     * @param urlPattern Regular expression found anywhere in the URL, e.g. "/api/tasks"
+     * @param timeout Maximum time to wait
+     * @return URL of the completed request, or null if none completed within the timeout
+     */
+    public static String waitForRequest(String urlPattern, Duration timeout) {
+        NetworkTracker tracker = NetworkTracker.forDriver(DriverManager.getDriver());
+        if (tracker != null) {
+            try {
+                return tracker.waitForRequest(urlPattern, timeout);
+            } catch (TimeoutException e) {
+                logger.warn(e.getMessage());
+                return null;
+            }
+        }
+        return await("request " + urlPattern, timeout, driver -> (String) js(driver).executeScript(REQUEST_MATCH_SCRIPT, urlPattern));
+    }
+
+    /**
+     * Wait for an upload to finish: no upload in progress and the uploaded file list has grown
+     * @param previousFileCount Uploaded file count taken before the upload
+     * @return true if the upload completed within the default timeout
+     */
+    public static boolean waitForUploadComplete(int previousFileCount) {
+        Boolean complete = await("upload complete", DEFAULT_TIMEOUT, driver ->
+                driver.findElements(UPLOAD_IN_PROGRESS).isEmpty()
+                        && driver.findElements(UPLOADED_FILES).size() > previousFileCount ? Boolean.TRUE : null);
+        return complete != null;
+    }
+
+    /**
+     * Wait until no upload is in progress
+     * @return true if no upload was in progress within the default timeout
+     */
+    public static boolean waitForUploadComplete() {
+        Boolean complete = await("upload complete", DEFAULT_TIMEOUT, driver ->
+                driver.findElements(UPLOAD_IN_PROGRESS).isEmpty() ? Boolean.TRUE : null);
+        return complete != null;
+    }
+
+    /**
+     * Number of files currently listed as uploaded
+     * @return Uploaded file count
+     */
+    public static int getUploadedFileCount() {
+        return DriverManager.getDriver().findElements(UPLOADED_FILES).size();
+    }
+
+    /**
+     * Wait until the page background has no finite animation or transition running (e.g. after a
+     * theme change or a background image is applied; both are set on the body)
+     * @return true if animations finished within the default timeout
+     */
+    public static boolean waitForAnimationsToFinish() {
+        return waitForAnimationsToFinish(PAGE_BACKGROUND);
+    }
+
+    /**
+     * Wait until the target element has no finite animation or transition running
+     * @param target Animated element
+     * @return true if animations finished within the default timeout, or the element is not present
+     */
+    public static boolean waitForAnimationsToFinish(By target) {
+        Boolean finished = await("animations on " + target, DEFAULT_TIMEOUT, driver -> {
+            List<WebElement> elements = driver.findElements(target);
+            try {
+                return elements.isEmpty()
+                        || ((Number) js(driver).executeScript(ANIMATIONS_RUNNING_SCRIPT, elements.get(0))).longValue() == 0
+                        ? Boolean.TRUE : null;
+            } catch (StaleElementReferenceException e) {
+                return null; // Re-rendered; look it up again on the next poll
+            }
+        });
+        return finished != null;
+    }
+
+    private static <T> T await(String description, Duration timeout, ExpectedCondition<T> condition) {
+        long start = System.currentTimeMillis();
+        try {
+            T result = new WebDriverWait(DriverManager.getDriver(), timeout, POLLING_INTERVAL).until(condition);
+            logger.debug("Synchronized on {} after {}ms", description, System.currentTimeMillis() - start);
+            return result;
+        } catch (TimeoutException e) {
+            logger.warn("Gave up waiting for {} after {}ms", description, timeout.toMillis());
+            return null;
+        }
+    }
+
+    private static JavascriptExecutor js(WebDriver driver) {
+        return (JavascriptExecutor) driver;
+    }
+}
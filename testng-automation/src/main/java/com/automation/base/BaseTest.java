@@ -1,7 +1,12 @@
 package com.automation.base;
 
+import com.automation.driver.CoverageRecorder;
+import com.automation.driver.SessionResetEngine;
 import com.automation.driver.WebDriverFactory;
+import com.automation.utils.AdaptiveWait;
+import com.automation.utils.CachedElement;
 import com.automation.utils.ConfigReader;
+import com.automation.utils.PageSnapshot;
 import com.automation.utils.SeleniumUtils;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -22,6 +27,7 @@ public abstract class BaseTest {
     public void suiteSetup() {
         logger.info("=== Test Suite Started ===");
         config = ConfigReader.getInstance();
+        WebDriverFactory.warmUpPool();
     }
     
     @BeforeClass(alwaysRun = true)
@@ -36,8 +42,11 @@ public abstract class BaseTest {
         seleniumUtils = new SeleniumUtils(driver);
         config = ConfigReader.getInstance();
         String baseUrl = config.getProperty("base.url", "http://localhost:3000");
-        logger.info("Navigating to base URL: {}", baseUrl);
-        driver.get(baseUrl);
+        // Pooled sessions are already parked on the base URL by the session reset
+        if (!SessionResetEngine.isAt(driver, baseUrl)) {
+            logger.info("Navigating to base URL: {}", baseUrl);
+            driver.get(baseUrl);
+        }
     }
     
     @AfterMethod(alwaysRun = true)
@@ -55,6 +64,13 @@ public abstract class BaseTest {
     
     @AfterSuite(alwaysRun = true)
     public void suiteTeardown() {
+        SessionResetEngine.logSummary();
+        SeleniumUtils.logWaitReport();
+        CachedElement.logReport();
+        PageSnapshot.logReport();
+        AdaptiveWait.dumpHistograms();
+        CoverageRecorder.writeIndex();
+        WebDriverFactory.shutdownPool();
         logger.info("=== Test Suite Completed ===");
     }
     
@@ -0,0 +1,253 @@
+package com.automation.listeners;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.FailFast;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orders parallel tests longest-first from the durations recorded by earlier runs
+ * TestNG hands methods (parallel="methods") or classes (parallel="classes") to free worker threads
+ * in the order the interceptor returns, so starting the longest units first is the LPT schedule and
+ * keeps long classes from becoming stragglers at the end of the run. Methods keep their declared order
+ * inside a class. Tests without history are estimated at the median recorded duration; with no history
+ * at all, or when the test does not run methods or classes in parallel, the declared order is kept.
+ * With scheduler.priority.enabled=true the order is left to FailFastPrioritizer.
+ *
+ * Durations (summed over data provider invocations) are blended into the history file when the suite
+ * finishes, so the next run schedules from them.
+ *
+ * Configured through ConfigReader: scheduler.balance.enabled (default true),
+ * scheduler.history.file (default build/test-history/test-durations.properties)
+ */
+public class DurationBalancingInterceptor implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationBalancingInterceptor.class);
+    private static final String DEFAULT_HISTORY_FILE = "build/test-history/test-durations.properties";
+    private static final double HISTORY_WEIGHT = 0.5;
+
+    private final Map<String, LongAdder> runDurations = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> history;
+
+    /**
+     * Check if duration balancing is enabled
+     * @return true unless scheduler.balance.enabled=false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("scheduler.balance.enabled", true);
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        // FailFastPrioritizer orders by failure probability instead
+        if (!isEnabled() || FailFast.isPriorityEnabled() || methods.size() < 2) {
+            return methods;
+        }
+        XmlSuite.ParallelMode mode = context.getCurrentXmlTest().getParallel();
+        boolean byClass = mode == XmlSuite.ParallelMode.CLASSES || mode == XmlSuite.ParallelMode.INSTANCES;
+        if (mode != XmlSuite.ParallelMode.METHODS && !byClass) {
+            return methods;
+        }
+
+        Map<String, Long> known = history();
+        long fallback = median(known, methods);
+        if (fallback < 0) {
+            logger.info("No duration history for {}, keeping declared order", context.getName());
+            return methods;
+        }
+
+        // Units are single methods or whole classes, scheduled longest-first; the sort is stable for ties
+        Map<Object, List<IMethodInstance>> units = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            Object unit = byClass ? method.getMethod().getRealClass() : method;
+            units.computeIfAbsent(unit, k -> new ArrayList<>()).add(method);
+        }
+        List<List<IMethodInstance>> declared = new ArrayList<>(units.values());
+        List<List<IMethodInstance>> scheduled = new ArrayList<>(declared);
+        scheduled.sort(Comparator.comparingLong((List<IMethodInstance> unit) -> estimate(unit, known, fallback)).reversed());
+
+        int threads = Math.max(1, context.getCurrentXmlTest().getThreadCount());
+        logger.info("Scheduled {} {} of {} longest-first on {} threads: estimated makespan {}ms (declared order {}ms)",
+                scheduled.size(), byClass ? "classes" : "methods", context.getName(), threads,
+                makespan(scheduled, threads, known, fallback), makespan(declared, threads, known, fallback));
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        scheduled.forEach(ordered::addAll);
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!isEnabled() || runDurations.isEmpty()) {
+            return;
+        }
+        Map<String, Long> measured = new LinkedHashMap<>();
+        runDurations.forEach((key, total) -> measured.put(key, total.sum()));
+        runDurations.clear();
+        writeHistory(historyPath(), measured);
+        history = null;
+    }
+
+    private void record(ITestResult result) {
+        long duration = result.getEndMillis() - result.getStartMillis();
+        if (duration >= 0) {
+            runDurations.computeIfAbsent(key(result.getMethod()), k -> new LongAdder()).add(duration);
+        }
+    }
+
+    private Map<String, Long> history() {
+        Map<String, Long> loaded = history;
+        if (loaded == null) {
+            loaded = new ConcurrentHashMap<>();
+            Properties stored = readHistory(historyPath());
+            for (String key : stored.stringPropertyNames()) {
+                try {
+                    loaded.put(key, Long.parseLong(stored.getProperty(key).trim()));
+                } catch (NumberFormatException e) {
+                    logger.debug("Ignoring duration history entry {}={}", key, stored.getProperty(key));
+                }
+            }
+            history = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * Median recorded duration of the methods about to run, or -1 if none has history
+     */
+    private static long median(Map<String, Long> known, List<IMethodInstance> methods) {
+        List<Long> durations = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            Long duration = known.get(key(method.getMethod()));
+            if (duration != null) {
+                durations.add(duration);
+            }
+        }
+        if (durations.isEmpty()) {
+            return -1;
+        }
+        Collections.sort(durations);
+        return durations.get(durations.size() / 2);
+    }
+
+    private static long estimate(List<IMethodInstance> unit, Map<String, Long> known, long fallback) {
+        long total = 0;
+        for (IMethodInstance method : unit) {
+            total += known.getOrDefault(key(method.getMethod()), fallback);
+        }
+        return total;
+    }
+
+    /**
+     * Finish time of the last unit when each unit goes to the first free thread
+     */
+    private static long makespan(List<List<IMethodInstance>> units, int threads, Map<String, Long> known, long fallback) {
+        PriorityQueue<Long> workers = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(0L);
+        }
+        long end = 0;
+        for (List<IMethodInstance> unit : units) {
+            long finish = workers.poll() + estimate(unit, known, fallback);
+            workers.add(finish);
+            end = Math.max(end, finish);
+        }
+        return end;
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static Path historyPath() {
+        return Paths.get(ConfigReader.getInstance().getProperty("scheduler.history.file", DEFAULT_HISTORY_FILE));
+    }
+
+    private static Properties readHistory(Path historyPath) {
+        Properties stored = new Properties();
+        if (Files.isRegularFile(historyPath)) {
+            try (InputStream input = Files.newInputStream(historyPath)) {
+                stored.load(input);
+            } catch (IOException e) {
+                logger.warn("Could not read duration history {}: {}", historyPath, e.getMessage());
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Blend this run's durations into the history under an exclusive file lock so concurrent forks
+     * never lose each other's entries; the file is replaced atomically
+     */
+    private static void writeHistory(Path historyPath, Map<String, Long> measured) {
+        try {
+            Files.createDirectories(historyPath.toAbsolutePath().getParent());
+            Path lockPath = historyPath.resolveSibling(historyPath.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Properties stored = readHistory(historyPath);
+                measured.forEach((key, duration) -> {
+                    long blended = duration;
+                    try {
+                        String previous = stored.getProperty(key);
+                        if (previous != null) {
+                            blended = Math.round(HISTORY_WEIGHT * duration + (1 - HISTORY_WEIGHT) * Long.parseLong(previous.trim()));
+                        }
+                    } catch (NumberFormatException e) {
+                        // Replace the unreadable entry with this run's duration
+                    }
+                    stored.setProperty(key, String.valueOf(blended));
+                });
+
+                Path tempPath = historyPath.resolveSibling(historyPath.getFileName() + ".tmp");
+                try (OutputStream output = Files.newOutputStream(tempPath)) {
+                    stored.store(output, "Test durations in milliseconds, used to schedule the longest tests first");
+                }
+                Files.move(tempPath, historyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            logger.info("Duration history updated with {} tests: {}", measured.size(), historyPath);
+        } catch (IOException e) {
+            logger.warn("Could not update duration history {}: {}", historyPath, e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.automation.listeners;
 
+import com.automation.utils.RunHistoryStore;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
@@ -55,6 +56,15 @@ public class ExtentReportListener implements ITestListener {
         ExtentTest test = extent.createTest(testName, description);
         test.assignCategory(result.getTestClass().getName());
         
+        // Flag tests the run history scores as flaky so their failures are read in that light
+        String testId = result.getMethod().getRealClass().getName() + "#" + testName;
+        RunHistoryStore history = RunHistoryStore.getInstance();
+        if (history.isFlaky(testId)) {
+            test.assignCategory("Flaky");
+            test.warning(String.format("Flaky test: flakiness %.2f over the last %d runs",
+                    history.flakiness(testId), history.getRunCount(testId)));
+        }
+        
         extentTest.set(test);
         logger.debug("ExtentTest created for: {}", testName);
     }
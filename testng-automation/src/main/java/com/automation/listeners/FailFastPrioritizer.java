@@ -0,0 +1,131 @@
+package com.automation.listeners;
+
+import com.automation.driver.WebDriverFactory;
+import com.automation.utils.FailFast;
+import com.automation.utils.RunHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the tests most likely to fail soonest first and optionally stops the run after N failures
+ * With scheduler.priority.enabled=true, methods (parallel="methods") or whole classes (any other mode,
+ * so class-level configuration still runs once per class) are ordered by failure probability per
+ * second of runtime from RunHistoryStore, methods inside a class likewise. This replaces the
+ * longest-first order of DurationBalancingInterceptor, which then keeps the order it is given.
+ *
+ * With failfast.max.failures set, the run trips after that many test failures: tests and their
+ * before-configuration that have not started are skipped, and the session pool is drained so idle
+ * browsers close at once and busy ones when their test ends. Time-to-first-failure is logged at the
+ * end of every suite.
+ */
+public class FailFastPrioritizer implements IMethodInterceptor, IInvokedMethodListener, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailFastPrioritizer.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        FailFast.start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FailFast.logReport();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!FailFast.isPriorityEnabled() || methods.size() < 2) {
+            return methods;
+        }
+        RunHistoryStore history = RunHistoryStore.getInstance();
+        long fallback = FailFast.medianDuration(history, methods, method -> key(method.getMethod()));
+        boolean byMethod = context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.METHODS;
+
+        Map<Object, List<IMethodInstance>> units = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            Object unit = byMethod ? method : method.getMethod().getRealClass();
+            units.computeIfAbsent(unit, k -> new ArrayList<>()).add(method);
+        }
+        Comparator<IMethodInstance> methodOrder = Comparator.comparingDouble(
+                (IMethodInstance method) -> FailFast.priority(history, key(method.getMethod()), fallback)).reversed();
+        List<List<IMethodInstance>> ordered = new ArrayList<>();
+        for (List<IMethodInstance> unit : units.values()) {
+            List<IMethodInstance> sorted = new ArrayList<>(unit);
+            sorted.sort(methodOrder);
+            ordered.add(sorted);
+        }
+        ordered.sort(Comparator.comparingDouble((List<IMethodInstance> unit) -> unitPriority(history, unit, fallback)).reversed());
+
+        List<IMethodInstance> result = new ArrayList<>(methods.size());
+        ordered.forEach(result::addAll);
+        logger.info("Ordered {} {} of {} by failure probability per second: expected time to first failure {}s (declared order {}s)",
+                ordered.size(), byMethod ? "methods" : "classes", context.getName(),
+                seconds(expectedTimeToFirstFailure(history, result, fallback)),
+                seconds(expectedTimeToFirstFailure(history, methods, fallback)));
+        return result;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!FailFast.isTripped()) {
+            return;
+        }
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (method.isTestMethod() || testMethod.isBeforeMethodConfiguration() || testMethod.isBeforeClassConfiguration()
+                || testMethod.isBeforeTestConfiguration() || testMethod.isBeforeGroupsConfiguration()) {
+            throw new SkipException("Fail-fast: stopped after " + FailFast.getMaxFailures() + " failure(s)");
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (FailFast.recordFailure(key(result.getMethod()))) {
+            WebDriverFactory.drainPool();
+        }
+    }
+
+    /**
+     * Failure probability of a unit per second of its total runtime
+     */
+    private static double unitPriority(RunHistoryStore history, List<IMethodInstance> unit, long fallback) {
+        double passAll = 1;
+        long millis = 0;
+        for (IMethodInstance method : unit) {
+            passAll *= 1 - history.failureProbability(key(method.getMethod()));
+            millis += FailFast.expectedMillis(history, key(method.getMethod()), fallback);
+        }
+        return (1 - passAll) / (millis / 1000.0);
+    }
+
+    private static long expectedTimeToFirstFailure(RunHistoryStore history, List<IMethodInstance> methods, long fallback) {
+        return FailFast.expectedTimeToFirstFailure(methods,
+                method -> history.failureProbability(key(method.getMethod())),
+                method -> FailFast.expectedMillis(history, key(method.getMethod()), fallback));
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+}
@@ -0,0 +1,134 @@
+package com.automation.listeners;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.RunHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Moves flaky test methods out of the parallel tests into a serial quarantine lane
+ * Before the suite runs, every method RunHistoryStore considers flaky is excluded from its test and
+ * included in a "<test> [quarantine]" test added at the end of the suite, with the same parameters and
+ * groups, running on one thread. Flaky tests then neither hold a parallel worker while they wait out
+ * timeouts nor share the browser and backend with the main run, and their results stay in the report.
+ * Package entries holding a quarantined class are expanded to their classes.
+ *
+ * Configured through ConfigReader: flaky.quarantine.enabled (default true); scoring is configured on
+ * RunHistoryStore
+ */
+public class FlakyTestQuarantine implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlakyTestQuarantine.class);
+    private static final String LANE_SUFFIX = " [quarantine]";
+
+    /**
+     * Check if the quarantine lane is enabled
+     * @return true unless flaky.quarantine.enabled=false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("flaky.quarantine.enabled", true);
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!isEnabled()) {
+            return;
+        }
+        RunHistoryStore history = RunHistoryStore.getInstance();
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : new ArrayList<>(suite.getTests())) {
+                if (!test.getName().endsWith(LANE_SUFFIX)) {
+                    quarantine(suite, test, history);
+                }
+            }
+        }
+    }
+
+    private void quarantine(XmlSuite suite, XmlTest test, RunHistoryStore history) {
+        Map<XmlClass, List<String>> quarantined = new LinkedHashMap<>();
+        List<XmlClass> classes = new ArrayList<>(test.getXmlClasses());
+        classes.forEach(xmlClass -> collect(xmlClass, history, quarantined));
+        List<XmlPackage> packages = new ArrayList<>();
+        for (XmlPackage xmlPackage : test.getXmlPackages()) {
+            Map<XmlClass, List<String>> inPackage = new LinkedHashMap<>();
+            List<XmlClass> packageClasses = new ArrayList<>();
+            xmlPackage.getXmlClasses().forEach(xmlClass -> packageClasses.add(new XmlClass(xmlClass.getName(), false)));
+            packageClasses.forEach(xmlClass -> collect(xmlClass, history, inPackage));
+            if (inPackage.isEmpty()) {
+                packages.add(xmlPackage);
+            } else {
+                classes.addAll(packageClasses);
+                quarantined.putAll(inPackage);
+            }
+        }
+        if (quarantined.isEmpty()) {
+            return;
+        }
+        test.setXmlClasses(classes);
+        test.setXmlPackages(packages);
+
+        XmlTest lane = new XmlTest(suite);
+        lane.setName(test.getName() + LANE_SUFFIX);
+        lane.setParameters(test.getLocalParameters());
+        lane.setIncludedGroups(test.getIncludedGroups());
+        lane.setExcludedGroups(test.getExcludedGroups());
+        lane.setParallel(XmlSuite.ParallelMode.NONE);
+        lane.setThreadCount(1);
+        lane.setPreserveOrder(true);
+        List<XmlClass> laneClasses = new ArrayList<>();
+        quarantined.forEach((xmlClass, methods) -> {
+            List<String> excluded = new ArrayList<>(xmlClass.getExcludedMethods());
+            excluded.addAll(methods);
+            xmlClass.setExcludedMethods(excluded);
+
+            XmlClass laneClass = new XmlClass(xmlClass.getName(), false);
+            List<XmlInclude> includes = new ArrayList<>();
+            methods.forEach(method -> includes.add(new XmlInclude(method)));
+            laneClass.setIncludedMethods(includes);
+            laneClasses.add(laneClass);
+            methods.forEach(method -> logger.info("Quarantined {}#{} (flakiness {} over {} runs) into {}", xmlClass.getName(),
+                    method, String.format("%.2f", history.flakiness(xmlClass.getName() + "#" + method)),
+                    history.getRunCount(xmlClass.getName() + "#" + method), lane.getName()));
+        });
+        lane.setXmlClasses(laneClasses);
+    }
+
+    /**
+     * Add the flaky test methods of a class that its entry would run
+     */
+    private static void collect(XmlClass xmlClass, RunHistoryStore history, Map<XmlClass, List<String>> quarantined) {
+        Set<String> included = new TreeSet<>();
+        xmlClass.getIncludedMethods().forEach(include -> included.add(include.getName()));
+        Set<String> methods = new TreeSet<>();
+        Class<?> testClass;
+        try {
+            testClass = Class.forName(xmlClass.getName(), false, FlakyTestQuarantine.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return;
+        }
+        for (Method method : testClass.getMethods()) {
+            String name = method.getName();
+            if (history.isFlaky(xmlClass.getName() + "#" + name) && (included.isEmpty() || included.contains(name))
+                    && !xmlClass.getExcludedMethods().contains(name)) {
+                methods.add(name);
+            }
+        }
+        if (!methods.isEmpty()) {
+            quarantined.put(xmlClass, new ArrayList<>(methods));
+        }
+    }
+}
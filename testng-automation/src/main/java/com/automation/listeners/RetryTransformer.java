@@ -0,0 +1,55 @@
+package com.automation.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Installs SmartRetryAnalyzer on every test that does not declare its own retry analyzer
+ * Also gives each suite a fresh retry budget, logs tests that only passed on retry (the run history
+ * records them as passed on retry, which scores them as flaky) and logs the retry summary when the suite ends.
+ * Annotation transformers only take effect when registered in the suite file or on the command line.
+ */
+public class RetryTransformer implements IAnnotationTransformer, ISuiteListener, ITestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryTransformer.class);
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<? extends IRetryAnalyzer> declared = annotation.getRetryAnalyzerClass();
+        if (declared == null || declared == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(SmartRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        SmartRetryAnalyzer.resetBudget();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        SmartRetryAnalyzer.logReport();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        IRetryAnalyzer analyzer = result.getMethod().getRetryAnalyzer(result);
+        if (analyzer instanceof SmartRetryAnalyzer && ((SmartRetryAnalyzer) analyzer).getAttempts() > 0) {
+            SmartRetryAnalyzer.recordPassedOnRetry();
+            logger.warn("{}#{} passed only after {} retry(s); recorded as flaky",
+                    result.getMethod().getRealClass().getSimpleName(), result.getMethod().getMethodName(),
+                    ((SmartRetryAnalyzer) analyzer).getAttempts());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.automation.listeners;
+
+import com.automation.driver.WebDriverFactory;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.FailFast;
+import com.automation.utils.RunHistoryStore;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retries test failures that are transient, within a suite-wide time budget
+ * A failure is transient when its exception or one of its causes is a configured type (wait timeouts,
+ * stale elements, lost sessions) or a WebDriverException reporting a browser crash. Assertion failures
+ * and every other exception fail at once. Each retry is charged the failed attempt's duration against
+ * retry.budget.seconds, so a broken environment cannot double the run; once the budget is spent,
+ * failures stand.
+ *
+ * A test whose latest runs all failed even after their retries is not retried: it fails consistently,
+ * so a retry would only hide a regression. Runs that passed on retry end that streak. Crashed sessions
+ * are always replaced for the retry; with retry.fresh.session=true every retry gets a brand-new session
+ * instead of a pooled one. Nothing is retried once a fail-fast run has tripped.
+ *
+ * RetryTransformer installs the analyzer on every test. TestNG creates one instance per test method
+ * and data provider row, so attempts are counted per instance.
+ *
+ * Configured through ConfigReader: retry.enabled (default true), retry.max.attempts (default 1),
+ * retry.budget.seconds (default 300), retry.fresh.session (default false),
+ * retry.regression.runs (default 3), retry.exceptions (class names), retry.crash.messages
+ */
+public class SmartRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmartRetryAnalyzer.class);
+    private static final String DEFAULT_EXCEPTIONS = "org.openqa.selenium.TimeoutException,"
+            + "org.openqa.selenium.StaleElementReferenceException,org.openqa.selenium.NoSuchSessionException,"
+            + "org.openqa.selenium.remote.UnreachableBrowserException";
+    private static final String DEFAULT_CRASH_MESSAGES = "tab crashed,page crash,chrome not reachable,"
+            + "disconnected: not connected to DevTools,session deleted";
+
+    private static final AtomicLong budgetSpentMillis = new AtomicLong();
+    private static final LongAdder retries = new LongAdder();
+    private static final LongAdder passedOnRetry = new LongAdder();
+    private static final LongAdder notTransient = new LongAdder();
+    private static final LongAdder overBudget = new LongAdder();
+    private static final LongAdder regressions = new LongAdder();
+    private static volatile List<Class<?>> transientTypes;
+
+    private int attempts;
+
+    /**
+     * Check if failures are retried
+     * @return true unless retry.enabled=false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("retry.enabled", true);
+    }
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (!isEnabled() || FailFast.isTripped()) {
+            return false;
+        }
+        ConfigReader config = ConfigReader.getInstance();
+        String testId = result.getMethod().getRealClass().getName() + "#" + result.getMethod().getMethodName();
+        Throwable failure = result.getThrowable();
+
+        if (attempts >= config.getIntProperty("retry.max.attempts", 1)) {
+            return false;
+        }
+        Throwable cause = transientCause(failure);
+        if (cause == null) {
+            notTransient.increment();
+            return false;
+        }
+        int failedRuns = RunHistoryStore.getInstance().getConsecutiveFailures(testId);
+        if (attempts == 0 && failedRuns >= config.getIntProperty("retry.regression.runs", 3)) {
+            regressions.increment();
+            logger.warn("Not retrying {}: it also failed in each of the last {} runs, so this looks like a regression",
+                    testId, failedRuns);
+            return false;
+        }
+        long charge = Math.max(0, result.getEndMillis() - result.getStartMillis());
+        long budgetMillis = config.getLongProperty("retry.budget.seconds", 300) * 1000;
+        long spent = budgetSpentMillis.get();
+        while (true) {
+            if (spent + charge > budgetMillis) {
+                overBudget.increment();
+                logger.warn("Not retrying {}: retry budget of {}s spent ({}ms used)", testId, budgetMillis / 1000, spent);
+                return false;
+            }
+            if (budgetSpentMillis.compareAndSet(spent, spent + charge)) {
+                break;
+            }
+            spent = budgetSpentMillis.get();
+        }
+
+        attempts++;
+        retries.increment();
+        boolean crashed = isSessionLost(failure);
+        if (crashed || config.getBooleanProperty("retry.fresh.session", false)) {
+            WebDriverFactory.discardOnQuit();
+        }
+        logger.warn("Retrying {} (attempt {} of {}) after transient {}{}: {}", testId, attempts + 1,
+                config.getIntProperty("retry.max.attempts", 1) + 1, cause.getClass().getSimpleName(),
+                crashed ? " on a new session" : "", firstLine(cause.getMessage()));
+        return true;
+    }
+
+    /**
+     * Get how many retries this analyzer has granted
+     * @return Retries so far
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Count a test that passed after being retried
+     */
+    static void recordPassedOnRetry() {
+        passedOnRetry.increment();
+    }
+
+    /**
+     * Start a new suite with the full retry budget
+     */
+    static void resetBudget() {
+        budgetSpentMillis.set(0);
+    }
+
+    /**
+     * Log what the retries did in this suite
+     */
+    public static void logReport() {
+        if (retries.sum() == 0 && notTransient.sum() == 0) {
+            return;
+        }
+        logger.info("Retries: {} granted, {} passed on retry, {}ms of the budget used; not retried: {} non-transient, {} over budget, {} likely regressions",
+                retries.sum(), passedOnRetry.sum(), budgetSpentMillis.get(), notTransient.sum(), overBudget.sum(), regressions.sum());
+    }
+
+    /**
+     * The transient exception in a failure's cause chain, or null if the failure is not transient
+     */
+    private static Throwable transientCause(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof AssertionError) {
+                return null;
+            }
+            for (Class<?> type : transientTypes()) {
+                if (type.isInstance(cause)) {
+                    return cause;
+                }
+            }
+            if (isCrash(cause)) {
+                return cause;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the browser session is gone or crashed anywhere in a failure's cause chain
+     */
+    private static boolean isSessionLost(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof NoSuchSessionException || cause instanceof UnreachableBrowserException || isCrash(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCrash(Throwable cause) {
+        if (!(cause instanceof WebDriverException) || cause.getMessage() == null) {
+            return false;
+        }
+        String message = cause.getMessage().toLowerCase(Locale.ROOT);
+        return Arrays.stream(ConfigReader.getInstance().getProperty("retry.crash.messages", DEFAULT_CRASH_MESSAGES).split(","))
+                .map(String::trim)
+                .filter(text -> !text.isEmpty())
+                .anyMatch(text -> message.contains(text.toLowerCase(Locale.ROOT)));
+    }
+
+    private static List<Class<?>> transientTypes() {
+        List<Class<?>> types = transientTypes;
+        if (types == null) {
+            types = new ArrayList<>();
+            for (String name : ConfigReader.getInstance().getProperty("retry.exceptions", DEFAULT_EXCEPTIONS).split(",")) {
+                if (name.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    types.add(Class.forName(name.trim()));
+                } catch (ClassNotFoundException e) {
+                    logger.warn("Ignoring unknown retry exception type {}", name.trim());
+                }
+            }
+            transientTypes = types;
+        }
+        return types;
+    }
+
+    private static String firstLine(String message) {
+        return message == null ? "" : message.split("\n", 2)[0].trim();
+    }
+}
@@ -1,7 +1,11 @@
 package com.automation.listeners;
 
+import com.automation.driver.CoverageRecorder;
+import com.automation.driver.DriverPrefetcher;
+import com.automation.utils.RunHistoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
@@ -20,6 +24,7 @@ public class TestListener implements ITestListener {
                    result.getTestClass().getName());
         logger.info("Description: {}", result.getMethod().getDescription());
         logger.info("========================================");
+        CoverageRecorder.begin(result.getTestClass().getName() + "#" + result.getMethod().getMethodName());
     }
     
     @Override
@@ -27,6 +32,9 @@ public class TestListener implements ITestListener {
         long duration = result.getEndMillis() - result.getStartMillis();
         logger.info("✅ TEST PASSED: {} (Duration: {}ms)", 
                    result.getMethod().getMethodName(), duration);
+        logHiddenDriverTime(result);
+        CoverageRecorder.finish(true);
+        recordOutcome(result, RunHistoryStore.Outcome.PASSED);
     }
     
     @Override
@@ -35,6 +43,9 @@ public class TestListener implements ITestListener {
         logger.error("❌ TEST FAILED: {} (Duration: {}ms)", 
                     result.getMethod().getMethodName(), duration);
         logger.error("Failure reason: {}", result.getThrowable().getMessage());
+        logHiddenDriverTime(result);
+        CoverageRecorder.finish(false);
+        recordOutcome(result, RunHistoryStore.Outcome.FAILED);
         
         // Take screenshot on failure
         takeScreenshot(result);
@@ -42,10 +53,39 @@ public class TestListener implements ITestListener {
     
     @Override
     public void onTestSkipped(ITestResult result) {
+        CoverageRecorder.finish(false);
+        // An attempt the retry analyzer reruns is reported as skipped but failed
+        recordOutcome(result, result.wasRetried() ? RunHistoryStore.Outcome.RETRIED : RunHistoryStore.Outcome.SKIPPED);
         logger.warn("⏭️ TEST SKIPPED: {}", result.getMethod().getMethodName());
         logger.warn("Skip reason: {}", result.getThrowable().getMessage());
     }
     
+    @Override
+    public void onFinish(ITestContext context) {
+        RunHistoryStore.flush();
+    }
+    
+    /**
+     * Add the outcome to the run history that flakiness scores are computed from
+     */
+    private void recordOutcome(ITestResult result, RunHistoryStore.Outcome outcome) {
+        RunHistoryStore.record(result.getMethod().getRealClass().getName() + "#" + result.getMethod().getMethodName(),
+                outcome, result.getEndMillis() - result.getStartMillis());
+    }
+    
+    /**
+     * Log browser launch/quit time that pre-fetching kept off this test's critical path
+     */
+    private void logHiddenDriverTime(ITestResult result) {
+        if (!DriverPrefetcher.isEnabled()) {
+            return;
+        }
+        logger.info("⏱️ Driver pre-fetch hid {}ms launch and {}ms quit for: {}",
+                   DriverPrefetcher.getHiddenLaunchMillis(),
+                   DriverPrefetcher.getHiddenQuitMillis(),
+                   result.getMethod().getMethodName());
+    }
+    
     private void takeScreenshot(ITestResult result) {
         try {
             // Screenshot logic would go here
@@ -1,6 +1,8 @@
 package com.automation.pages;
 
+import com.automation.utils.PageSnapshot;
 import com.automation.utils.SeleniumUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 /**
@@ -17,6 +19,27 @@ public abstract class BasePage {
         this.seleniumUtils = new SeleniumUtils(driver);
     }
     
+    /**
+     * Register a stable element (header, navigation, form field) to be located once and reused
+     * by every SeleniumUtils action on this page; it is located again only when it goes stale
+     * @param locator Element locator
+     * @return The same locator
+     */
+    protected By cached(By locator) {
+        return seleniumUtils.cache(locator);
+    }
+    
+    /**
+     * Answer the read-only checks that follow (getText, isElementDisplayed, getAttribute, getTexts)
+     * from one snapshot of the rendered DOM instead of a round-trip each
+     * Clicks, typing and navigation invalidate the snapshot; the next read captures the page again.
+     * Use once the page has settled, e.g. after isPageLoaded()
+     * @return Scope to close (try-with-resources) when the checks are done
+     */
+    public PageSnapshot.Scope snapshotScope() {
+        return PageSnapshot.open(driver);
+    }
+    
     /**
      * Get current page title
      * @return Page title
@@ -44,6 +67,7 @@ public abstract class BasePage {
      * Refresh the current page
      */
     public void refreshPage() {
+        PageSnapshot.invalidate(driver);
         driver.navigate().refresh();
     }
     
@@ -51,6 +75,7 @@ public abstract class BasePage {
      * Navigate back in browser history
      */
     public void navigateBack() {
+        PageSnapshot.invalidate(driver);
         driver.navigate().back();
     }
     
@@ -58,6 +83,7 @@ public abstract class BasePage {
      * Navigate forward in browser history
      */
     public void navigateForward() {
+        PageSnapshot.invalidate(driver);
         driver.navigate().forward();
     }
 }
@@ -13,7 +13,7 @@ public class DashboardPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(DashboardPage.class);
     
     // Page Elements
-    private final By pageTitle = By.cssSelector("h1, h2");
+    private final By pageTitle = cached(By.cssSelector("h1, h2"));
     private final By statsCards = By.cssSelector(".stats-card, .card");
     private final By chartContainer = By.cssSelector(".chart-container, .chart");
     
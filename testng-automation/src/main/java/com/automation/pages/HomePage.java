@@ -1,5 +1,6 @@
 package com.automation.pages;
 
+import com.automation.utils.PageSnapshot;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -15,13 +16,13 @@ public class HomePage extends BasePage {
     
     // Page Elements
     private final By titleElement = By.tagName("title");
-    private final By headerElement = By.tagName("h1");
-    private final By navigationMenu = By.cssSelector("nav");
-    private final By dashboardLink = By.xpath("//button[contains(text(), 'Dashboard')]");
-    private final By productsLink = By.xpath("//button[contains(text(), 'Products')]");
-    private final By ordersLink = By.xpath("//button[contains(text(), 'Orders')]");
-    private final By usersLink = By.xpath("//button[contains(text(), 'Users')]");
-    private final By tasksLink = By.xpath("//button[contains(text(), 'Tasks')]");
+    private final By headerElement = cached(By.tagName("h1"));
+    private final By navigationMenu = cached(By.cssSelector("nav"));
+    private final By dashboardLink = cached(By.xpath("//button[contains(text(), 'Dashboard')]"));
+    private final By productsLink = cached(By.xpath("//button[contains(text(), 'Products')]"));
+    private final By ordersLink = cached(By.xpath("//button[contains(text(), 'Orders')]"));
+    private final By usersLink = cached(By.xpath("//button[contains(text(), 'Users')]"));
+    private final By tasksLink = cached(By.xpath("//button[contains(text(), 'Tasks')]"));
     
     public HomePage(WebDriver driver) {
         super(driver);
@@ -58,7 +59,7 @@ public class HomePage extends BasePage {
      * @return true if visible, false otherwise
      */
     public boolean isNavigationMenuVisible() {
-        boolean visible = seleniumUtils.isElementDisplayed(navigationMenu);
+        boolean visible = seleniumUtils.waitForElementDisplayed(navigationMenu);
         logger.info("Navigation menu visible: {}", visible);
         return visible;
     }
@@ -118,11 +119,14 @@ public class HomePage extends BasePage {
      * @return true if all links present, false otherwise
      */
     public boolean areAllNavigationLinksPresent() {
-        boolean allPresent = seleniumUtils.isElementDisplayed(dashboardLink) &&
-                            seleniumUtils.isElementDisplayed(productsLink) &&
-                            seleniumUtils.isElementDisplayed(ordersLink) &&
-                            seleniumUtils.isElementDisplayed(usersLink) &&
-                            seleniumUtils.isElementDisplayed(tasksLink);
+        boolean allPresent;
+        try (PageSnapshot.Scope scope = snapshotScope()) {
+            allPresent = seleniumUtils.waitForElementDisplayed(dashboardLink) &&
+                         seleniumUtils.waitForElementDisplayed(productsLink) &&
+                         seleniumUtils.waitForElementDisplayed(ordersLink) &&
+                         seleniumUtils.waitForElementDisplayed(usersLink) &&
+                         seleniumUtils.waitForElementDisplayed(tasksLink);
+        }
         
         logger.info("All navigation links present: {}", allPresent);
         return allPresent;
@@ -12,7 +12,7 @@ public class OrdersPage extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(OrdersPage.class);
     
-    private final By pageTitle = By.cssSelector("h1, h2");
+    private final By pageTitle = cached(By.cssSelector("h1, h2"));
     private final By ordersTable = By.cssSelector("table, .orders-table");
     
     public OrdersPage(WebDriver driver) {
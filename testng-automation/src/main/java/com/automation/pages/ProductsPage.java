@@ -13,10 +13,10 @@ public class ProductsPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(ProductsPage.class);
     
     // Page Elements
-    private final By pageTitle = By.cssSelector("h1, h2");
-    private final By addProductButton = By.cssSelector("button[data-testid='add-product'], .add-btn");
+    private final By pageTitle = cached(By.cssSelector("h1, h2"));
+    private final By addProductButton = cached(By.cssSelector("button[data-testid='add-product'], .add-btn"));
     private final By productsList = By.cssSelector(".products-list, .product-item");
-    private final By searchBox = By.cssSelector("input[type='search'], .search-input");
+    private final By searchBox = cached(By.cssSelector("input[type='search'], .search-input"));
     
     public ProductsPage(WebDriver driver) {
         super(driver);
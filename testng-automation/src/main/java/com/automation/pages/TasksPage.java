@@ -12,7 +12,7 @@ public class TasksPage extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(TasksPage.class);
     
-    private final By pageTitle = By.cssSelector("h1, h2");
+    private final By pageTitle = cached(By.cssSelector("h1, h2"));
     private final By tasksList = By.cssSelector(".tasks-list, .task-item");
     
     public TasksPage(WebDriver driver) {
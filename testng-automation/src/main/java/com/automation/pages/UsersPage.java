@@ -12,7 +12,7 @@ public class UsersPage extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(UsersPage.class);
     
-    private final By pageTitle = By.cssSelector("h1, h2");
+    private final By pageTitle = cached(By.cssSelector("h1, h2"));
     private final By usersTable = By.cssSelector("table, .users-table");
     
     public UsersPage(WebDriver driver) {
@@ -0,0 +1,227 @@
+package com.automation.utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Wait engine with adaptive polling
+ * The first checks come quickly (wait.polling.initial.millis) and the interval backs off
+ * exponentially up to the policy's polling interval, so conditions that are ready within
+ * a few milliseconds no longer pay a fixed 500ms poll. Every wait records its time-to-ready
+ * in a per-locator latency histogram that is written out at suite end.
+ */
+public class AdaptiveWait {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveWait.class);
+
+    /** Histogram bucket upper bounds in milliseconds; the last bucket is open ended */
+    private static final long[] BUCKETS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final WaitPolicy policy;
+
+    public AdaptiveWait(WebDriver driver, WaitPolicy policy) {
+        this.driver = driver;
+        this.policy = policy;
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value using the policy timeout
+     * @param key Histogram key, usually the locator
+     * @param condition Condition to evaluate
+     * @return Condition result
+     */
+    public <T> T until(String key, Function<? super WebDriver, T> condition) {
+        return until(key, condition, policy.getTimeout());
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value
+     * @param key Histogram key, usually the locator
+     * @param condition Condition to evaluate
+     * @param timeout Timeout for this call
+     * @return Condition result
+     */
+    public <T> T until(String key, Function<? super WebDriver, T> condition, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long intervalMillis = policy.getInitialPollingInterval().toMillis();
+        long maxIntervalMillis = policy.getPollingInterval().toMillis();
+        RuntimeException lastException = null;
+
+        while (true) {
+            try {
+                T result = condition.apply(driver);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    histogram(key).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (!isIgnored(e)) {
+                    throw e;
+                }
+                lastException = e;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                histogram(key).recordTimeout();
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms)",
+                        key, timeout.toMillis()), lastException);
+            }
+            sleep(Math.min(intervalMillis, remainingMillis));
+            intervalMillis = Math.min(maxIntervalMillis,
+                    Math.max(intervalMillis + 1, (long) (intervalMillis * policy.getBackoffFactor())));
+        }
+    }
+
+    /**
+     * Log the per-locator latency histograms and write them to reports.path/wait-latency.csv
+     */
+    public static void dumpHistograms() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        Map<String, LatencyHistogram> sorted = new TreeMap<>(histograms);
+        logger.info("Wait latency by locator (count / timeouts / p50 / p90 / max ms):");
+        sorted.forEach((key, histogram) -> logger.info("  {} -> {} / {} / {} / {} / {}", key,
+                histogram.count(), histogram.timeouts.sum(), histogram.percentile(0.5),
+                histogram.percentile(0.9), histogram.max.get()));
+
+        Path report = Paths.get(ConfigReader.getInstance().getProperty("reports.path", "build/reports"), "wait-latency.csv");
+        try {
+            Files.createDirectories(report.getParent());
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+                StringBuilder header = new StringBuilder("locator,count,timeouts,max_ms");
+                for (long bound : BUCKETS) {
+                    header.append(",le_").append(bound);
+                }
+                writer.println(header.append(",gt_").append(BUCKETS[BUCKETS.length - 1]));
+                sorted.forEach((key, histogram) -> writer.println(histogram.toCsv(key)));
+            }
+            logger.info("Wait latency histograms written to {}", report);
+        } catch (IOException e) {
+            logger.warn("Could not write wait latency report {}: {}", report, e.getMessage());
+        }
+    }
+
+    /**
+     * Record a wait that completed outside this engine (e.g. MutationWait)
+     * @param key Histogram key
+     * @param millis Time until the condition held
+     */
+    static void record(String key, long millis) {
+        histogram(key).record(millis);
+    }
+
+    /**
+     * Record a wait that timed out outside this engine
+     * @param key Histogram key
+     */
+    static void recordTimeout(String key) {
+        histogram(key).recordTimeout();
+    }
+
+    private boolean isIgnored(RuntimeException e) {
+        for (Class<? extends Throwable> ignored : policy.getIgnoredExceptions()) {
+            if (ignored.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+
+    private static LatencyHistogram histogram(String key) {
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Fixed-bucket latency histogram for one locator
+     */
+    private static final class LatencyHistogram {
+        private final LongAdder[] counts = new LongAdder[BUCKETS.length + 1];
+        private final LongAdder timeouts = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private LatencyHistogram() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        private void record(long millis) {
+            int bucket = 0;
+            while (bucket < BUCKETS.length && millis > BUCKETS[bucket]) {
+                bucket++;
+            }
+            counts[bucket].increment();
+            max.accumulateAndGet(millis, Math::max);
+        }
+
+        private void recordTimeout() {
+            timeouts.increment();
+        }
+
+        private long count() {
+            long total = 0;
+            for (LongAdder count : counts) {
+                total += count.sum();
+            }
+            return total;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given percentile
+         */
+        private String percentile(double fraction) {
+            long total = count();
+            if (total == 0) {
+                return "-";
+            }
+            long target = (long) Math.ceil(total * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                seen += counts[i].sum();
+                if (seen >= target) {
+                    return "<=" + BUCKETS[i];
+                }
+            }
+            return ">" + BUCKETS[BUCKETS.length - 1];
+        }
+
+        private String toCsv(String key) {
+            StringBuilder line = new StringBuilder("\"").append(key.replace("\"", "\"\"")).append('"')
+                    .append(',').append(count()).append(',').append(timeouts.sum()).append(',').append(max.get());
+            for (LongAdder count : counts) {
+                line.append(',').append(count.sum());
+            }
+            return line.toString();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event-driven wait that blocks on a single executeAsyncScript call
+ * A MutationObserver installed in the page re-checks the condition whenever the DOM changes
+ * and calls back as soon as the locator is present, visible or contains the text, so a wait
+ * costs one WebDriver round-trip instead of one findElement per poll.
+ * Selected with wait.strategy=mutation; SeleniumUtils falls back to polling for
+ * locators the script cannot resolve or drivers that cannot run async scripts.
+ */
+public class MutationWait {
+
+    private static final Logger logger = LoggerFactory.getLogger(MutationWait.class);
+
+    /**
+     * What the located element has to satisfy
+     */
+    public enum Condition {
+        PRESENT, VISIBLE, TEXT
+    }
+
+    /** Resolves the locator, checks the condition on the first match and resolves once it holds */
+    private static final String WAIT_SCRIPT =
+            "var type = arguments[0], value = arguments[1], mode = arguments[2], text = arguments[3];" +
+            "var timeout = arguments[4], done = arguments[arguments.length - 1];" +
+            "function find() {" +
+            "  switch (type) {" +
+            "    case 'css': return document.querySelector(value);" +
+            "    case 'xpath': return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'id': return document.getElementById(value);" +
+            "    case 'name': return document.getElementsByName(value)[0] || null;" +
+            "    case 'class': return document.getElementsByClassName(value)[0] || null;" +
+            "    case 'tag': return document.getElementsByTagName(value)[0] || null;" +
+            "    case 'link': case 'partialLink':" +
+            "      var links = document.getElementsByTagName('a');" +
+            "      for (var i = 0; i < links.length; i++) {" +
+            "        var linkText = (links[i].innerText || '').trim();" +
+            "        if (type === 'link' ? linkText === value : linkText.indexOf(value) >= 0) { return links[i]; }" +
+            "      }" +
+            "      return null;" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "function visible(el) {" +
+            "  if (!el.isConnected) { return false; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }" +
+            "  var rect = el.getBoundingClientRect();" +
+            "  return rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "function check() {" +
+            "  var el = find();" +
+            "  if (!el) { return null; }" +
+            "  if (mode === 'VISIBLE' && !visible(el)) { return null; }" +
+            "  if (mode === 'TEXT' && (el.innerText || el.textContent || '').indexOf(text) < 0) { return null; }" +
+            "  return el;" +
+            "}" +
+            "var found = check();" +
+            "if (found) { done(found); return; }" +
+            "var finished = false, observer, interval, timer;" +
+            "function finish(result) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  observer.disconnect(); clearInterval(interval); clearTimeout(timer);" +
+            "  done(result);" +
+            "}" +
+            "function recheck() { var el = check(); if (el) { finish(el); } }" +
+            "observer = new MutationObserver(recheck);" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            // Transitions and layout changes can show an element without a DOM mutation
+            "interval = setInterval(recheck, 100);" +
+            "timer = setTimeout(function () { finish(null); }, timeout);";
+
+    private final WebDriver driver;
+    private final long scriptTimeoutMillis;
+
+    public MutationWait(WebDriver driver) {
+        this.driver = driver;
+        this.scriptTimeoutMillis = TimeUnit.SECONDS.toMillis(ConfigReader.getInstance().getLongProperty("script.timeout", 30));
+    }
+
+    /**
+     * Check if the mutation strategy is configured
+     * @return true if wait.strategy=mutation
+     */
+    public static boolean isEnabled() {
+        return "mutation".equalsIgnoreCase(ConfigReader.getInstance().getProperty("wait.strategy", "polling"));
+    }
+
+    /**
+     * Block until the first element matching the locator satisfies the condition
+     * @param locator Element locator
+     * @param condition Condition to wait for
+     * @param text Text the element must contain (TEXT only)
+     * @param timeout Timeout for this call
+     * @return Matching element, or null if this wait cannot handle the locator or driver
+     * @throws TimeoutException if the condition does not hold within the timeout
+     */
+    public WebElement await(By locator, Condition condition, String text, Duration timeout) {
+        String[] parsed = parse(locator);
+        if (parsed == null || !(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        // Leave headroom so the page-side timer fires before the driver's script timeout
+        long timeoutMillis = Math.min(timeout.toMillis(), Math.max(0, scriptTimeoutMillis - 1000));
+        String key = condition == Condition.VISIBLE ? locator.toString() : locator + " [" + condition.name().toLowerCase() + "]";
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT,
+                    parsed[0], parsed[1], condition.name(), text == null ? "" : text, timeoutMillis);
+        } catch (ScriptTimeoutException e) {
+            result = null;
+        } catch (JavascriptException e) {
+            logger.debug("Mutation wait unavailable for {}, falling back to polling: {}", locator, e.getMessage());
+            return null;
+        }
+
+        if (result instanceof WebElement) {
+            AdaptiveWait.record(key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return (WebElement) result;
+        }
+        AdaptiveWait.recordTimeout(key);
+        throw new TimeoutException(String.format("Expected condition failed: waiting for %s to be %s (tried for %d ms)",
+                locator, condition.name().toLowerCase(), timeoutMillis));
+    }
+
+    /**
+     * Split a standard locator into the strategy name used by the script and its value
+     * @return {type, value}, or null for custom By implementations
+     */
+    private static String[] parse(By locator) {
+        LocatorParts parts = LocatorParts.of(locator);
+        if (parts == null) {
+            return null;
+        }
+        String value = parts.getValue();
+        switch (parts.getStrategy()) {
+            case "cssSelector":
+                return new String[] {"css", value};
+            case "xpath":
+                return new String[] {"xpath", value};
+            case "id":
+                return new String[] {"id", value};
+            case "name":
+                return new String[] {"name", value};
+            case "className":
+                return new String[] {"class", value};
+            case "tagName":
+                return new String[] {"tag", value};
+            case "linkText":
+                return new String[] {"link", value};
+            case "partialLinkText":
+                return new String[] {"partialLink", value};
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copy of the rendered DOM that answers read-only queries inside a snapshot scope
+ * One script call serializes the page as XML, with each element's visibility, bounding box and
+ * rendered text (innerText) recorded as data-snapshot-* attributes. getText, isElementDisplayed,
+ * getAttribute and getTexts in SeleniumUtils are then answered by evaluating the locator against
+ * the parsed copy in the JVM instead of one WebDriver round-trip per query.
+ *
+ * Any mutating SeleniumUtils action (click, type, select, script) and BasePage navigation
+ * invalidates the copy; the next read in the scope captures the page again. Queries the copy cannot
+ * answer (link text, CSS pseudo-classes, elements not found or not displayed, property-backed
+ * attributes such as value or href) fall back to the live page.
+ *
+ * Configured through ConfigReader: snapshot.enabled (default true)
+ */
+public class PageSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageSnapshot.class);
+    private static final Map<WebDriver, PageSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private static final LongAdder captures = new LongAdder();
+    private static final LongAdder answered = new LongAdder();
+    private static final LongAdder fallbacks = new LongAdder();
+
+    private static final String VISIBLE = "data-snapshot-visible";
+    private static final String TEXT = "data-snapshot-text";
+
+    /** Attributes whose getAttribute value comes from a live DOM property rather than the markup */
+    private static final Set<String> PROPERTY_BACKED = new HashSet<>(Arrays.asList(
+            "value", "checked", "selected", "disabled", "readonly", "href", "src", "innertext", "textcontent"));
+
+    /** Serializes the document as XML with rendering information on every element */
+    private static final String CAPTURE_SCRIPT =
+            "var ESC = {'&': '&amp;', '<': '&lt;', '>': '&gt;', '\"': '&quot;', '\\n': '&#10;', '\\r': '&#13;', '\\t': '&#9;'};" +
+            "function esc(s) {" +
+            "  return String(s).replace(/[\\u0000-\\u0008\\u000B\\u000C\\u000E-\\u001F\\uFFFE\\uFFFF]/g, '')" +
+            "      .replace(/[&<>\"\\n\\r\\t]/g, function (c) { return ESC[c]; });" +
+            "}" +
+            "var NAME = /^[A-Za-z_][\\w.-]*$/, ATTRIBUTE = /^[A-Za-z_][\\w.:-]*$/;" +
+            "var SKIP = {SCRIPT: 1, STYLE: 1, NOSCRIPT: 1, TEMPLATE: 1};" +
+            "function write(el, parentShown, out) {" +
+            "  var tag = el.tagName.toLowerCase();" +
+            "  if (!NAME.test(tag)) { tag = 'x-element'; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  var shown = parentShown && style.opacity !== '0';" +
+            "  var visible = shown && style.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "  out.push('<', tag);" +
+            "  for (var i = 0; i < el.attributes.length; i++) {" +
+            "    var a = el.attributes[i];" +
+            "    if (ATTRIBUTE.test(a.name) && a.name.indexOf('data-snapshot-') !== 0) { out.push(' ', a.name, '=\"', esc(a.value), '\"'); }" +
+            "  }" +
+            "  out.push(' data-snapshot-visible=\"', visible, '\"');" +
+            "  if (visible) {" +
+            "    var r = el.getBoundingClientRect();" +
+            "    out.push(' data-snapshot-rect=\"', Math.round(r.x), ',', Math.round(r.y), ',', Math.round(r.width), ',', Math.round(r.height), '\"');" +
+            "    out.push(' data-snapshot-text=\"', esc((el.innerText || '').trim()), '\"');" +
+            "  }" +
+            "  out.push('>');" +
+            "  if (!SKIP[el.tagName]) {" +
+            "    for (var n = el.firstChild; n; n = n.nextSibling) {" +
+            "      if (n.nodeType === 1) { write(n, shown, out); }" +
+            "      else if (n.nodeType === 3) { out.push(esc(n.nodeValue)); }" +
+            "    }" +
+            "  }" +
+            "  out.push('</', tag, '>');" +
+            "}" +
+            "var out = [];" +
+            "write(document.documentElement, true, out);" +
+            "return out.join('');";
+
+    /**
+     * Open scope on a session; closing it ends snapshot answers once all nested scopes are closed
+     */
+    public static final class Scope implements AutoCloseable {
+        private final WebDriver driver;
+
+        private Scope(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public void close() {
+            if (driver == null) {
+                return;
+            }
+            PageSnapshot snapshot = snapshots.get(driver);
+            if (snapshot != null && --snapshot.depth == 0) {
+                snapshots.remove(driver);
+            }
+        }
+    }
+
+    private final WebDriver driver;
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+    private int depth;
+    private Document document;
+
+    private PageSnapshot(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Check if snapshot scopes are enabled
+     * @return true unless snapshot.enabled=false
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBooleanProperty("snapshot.enabled", true);
+    }
+
+    /**
+     * Start answering read-only queries on the session from a DOM snapshot
+     * Scopes nest; the page is captured lazily on the first query
+     * @param driver Session to snapshot
+     * @return Scope to close when the read-only burst ends
+     */
+    public static Scope open(WebDriver driver) {
+        if (!isEnabled()) {
+            return new Scope(null);
+        }
+        snapshots.computeIfAbsent(driver, PageSnapshot::new).depth++;
+        return new Scope(driver);
+    }
+
+    /**
+     * Get the snapshot of a session inside an open scope
+     * @param driver Session to look up
+     * @return PageSnapshot, or null when no scope is open
+     */
+    public static PageSnapshot active(WebDriver driver) {
+        return snapshots.get(driver);
+    }
+
+    /**
+     * Drop the captured copy after the page may have changed; the scope stays open
+     * @param driver Session that performed a mutating action
+     */
+    public static void invalidate(WebDriver driver) {
+        PageSnapshot snapshot = snapshots.get(driver);
+        if (snapshot != null) {
+            snapshot.document = null;
+        }
+    }
+
+    /**
+     * Displayed state of the first element matching the locator
+     * @param locator Element locator
+     * @return true, or null when the element is not found or not displayed in the snapshot, since it
+     * may have rendered after the capture
+     */
+    public Boolean isDisplayed(By locator) {
+        List<Element> elements = find(locator);
+        if (elements == null || elements.isEmpty() || !isVisible(elements.get(0))) {
+            fallbacks.increment();
+            return null;
+        }
+        answered.increment();
+        return true;
+    }
+
+    /**
+     * Rendered text of the first element matching the locator
+     * @param locator Element locator
+     * @return Text, or null when the element is not found or not displayed in the snapshot
+     */
+    public String getText(By locator) {
+        List<Element> elements = find(locator);
+        if (elements == null || elements.isEmpty() || !isVisible(elements.get(0))) {
+            fallbacks.increment();
+            return null;
+        }
+        answered.increment();
+        return elements.get(0).getAttribute(TEXT);
+    }
+
+    /**
+     * Markup attribute of the first element matching the locator
+     * @param locator Element locator
+     * @param attribute Attribute name
+     * @return Value, or null when the attribute is absent, property-backed or the element is not displayed
+     */
+    public String getAttribute(By locator, String attribute) {
+        if (PROPERTY_BACKED.contains(attribute.toLowerCase()) || attribute.startsWith("data-snapshot-")) {
+            fallbacks.increment();
+            return null;
+        }
+        List<Element> elements = find(locator);
+        if (elements == null || elements.isEmpty() || !isVisible(elements.get(0))
+                || !elements.get(0).hasAttribute(attribute)) {
+            fallbacks.increment();
+            return null;
+        }
+        answered.increment();
+        return elements.get(0).getAttribute(attribute);
+    }
+
+    /**
+     * Rendered text of every element matching the locator; elements not displayed read as ""
+     * @param locator Element locator
+     * @return Texts in document order, or null when the snapshot cannot evaluate the locator
+     */
+    public List<String> getTexts(By locator) {
+        List<Element> elements = find(locator);
+        if (elements == null) {
+            fallbacks.increment();
+            return null;
+        }
+        answered.increment();
+        List<String> texts = new ArrayList<>(elements.size());
+        for (Element element : elements) {
+            texts.add(isVisible(element) ? element.getAttribute(TEXT) : "");
+        }
+        return texts;
+    }
+
+    /**
+     * Log how many queries snapshots answered and how many captures they took
+     */
+    public static void logReport() {
+        long served = answered.sum();
+        if (served + fallbacks.sum() == 0) {
+            return;
+        }
+        logger.info("Page snapshots: {} captures answered {} queries, {} went to the live page",
+                captures.sum(), served, fallbacks.sum());
+    }
+
+    /**
+     * Elements matching the locator in the snapshot, capturing the page first if needed
+     * @return Matches in document order, or null when the locator cannot be evaluated on the copy
+     */
+    private List<Element> find(By locator) {
+        String expression = CssToXPath.fromLocator(locator);
+        if (expression == null) {
+            return null;
+        }
+        try {
+            NodeList nodes = (NodeList) xpath.evaluate(expression, document(), XPathConstants.NODESET);
+            List<Element> elements = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i) instanceof Element) {
+                    elements.add((Element) nodes.item(i));
+                }
+            }
+            return elements;
+        } catch (XPathExpressionException | RuntimeException e) {
+            logger.debug("Snapshot cannot evaluate {}: {}", locator, e.getMessage());
+            return null;
+        }
+    }
+
+    private Document document() throws XPathExpressionException {
+        if (document == null) {
+            long start = System.currentTimeMillis();
+            String xml = (String) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+            try {
+                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+                factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+            } catch (Exception e) {
+                throw new XPathExpressionException(e);
+            }
+            captures.increment();
+            logger.debug("Captured page snapshot ({} KB) in {}ms", xml.length() / 1024, System.currentTimeMillis() - start);
+        }
+        return document;
+    }
+
+    private static boolean isVisible(Element element) {
+        return "true".equals(element.getAttribute(VISIBLE));
+    }
+}
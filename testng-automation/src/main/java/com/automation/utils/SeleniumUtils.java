@@ -1,43 +1,122 @@
 package com.automation.utils;
 
+import com.automation.driver.NetworkTracker;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.interactions.Actions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Selenium utility class with common WebDriver operations
+ * All waits are explicit and follow the WaitPolicy; the driver runs with implicit wait 0
+ * Waits poll adaptively through AdaptiveWait and record per-locator latency;
+ * with wait.strategy=mutation, element waits block on a single MutationWait script call instead
+ * Network waits use the session's CDP NetworkTracker on Chromium and Resource Timing elsewhere
+ * List and table reads go through DomBatchReader: one script call instead of one round-trip per cell
+ * Locators registered with cache() resolve to a CachedElement, so repeated actions skip the findElement
+ * Inside a PageSnapshot scope, read-only queries are answered from a DOM copy; mutating actions invalidate it
  */
 public class SeleniumUtils {
     
     private static final Logger logger = LoggerFactory.getLogger(SeleniumUtils.class);
-    private static final int DEFAULT_TIMEOUT = 10;
+    
+    /** Implicit wait the framework used to run with, used to estimate what absence checks used to cost */
+    private static final long LEGACY_IMPLICIT_WAIT_SECONDS = 10;
+    private static final LongAdder absenceChecks = new LongAdder();
+    private static final LongAdder appearTimeouts = new LongAdder();
+    private static final LongAdder appearTimeoutMillis = new LongAdder();
+    
+    /** Milliseconds since the last resource finished loading, once the document itself has loaded */
+    private static final String RESOURCE_QUIET_SCRIPT =
+            "if (document.readyState !== 'complete') { return -1; }" +
+            "var entries = performance.getEntriesByType('resource');" +
+            "var last = entries.length ? entries[entries.length - 1].responseEnd : 0;" +
+            "return performance.now() - last;";
+    
+    /** First completed resource matching the pattern that no earlier call returned */
+    private static final String RESOURCE_MATCH_SCRIPT =
+            "var pattern = new RegExp(arguments[0]);" +
+            "var seen = window.__requestsSeen = window.__requestsSeen || {};" +
+            "var entries = performance.getEntriesByType('resource');" +
+            "for (var i = 0; i < entries.length; i++) {" +
+            "  if (!seen[i] && entries[i].responseEnd > 0 && pattern.test(entries[i].name)) {" +
+            "    seen[i] = true;" +
+            "    return entries[i].name;" +
+            "  }" +
+            "}" +
+            "return null;";
     
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final WaitPolicy waitPolicy;
+    private final AdaptiveWait wait;
+    private final MutationWait mutationWait;
+    private final DomBatchReader batchReader;
     private final Actions actions;
+    private final Map<By, CachedElement> elementCache = new HashMap<>();
     
     public SeleniumUtils(WebDriver driver) {
+        this(driver, WaitPolicy.defaults());
+    }
+    
+    public SeleniumUtils(WebDriver driver, WaitPolicy waitPolicy) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        this.waitPolicy = waitPolicy;
+        this.wait = new AdaptiveWait(driver, waitPolicy);
+        this.mutationWait = MutationWait.isEnabled() ? new MutationWait(driver) : null;
+        this.batchReader = new DomBatchReader(driver);
         this.actions = new Actions(driver);
     }
     
+    /**
+     * Register a locator whose element is located once and reused by every later action
+     * Meant for stable elements such as headers, navigation buttons and form fields;
+     * a no-op when element.cache.enabled=false
+     * @param locator Element locator
+     * @return The same locator, so page objects can register it where they declare it
+     */
+    public By cache(By locator) {
+        if (CachedElement.isCachingEnabled()) {
+            elementCache.computeIfAbsent(locator, l -> new CachedElement(driver, l));
+        }
+        return locator;
+    }
+    
     /**
      * Wait for element to be visible and return it
      * @param locator Element locator
      * @return WebElement
      */
     public WebElement waitForElementVisible(By locator) {
+        return waitForElementVisible(locator, waitPolicy.getTimeout());
+    }
+    
+    /**
+     * Wait for element to be visible and return it
+     * @param locator Element locator
+     * @param timeout Timeout for this call
+     * @return WebElement
+     */
+    public WebElement waitForElementVisible(By locator, Duration timeout) {
+        CachedElement cached = elementCache.get(locator);
+        if (cached != null && checkCached(cached, false)) {
+            return cached;
+        }
         try {
             logger.debug("Waiting for element to be visible: {}", locator);
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = awaitMutation(locator, MutationWait.Condition.VISIBLE, null, timeout);
+            if (element == null) {
+                element = wait.until(locator.toString(), ExpectedConditions.visibilityOfElementLocated(locator), timeout);
+            }
+            return remember(cached, element);
         } catch (TimeoutException e) {
             logger.error("Element not visible within timeout: {}", locator);
             throw e;
@@ -50,9 +129,25 @@ public class SeleniumUtils {
      * @return WebElement
      */
     public WebElement waitForElementClickable(By locator) {
+        return waitForElementClickable(locator, waitPolicy.getTimeout());
+    }
+    
+    /**
+     * Wait for element to be clickable and return it
+     * @param locator Element locator
+     * @param timeout Timeout for this call
+     * @return WebElement
+     */
+    public WebElement waitForElementClickable(By locator, Duration timeout) {
+        CachedElement cached = elementCache.get(locator);
+        if (cached != null && checkCached(cached, true)) {
+            return cached;
+        }
         try {
             logger.debug("Waiting for element to be clickable: {}", locator);
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            // Clickable implies visible: let the mutation wait absorb the wait, then confirm with one check
+            awaitMutation(locator, MutationWait.Condition.VISIBLE, null, timeout);
+            return remember(cached, wait.until(locator.toString(), ExpectedConditions.elementToBeClickable(locator), timeout));
         } catch (TimeoutException e) {
             logger.error("Element not clickable within timeout: {}", locator);
             throw e;
@@ -65,21 +160,51 @@ public class SeleniumUtils {
      * @return WebElement
      */
     public WebElement waitForElementPresent(By locator) {
+        return waitForElementPresent(locator, waitPolicy.getTimeout());
+    }
+    
+    /**
+     * Wait for element to be present in DOM
+     * @param locator Element locator
+     * @param timeout Timeout for this call
+     * @return WebElement
+     */
+    public WebElement waitForElementPresent(By locator, Duration timeout) {
         try {
             logger.debug("Waiting for element to be present: {}", locator);
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement element = awaitMutation(locator, MutationWait.Condition.PRESENT, null, timeout);
+            if (element != null) {
+                return element;
+            }
+            return wait.until(locator.toString(), ExpectedConditions.presenceOfElementLocated(locator), timeout);
         } catch (TimeoutException e) {
             logger.error("Element not present within timeout: {}", locator);
             throw e;
         }
     }
     
+    /**
+     * Wait until no element matching the locator is displayed
+     * @param locator Element locator
+     * @param timeout Timeout for this call
+     * @return true if the element disappeared within the timeout
+     */
+    public boolean waitForElementInvisible(By locator, Duration timeout) {
+        try {
+            return wait.until(locator + " [invisible]", ExpectedConditions.invisibilityOfElementLocated(locator), timeout);
+        } catch (TimeoutException e) {
+            logger.debug("Element still visible after {}ms: {}", timeout.toMillis(), locator);
+            return false;
+        }
+    }
+    
     /**
      * Click on element with wait
      * @param locator Element locator
      */
     public void click(By locator) {
         WebElement element = waitForElementClickable(locator);
+        PageSnapshot.invalidate(driver);
         element.click();
         logger.debug("Clicked on element: {}", locator);
     }
@@ -91,6 +216,7 @@ public class SeleniumUtils {
      */
     public void type(By locator, String text) {
         WebElement element = waitForElementVisible(locator);
+        PageSnapshot.invalidate(driver);
         element.clear();
         element.sendKeys(text);
         logger.debug("Typed '{}' into element: {}", text, locator);
@@ -102,6 +228,11 @@ public class SeleniumUtils {
      * @return Element text
      */
     public String getText(By locator) {
+        PageSnapshot snapshot = PageSnapshot.active(driver);
+        String snapshotText = snapshot == null ? null : snapshot.getText(locator);
+        if (snapshotText != null) {
+            return snapshotText;
+        }
         WebElement element = waitForElementVisible(locator);
         String text = element.getText();
         logger.debug("Got text '{}' from element: {}", text, locator);
@@ -115,6 +246,11 @@ public class SeleniumUtils {
      * @return Attribute value
      */
     public String getAttribute(By locator, String attribute) {
+        PageSnapshot snapshot = PageSnapshot.active(driver);
+        String snapshotValue = snapshot == null ? null : snapshot.getAttribute(locator, attribute);
+        if (snapshotValue != null) {
+            return snapshotValue;
+        }
         WebElement element = waitForElementVisible(locator);
         String value = element.getAttribute(attribute);
         logger.debug("Got attribute '{}' value '{}' from element: {}", attribute, value, locator);
@@ -122,18 +258,79 @@ public class SeleniumUtils {
     }
     
     /**
-     * Check if element is displayed
+     * Check if element is displayed right now, without waiting for it
+     * Meant for absence checks and alternative locators on a page that has already rendered;
+     * use waitForElementDisplayed for anything expected to appear after an action
      * @param locator Element locator
      * @return true if displayed, false otherwise
      */
     public boolean isElementDisplayed(By locator) {
+        PageSnapshot snapshot = PageSnapshot.active(driver);
+        Boolean snapshotDisplayed = snapshot == null ? null : snapshot.isDisplayed(locator);
+        if (snapshotDisplayed != null) {
+            return snapshotDisplayed;
+        }
+        CachedElement cached = elementCache.get(locator);
+        if (cached != null && checkCached(cached, false)) {
+            return true;
+        }
+        List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty()) {
+            absenceChecks.increment();
+            logger.debug("Element not found: {}", locator);
+            return false;
+        }
         try {
-            WebElement element = driver.findElement(locator);
-            boolean displayed = element.isDisplayed();
+            boolean displayed = elements.get(0).isDisplayed();
             logger.debug("Element {} displayed: {}", locator, displayed);
             return displayed;
-        } catch (NoSuchElementException e) {
-            logger.debug("Element not found: {}", locator);
+        } catch (StaleElementReferenceException e) {
+            logger.debug("Element went stale while checking display: {}", locator);
+            return false;
+        }
+    }
+    
+    /**
+     * Check if element is displayed, giving it up to the timeout to appear
+     * @param locator Element locator
+     * @param timeout Timeout for this call
+     * @return true if displayed within the timeout, false otherwise
+     */
+    public boolean isElementDisplayed(By locator, Duration timeout) {
+        PageSnapshot snapshot = PageSnapshot.active(driver);
+        if (snapshot != null && Boolean.TRUE.equals(snapshot.isDisplayed(locator))) {
+            return true;
+        }
+        try {
+            waitForElementVisible(locator, timeout);
+            return true;
+        } catch (TimeoutException e) {
+            appearTimeouts.increment();
+            appearTimeoutMillis.add(timeout.toMillis());
+            return false;
+        }
+    }
+    
+    /**
+     * Check if element is displayed, giving it up to wait.appear.seconds to appear
+     * @param locator Element locator
+     * @return true if displayed within the timeout, false otherwise
+     */
+    public boolean waitForElementDisplayed(By locator) {
+        return isElementDisplayed(locator, appearTimeout());
+    }
+    
+    /**
+     * Accept a native confirmation dialog, giving it up to wait.appear.seconds to open
+     * @return true if a dialog was accepted, false if none opened
+     */
+    public boolean acceptConfirmation() {
+        try {
+            wait.until("alert", ExpectedConditions.alertIsPresent(), appearTimeout()).accept();
+            return true;
+        } catch (TimeoutException e) {
+            appearTimeouts.increment();
+            appearTimeoutMillis.add(appearTimeout().toMillis());
             return false;
         }
     }
@@ -146,6 +343,7 @@ public class SeleniumUtils {
     public void selectByText(By locator, String text) {
         WebElement element = waitForElementVisible(locator);
         Select select = new Select(element);
+        PageSnapshot.invalidate(driver);
         select.selectByVisibleText(text);
         logger.debug("Selected '{}' from dropdown: {}", text, locator);
     }
@@ -158,6 +356,7 @@ public class SeleniumUtils {
     public void selectByValue(By locator, String value) {
         WebElement element = waitForElementVisible(locator);
         Select select = new Select(element);
+        PageSnapshot.invalidate(driver);
         select.selectByValue(value);
         logger.debug("Selected value '{}' from dropdown: {}", value, locator);
     }
@@ -168,7 +367,8 @@ public class SeleniumUtils {
      */
     public void hover(By locator) {
         WebElement element = waitForElementVisible(locator);
-        actions.moveToElement(element).perform();
+        PageSnapshot.invalidate(driver);
+        actions.moveToElement(unwrap(element)).perform();
         logger.debug("Hovered over element: {}", locator);
     }
     
@@ -178,7 +378,8 @@ public class SeleniumUtils {
      */
     public void doubleClick(By locator) {
         WebElement element = waitForElementClickable(locator);
-        actions.doubleClick(element).perform();
+        PageSnapshot.invalidate(driver);
+        actions.doubleClick(unwrap(element)).perform();
         logger.debug("Double clicked on element: {}", locator);
     }
     
@@ -188,7 +389,8 @@ public class SeleniumUtils {
      */
     public void rightClick(By locator) {
         WebElement element = waitForElementClickable(locator);
-        actions.contextClick(element).perform();
+        PageSnapshot.invalidate(driver);
+        actions.contextClick(unwrap(element)).perform();
         logger.debug("Right clicked on element: {}", locator);
     }
     
@@ -206,11 +408,58 @@ public class SeleniumUtils {
      * Wait for page to load
      */
     public void waitForPageLoad() {
-        wait.until(webDriver -> ((JavascriptExecutor) webDriver)
+        wait.until("document.readyState", webDriver -> ((JavascriptExecutor) webDriver)
                 .executeScript("return document.readyState").equals("complete"));
         logger.debug("Page loaded completely");
     }
     
+    /**
+     * Wait until no request is in flight and the network has been quiet for the given time
+     * @param quietMillis How long the network must stay idle
+     */
+    public void waitForNetworkIdle(long quietMillis) {
+        NetworkTracker tracker = NetworkTracker.forDriver(driver);
+        if (tracker == null) {
+            wait.until("network idle", webDriver -> ((Number) ((JavascriptExecutor) webDriver)
+                    .executeScript(RESOURCE_QUIET_SCRIPT)).longValue() >= quietMillis);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            tracker.waitForNetworkIdle(quietMillis, waitPolicy.getTimeout());
+        } catch (TimeoutException e) {
+            AdaptiveWait.recordTimeout("network idle");
+            throw e;
+        }
+        AdaptiveWait.record("network idle", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.debug("Network idle for {}ms", quietMillis);
+    }
+    
+    /**
+     * Wait for a request whose URL matches the pattern to complete
+     * @param urlPattern Regular expression found anywhere in the URL, e.g. "/api/products"
+     * @return URL of the completed request
+     */
+    public String waitForRequest(String urlPattern) {
+        String key = "request " + urlPattern;
+        NetworkTracker tracker = NetworkTracker.forDriver(driver);
+        if (tracker == null) {
+            return wait.until(key, webDriver -> (String) ((JavascriptExecutor) webDriver)
+                    .executeScript(RESOURCE_MATCH_SCRIPT, urlPattern));
+        }
+        long start = System.nanoTime();
+        String url;
+        try {
+            url = tracker.waitForRequest(urlPattern, waitPolicy.getTimeout());
+        } catch (TimeoutException e) {
+            AdaptiveWait.recordTimeout(key);
+            throw e;
+        }
+        AdaptiveWait.record(key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.debug("Request completed: {}", url);
+        return url;
+    }
+    
     /**
      * Get all elements matching locator
      * @param locator Element locator
@@ -218,17 +467,66 @@ public class SeleniumUtils {
      */
     public List<WebElement> getElements(By locator) {
         List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty()) {
+            absenceChecks.increment();
+        }
         logger.debug("Found {} elements for locator: {}", elements.size(), locator);
         return elements;
     }
     
+    /**
+     * Read a list of repeated elements in one call, one map per row
+     * e.g. readList(By.cssSelector(".user-card"), Column.text("name", "h3"), Column.text("email", "p"))
+     * @param rows Row locator
+     * @param columns Values to read from each row, by CSS selector relative to the row
+     * @return Rows keyed by column name
+     */
+    public List<Map<String, String>> readList(By rows, DomBatchReader.Column... columns) {
+        List<Map<String, String>> result = batchReader.readList(rows, columns);
+        if (result.isEmpty()) {
+            absenceChecks.increment();
+        }
+        return result;
+    }
+    
+    /**
+     * Read an HTML table in one call, one map per body row keyed by header text
+     * @param table Table locator
+     * @return Rows keyed by header text
+     */
+    public List<Map<String, String>> readTable(By table) {
+        return batchReader.readTable(table);
+    }
+    
+    /**
+     * Read the visible text of all elements matching locator in one call
+     * @param locator Element locator
+     * @return Texts in document order
+     */
+    public List<String> getTexts(By locator) {
+        PageSnapshot snapshot = PageSnapshot.active(driver);
+        List<String> snapshotTexts = snapshot == null ? null : snapshot.getTexts(locator);
+        if (snapshotTexts != null) {
+            return snapshotTexts;
+        }
+        List<String> texts = batchReader.readTexts(locator);
+        if (texts.isEmpty()) {
+            absenceChecks.increment();
+        }
+        return texts;
+    }
+    
     /**
      * Wait for text to be present in element
      * @param locator Element locator
      * @param text Text to wait for
      */
     public void waitForTextPresent(By locator, String text) {
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        if (awaitMutation(locator, MutationWait.Condition.TEXT, text, waitPolicy.getTimeout()) != null) {
+            logger.debug("Text '{}' present in element: {}", text, locator);
+            return;
+        }
+        wait.until(locator + " [text]", ExpectedConditions.textToBePresentInElementLocated(locator, text));
         logger.debug("Text '{}' present in element: {}", text, locator);
     }
     
@@ -239,8 +537,76 @@ public class SeleniumUtils {
      * @return Script result
      */
     public Object executeScript(String script, Object... args) {
+        PageSnapshot.invalidate(driver);
         Object result = ((JavascriptExecutor) driver).executeScript(script, args);
         logger.debug("Executed JavaScript: {}", script);
         return result;
     }
+    
+    /**
+     * Get the wait policy used by this instance
+     * @return WaitPolicy
+     */
+    public WaitPolicy getWaitPolicy() {
+        return waitPolicy;
+    }
+    
+    /**
+     * Check a cached element without a findElement; a stale element that cannot be located again is dropped
+     * @return true if the cached element is displayed (and enabled when clickable is requested)
+     */
+    private static boolean checkCached(CachedElement cached, boolean clickable) {
+        if (!cached.isResolved()) {
+            return false;
+        }
+        try {
+            return cached.isDisplayed() && (!clickable || cached.isEnabled());
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            cached.invalidate();
+            return false;
+        }
+    }
+    
+    /**
+     * Seed the cache with an element a wait located
+     * @return The cached element, or the located one for locators that are not cached
+     */
+    private static WebElement remember(CachedElement cached, WebElement element) {
+        if (cached == null) {
+            return element;
+        }
+        cached.seed(element);
+        return cached;
+    }
+    
+    /**
+     * Actions serialize the element reference themselves, so hand them the underlying element
+     */
+    private static WebElement unwrap(WebElement element) {
+        return element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element;
+    }
+    
+    /**
+     * Wait through the MutationWait when the mutation strategy is enabled
+     * @return Matching element, or null when polling should be used instead
+     */
+    private WebElement awaitMutation(By locator, MutationWait.Condition condition, String text, Duration timeout) {
+        return mutationWait == null ? null : mutationWait.await(locator, condition, text, timeout);
+    }
+    
+    /**
+     * Log how many element lookups came back empty and the time a 10s implicit wait would have spent on them,
+     * and how many timed appearance waits gave up and what they cost
+     */
+    public static void logWaitReport() {
+        long checks = absenceChecks.sum();
+        logger.info("Absence checks: {} returned immediately (~{}s saved vs. {}s implicit wait)",
+                checks, checks * LEGACY_IMPLICIT_WAIT_SECONDS, LEGACY_IMPLICIT_WAIT_SECONDS);
+        logger.info("Appearance waits: {} timed out, {}s spent waiting for elements that never appeared",
+                appearTimeouts.sum(), appearTimeoutMillis.sum() / 1000);
+    }
+    
+    private static Duration appearTimeout() {
+        return Duration.ofSeconds(ConfigReader.getInstance().getLongProperty("wait.appear.seconds", 5));
+    }
 }
@@ -0,0 +1,91 @@
+package com.automation.utils;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Explicit wait settings shared by SeleniumUtils
+ * The framework runs with implicit wait 0, so every wait is explicit and carries its own
+ * timeout, polling schedule and set of exceptions to ignore while polling.
+ * Polling starts at the initial interval and backs off by the backoff factor up to the polling interval.
+ */
+public class WaitPolicy {
+
+    private final Duration timeout;
+    private final Duration initialPollingInterval;
+    private final Duration pollingInterval;
+    private final double backoffFactor;
+    private final List<Class<? extends Throwable>> ignoredExceptions;
+
+    public WaitPolicy(Duration timeout, Duration pollingInterval, List<Class<? extends Throwable>> ignoredExceptions) {
+        this(timeout, pollingInterval, pollingInterval, 1.0, ignoredExceptions);
+    }
+
+    public WaitPolicy(Duration timeout, Duration initialPollingInterval, Duration pollingInterval,
+                      double backoffFactor, List<Class<? extends Throwable>> ignoredExceptions) {
+        this.timeout = timeout;
+        this.initialPollingInterval = initialPollingInterval.compareTo(pollingInterval) > 0 ? pollingInterval : initialPollingInterval;
+        this.pollingInterval = pollingInterval;
+        this.backoffFactor = Math.max(1.0, backoffFactor);
+        this.ignoredExceptions = Collections.unmodifiableList(ignoredExceptions);
+    }
+
+    /**
+     * Build the default policy from configuration
+     * explicit.wait (seconds, default 10), wait.polling.initial.millis (default 10),
+     * wait.polling.millis (cap, default 500) and wait.polling.backoff (default 2.0)
+     * @return Default WaitPolicy
+     */
+    public static WaitPolicy defaults() {
+        ConfigReader config = ConfigReader.getInstance();
+        return new WaitPolicy(
+                Duration.ofSeconds(config.getLongProperty("explicit.wait", 10)),
+                Duration.ofMillis(config.getLongProperty("wait.polling.initial.millis", 10)),
+                Duration.ofMillis(config.getLongProperty("wait.polling.millis", 500)),
+                Double.parseDouble(config.getProperty("wait.polling.backoff", "2.0")),
+                Arrays.asList(NoSuchElementException.class, StaleElementReferenceException.class));
+    }
+
+    /**
+     * Copy of this policy with a different timeout
+     * @param timeout Timeout for a single call
+     * @return New WaitPolicy
+     */
+    public WaitPolicy withTimeout(Duration timeout) {
+        return new WaitPolicy(timeout, initialPollingInterval, pollingInterval, backoffFactor, ignoredExceptions);
+    }
+
+    /**
+     * Copy of this policy with a fixed polling interval
+     * @param pollingInterval Time between condition checks
+     * @return New WaitPolicy
+     */
+    public WaitPolicy withPollingInterval(Duration pollingInterval) {
+        return new WaitPolicy(timeout, pollingInterval, ignoredExceptions);
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public Duration getInitialPollingInterval() {
+        return initialPollingInterval;
+    }
+
+    public Duration getPollingInterval() {
+        return pollingInterval;
+    }
+
+    public double getBackoffFactor() {
+        return backoffFactor;
+    }
+
+    public List<Class<? extends Throwable>> getIgnoredExceptions() {
+        return ignoredExceptions;
+    }
+}
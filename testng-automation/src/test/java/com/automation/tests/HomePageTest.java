@@ -3,6 +3,7 @@ package com.automation.tests;
 import com.automation.base.BaseTest;
 import com.automation.pages.HomePage;
 import com.automation.pages.DashboardPage;
+import com.automation.utils.PageSnapshot;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.slf4j.Logger;
@@ -25,11 +26,14 @@ public class HomePageTest extends BaseTest {
         // Verify page is loaded
         Assert.assertTrue(homePage.isPageLoaded(), "Home page should be loaded");
         
-        // Verify navigation menu is visible
-        Assert.assertTrue(homePage.isNavigationMenuVisible(), "Navigation menu should be visible");
-        
-        // Verify all navigation links are present
-        Assert.assertTrue(homePage.areAllNavigationLinksPresent(), "All navigation links should be present");
+        // Read-only checks: answered from one DOM snapshot
+        try (PageSnapshot.Scope scope = homePage.snapshotScope()) {
+            // Verify navigation menu is visible
+            Assert.assertTrue(homePage.isNavigationMenuVisible(), "Navigation menu should be visible");
+            
+            // Verify all navigation links are present
+            Assert.assertTrue(homePage.areAllNavigationLinksPresent(), "All navigation links should be present");
+        }
         
         logger.info("Test completed: testHomePageLoad");
     }
@@ -171,10 +171,8 @@ public class ProductManagementTest extends BaseTest {
     
     private void submitProductForm(String name, String price, String category, String stock, String description) {
         try {
-            // Click add product button if it exists
-            if (seleniumUtils.isElementDisplayed(By.cssSelector("button[data-testid='add-product'], .add-product-btn"))) {
-                seleniumUtils.click(By.cssSelector("button[data-testid='add-product'], .add-product-btn"));
-            }
+            // The add product form is always rendered on the Products tab
+            seleniumUtils.waitForElementDisplayed(By.cssSelector(".product-form"));
             
             // Fill form fields
             if (!name.isEmpty()) seleniumUtils.type(By.cssSelector("input[name='name'], #productName"), name);
@@ -192,8 +190,8 @@ public class ProductManagementTest extends BaseTest {
     
     private void verifySuccessNotification() {
         try {
-            By notificationSelector = By.cssSelector(".notification, .toast, .alert-success");
-            if (seleniumUtils.isElementDisplayed(notificationSelector)) {
+            By notificationSelector = By.cssSelector(".Toastify__toast--success");
+            if (seleniumUtils.waitForElementDisplayed(notificationSelector)) {
                 String notificationText = seleniumUtils.getText(notificationSelector);
                 Assert.assertTrue(notificationText.toLowerCase().contains("success") || 
                                 notificationText.toLowerCase().contains("added"),
@@ -207,8 +205,8 @@ public class ProductManagementTest extends BaseTest {
     
     private void verifyProductInList(String productName) {
         try {
-            By productListSelector = By.cssSelector(".product-list, .products-container, [data-testid='product-item']");
-            if (seleniumUtils.isElementDisplayed(productListSelector)) {
+            By productListSelector = By.cssSelector(".products-grid");
+            if (seleniumUtils.waitForElementDisplayed(productListSelector)) {
                 String pageContent = driver.getPageSource();
                 Assert.assertTrue(pageContent.contains(productName), 
                                 "Product should appear in the list");
@@ -274,7 +272,8 @@ public class ProductManagementTest extends BaseTest {
     
     private void selectCategoryFilter(String category) {
         try {
-            By filterSelector = By.cssSelector("select[name='category'], .category-filter, #categoryFilter");
+            // The products tab has no category filter yet; check for one instead of waiting
+            By filterSelector = By.cssSelector(".products-section select.category-filter");
             if (seleniumUtils.isElementDisplayed(filterSelector)) {
                 seleniumUtils.selectByText(filterSelector, category);
                 logger.info("✅ Category filter selected: {}", category);
@@ -331,14 +330,13 @@ public class ProductManagementTest extends BaseTest {
     private void verifyDefaultProductsExist() {
         try {
             By productSelector = By.cssSelector(".product-item, .product-card, [data-testid='product']");
-            List<WebElement> products = driver.findElements(productSelector);
+            List<String> products = seleniumUtils.getTexts(productSelector);
             
             if (products.size() > 0) {
                 logger.info("✅ Found {} default products", products.size());
                 
                 // Verify product details are displayed
-                for (WebElement product : products) {
-                    String productText = product.getText();
+                for (String productText : products) {
                     Assert.assertFalse(productText.trim().isEmpty(), "Product should have visible details");
                 }
             } else {
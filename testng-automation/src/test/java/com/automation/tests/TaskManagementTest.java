@@ -254,8 +254,8 @@ public class TaskManagementTest extends BaseTest {
     private void verifyTaskCreationSuccess(String taskTitle) {
         // Check for success notification
         try {
-            By notificationSelector = By.cssSelector(".notification, .toast, .alert-success");
-            if (seleniumUtils.isElementDisplayed(notificationSelector)) {
+            By notificationSelector = By.cssSelector(".Toastify__toast--success");
+            if (seleniumUtils.waitForElementDisplayed(notificationSelector)) {
                 String notificationText = seleniumUtils.getText(notificationSelector);
                 Assert.assertTrue(notificationText.toLowerCase().contains("success") || 
                                 notificationText.toLowerCase().contains("added") ||
@@ -337,8 +337,8 @@ public class TaskManagementTest extends BaseTest {
             // Try to submit without title
             seleniumUtils.click(By.cssSelector("button[type='submit'], .submit-btn"));
             
-            // Check for validation message
-            By validationSelector = By.cssSelector(".error, .validation-message, .field-error");
+            // The form rejects an empty title without a message, so check instead of waiting for one
+            By validationSelector = By.cssSelector(".Toastify__toast--error");
             if (seleniumUtils.isElementDisplayed(validationSelector)) {
                 logger.info("✅ Form validation working - empty title rejected");
             } else {
@@ -373,8 +373,8 @@ public class TaskManagementTest extends BaseTest {
     private void verifyTaskListStructure() {
         try {
             // Check for basic task list structure
-            By taskListSelector = By.cssSelector(".task-list, .tasks-container, [data-testid='tasks-list']");
-            Assert.assertTrue(seleniumUtils.isElementDisplayed(taskListSelector) || 
+            By taskListSelector = By.cssSelector(".tasks-list");
+            Assert.assertTrue(seleniumUtils.waitForElementDisplayed(taskListSelector) || 
                             driver.getPageSource().toLowerCase().contains("task"),
                             "Task list structure should be present");
             logger.info("✅ Task list structure verified");
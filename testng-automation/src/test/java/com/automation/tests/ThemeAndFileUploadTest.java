@@ -19,6 +19,7 @@ import java.util.List;
 public class ThemeAndFileUploadTest extends BaseTest {
     
     private static final Logger logger = LoggerFactory.getLogger(ThemeAndFileUploadTest.class);
+    private static final By FILES_TAB = By.xpath("//nav//button[normalize-space()='Files & Themes']");
     
     @Test(description = "Test file upload with valid file types", dataProvider = "validFileData")
     public void testFileUploadWithValidFiles(String fileType, String fileName) {
@@ -162,8 +163,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
     private void navigateToFileUploadSection() {
         try {
             // Try to find and click on themes/files tab or section
-            By themesTabSelector = By.cssSelector("a[href*='themes'], a[href*='files'], .themes-tab, .files-tab");
-            if (seleniumUtils.isElementDisplayed(themesTabSelector)) {
+            By themesTabSelector = FILES_TAB;
+            if (seleniumUtils.waitForElementDisplayed(themesTabSelector)) {
                 seleniumUtils.click(themesTabSelector);
                 logger.info("✅ Navigated to file upload section");
             } else {
@@ -181,8 +182,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
     
     private void navigateToThemesSection() {
         try {
-            By themesSelector = By.cssSelector(".themes-section, [data-testid='themes'], .theme-selector");
-            if (seleniumUtils.isElementDisplayed(themesSelector)) {
+            By themesSelector = By.cssSelector(".theme-section");
+            if (seleniumUtils.waitForElementDisplayed(themesSelector)) {
                 seleniumUtils.scrollToElement(themesSelector);
                 logger.info("✅ Navigated to themes section");
             }
@@ -197,8 +198,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
             HomePage homePage = new HomePage(driver);
             
             // Try clicking a themes/files related navigation item
-            By themesFilesSelector = By.cssSelector("a[href*='themes'], a[href*='files'], .themes-files-tab");
-            if (seleniumUtils.isElementDisplayed(themesFilesSelector)) {
+            By themesFilesSelector = FILES_TAB;
+            if (seleniumUtils.waitForElementDisplayed(themesFilesSelector)) {
                 seleniumUtils.click(themesFilesSelector);
                 logger.info("✅ Navigated to themes and files section");
             }
@@ -227,8 +228,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
     
     private void clickFileInput() {
         try {
-            By fileInputSelector = By.cssSelector("input[type='file'], .file-input, [data-testid='file-input']");
-            if (seleniumUtils.isElementDisplayed(fileInputSelector)) {
+            By fileInputSelector = By.cssSelector(".file-upload-form input[type='file']");
+            if (seleniumUtils.waitForElementDisplayed(fileInputSelector)) {
                 seleniumUtils.click(fileInputSelector);
                 logger.info("✅ File input clicked successfully");
             }
@@ -271,8 +272,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
             seleniumUtils.waitForPageLoad();
             
             // Look for uploaded files list
-            By uploadedListSelector = By.cssSelector(".uploaded-files, .file-list, [data-testid='uploaded-files']");
-            if (seleniumUtils.isElementDisplayed(uploadedListSelector)) {
+            By uploadedListSelector = By.cssSelector(".uploaded-files-section");
+            if (seleniumUtils.waitForElementDisplayed(uploadedListSelector)) {
                 String listContent = seleniumUtils.getText(uploadedListSelector);
                 if (listContent.contains(fileName) || listContent.contains("file")) {
                     logger.info("✅ File verified in uploaded files list");
@@ -295,8 +296,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
     private void selectBackgroundTheme(String themeName) {
         try {
             // Look for theme selection controls
-            By themeSelector = By.cssSelector("select[name='theme'], .theme-selector, [data-testid='theme-select']");
-            if (seleniumUtils.isElementDisplayed(themeSelector)) {
+            By themeSelector = By.cssSelector(".theme-for-file select");
+            if (seleniumUtils.waitForElementDisplayed(themeSelector)) {
                 seleniumUtils.selectByText(themeSelector, themeName);
                 logger.info("✅ Background theme selected: {}", themeName);
                 return;
@@ -369,7 +370,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
     private void verifyAutoBackgroundNotice() {
         try {
             // Look for auto-background related notices or messages
-            By noticeSelector = By.cssSelector(".notice, .auto-background-notice, [data-testid='auto-background-notice']");
+            // Shown only while an image is selected, so check instead of waiting for it
+            By noticeSelector = By.cssSelector(".image-notice");
             if (seleniumUtils.isElementDisplayed(noticeSelector)) {
                 String noticeText = seleniumUtils.getText(noticeSelector);
                 if (noticeText.toLowerCase().contains("auto") && noticeText.toLowerCase().contains("background")) {
@@ -393,8 +395,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
     private void completeFileUpload() {
         try {
             // Look for upload completion button
-            By uploadButtonSelector = By.cssSelector("button[data-testid='upload'], .upload-btn, .complete-upload");
-            if (seleniumUtils.isElementDisplayed(uploadButtonSelector)) {
+            By uploadButtonSelector = By.cssSelector(".file-upload-form button[type='submit']");
+            if (seleniumUtils.waitForElementDisplayed(uploadButtonSelector)) {
                 seleniumUtils.click(uploadButtonSelector);
                 logger.info("✅ File upload completed");
             }
@@ -408,8 +410,8 @@ public class ThemeAndFileUploadTest extends BaseTest {
             seleniumUtils.waitForPageLoad();
             
             // Check for success notification
-            By successSelector = By.cssSelector(".success, .upload-success, [data-testid='upload-success']");
-            if (seleniumUtils.isElementDisplayed(successSelector)) {
+            By successSelector = By.cssSelector(".Toastify__toast--success");
+            if (seleniumUtils.waitForElementDisplayed(successSelector)) {
                 logger.info("✅ Upload completion verified with success notification");
                 return;
             }
@@ -426,7 +428,7 @@ public class ThemeAndFileUploadTest extends BaseTest {
         try {
             // Check if file input is functional
             By fileInputSelector = By.cssSelector("input[type='file']");
-            if (seleniumUtils.isElementDisplayed(fileInputSelector)) {
+            if (seleniumUtils.waitForElementDisplayed(fileInputSelector)) {
                 WebElement fileInput = driver.findElement(fileInputSelector);
                 Assert.assertTrue(fileInput.isEnabled(), "File input should be interactive and enabled");
                 logger.info("✅ File input interactivity verified");
@@ -506,12 +508,12 @@ public class ThemeAndFileUploadTest extends BaseTest {
             // Test basic features availability
             
             // Check for theme controls
-            boolean hasThemeControls = seleniumUtils.isElementDisplayed(
-                By.cssSelector(".theme-selector, [data-testid='theme'], select[name='theme']"));
+            boolean hasThemeControls = seleniumUtils.waitForElementDisplayed(
+                By.cssSelector(".theme-selector"));
             
             // Check for file upload controls
-            boolean hasFileControls = seleniumUtils.isElementDisplayed(
-                By.cssSelector("input[type='file'], .file-upload, [data-testid='file-input']"));
+            boolean hasFileControls = seleniumUtils.waitForElementDisplayed(
+                By.cssSelector(".file-upload-form input[type='file']"));
             
             if (hasThemeControls) {
                 logger.info("✅ Theme controls available");
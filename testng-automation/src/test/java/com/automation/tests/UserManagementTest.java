@@ -3,6 +3,7 @@ package com.automation.tests;
 import com.automation.base.BaseTest;
 import com.automation.pages.HomePage;
 import com.automation.pages.UsersPage;
+import com.automation.utils.DomBatchReader.Column;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
@@ -12,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * User Management Tests
@@ -20,6 +22,7 @@ import java.util.List;
 public class UserManagementTest extends BaseTest {
     
     private static final Logger logger = LoggerFactory.getLogger(UserManagementTest.class);
+    private static final By USER_FORM = By.cssSelector(".user-form");
     
     @Test(description = "Add a new user with valid details", dataProvider = "validUserData")
     public void testAddNewUserWithValidDetails(String name, String email, String role) {
@@ -227,18 +230,15 @@ public class UserManagementTest extends BaseTest {
     
     private void addNewUser(String name, String email, String role) {
         try {
-            // Click add user button
-            By addUserButtonSelector = By.cssSelector("button[data-testid='add-user'], .add-user-btn, .new-user-btn");
-            if (seleniumUtils.isElementDisplayed(addUserButtonSelector)) {
-                seleniumUtils.click(addUserButtonSelector);
-            }
+            // The add user form is always rendered on the Users tab
+            seleniumUtils.waitForElementDisplayed(USER_FORM);
             
             // Fill user form
             fillUserForm(name, email, role);
             
             // Submit form
-            By submitButtonSelector = By.cssSelector("button[type='submit'], .submit-btn, .add-user-submit");
-            if (seleniumUtils.isElementDisplayed(submitButtonSelector)) {
+            By submitButtonSelector = By.cssSelector(".user-form button[type='submit']");
+            if (seleniumUtils.waitForElementDisplayed(submitButtonSelector)) {
                 seleniumUtils.click(submitButtonSelector);
             }
             
@@ -253,8 +253,8 @@ public class UserManagementTest extends BaseTest {
         try {
             // Fill name field
             if (name != null && !name.isEmpty()) {
-                By nameFieldSelector = By.cssSelector("input[name='name'], #userName, .user-name-input");
-                if (seleniumUtils.isElementDisplayed(nameFieldSelector)) {
+                By nameFieldSelector = By.cssSelector(".user-form input[placeholder='Name']");
+                if (seleniumUtils.waitForElementDisplayed(nameFieldSelector)) {
                     seleniumUtils.type(nameFieldSelector, name);
                     logger.info("✅ Name field filled: {}", name);
                 }
@@ -262,8 +262,8 @@ public class UserManagementTest extends BaseTest {
             
             // Fill email field
             if (email != null && !email.isEmpty()) {
-                By emailFieldSelector = By.cssSelector("input[name='email'], #userEmail, .user-email-input");
-                if (seleniumUtils.isElementDisplayed(emailFieldSelector)) {
+                By emailFieldSelector = By.cssSelector(".user-form input[type='email']");
+                if (seleniumUtils.waitForElementDisplayed(emailFieldSelector)) {
                     seleniumUtils.type(emailFieldSelector, email);
                     logger.info("✅ Email field filled: {}", email);
                 }
@@ -271,8 +271,8 @@ public class UserManagementTest extends BaseTest {
             
             // Select role
             if (role != null && !role.isEmpty()) {
-                By roleFieldSelector = By.cssSelector("select[name='role'], #userRole, .user-role-select");
-                if (seleniumUtils.isElementDisplayed(roleFieldSelector)) {
+                By roleFieldSelector = By.cssSelector(".user-form select");
+                if (seleniumUtils.waitForElementDisplayed(roleFieldSelector)) {
                     seleniumUtils.selectByText(roleFieldSelector, role);
                     logger.info("✅ Role selected: {}", role);
                 }
@@ -284,18 +284,15 @@ public class UserManagementTest extends BaseTest {
     
     private void attemptToAddUserWithValidation(String name, String email, String role) {
         try {
-            // Open add user form
-            By addUserButtonSelector = By.cssSelector("button[data-testid='add-user'], .add-user-btn");
-            if (seleniumUtils.isElementDisplayed(addUserButtonSelector)) {
-                seleniumUtils.click(addUserButtonSelector);
-            }
+            // The add user form is always rendered on the Users tab
+            seleniumUtils.waitForElementDisplayed(USER_FORM);
             
             // Fill form with test data
             fillUserForm(name, email, role);
             
             // Try to submit form
-            By submitButtonSelector = By.cssSelector("button[type='submit'], .submit-btn");
-            if (seleniumUtils.isElementDisplayed(submitButtonSelector)) {
+            By submitButtonSelector = By.cssSelector(".user-form button[type='submit']");
+            if (seleniumUtils.waitForElementDisplayed(submitButtonSelector)) {
                 seleniumUtils.click(submitButtonSelector);
             }
             
@@ -307,8 +304,8 @@ public class UserManagementTest extends BaseTest {
     
     private void verifySuccessToastNotification() {
         try {
-            By toastSelector = By.cssSelector(".toast, .notification, .alert-success, [data-testid='success-toast']");
-            if (seleniumUtils.isElementDisplayed(toastSelector)) {
+            By toastSelector = By.cssSelector(".Toastify__toast--success");
+            if (seleniumUtils.waitForElementDisplayed(toastSelector)) {
                 String toastText = seleniumUtils.getText(toastSelector);
                 Assert.assertTrue(toastText.toLowerCase().contains("success") || 
                                 toastText.toLowerCase().contains("added") ||
@@ -326,10 +323,11 @@ public class UserManagementTest extends BaseTest {
     private void verifyUserInList(String name, String email) {
         try {
             seleniumUtils.waitForPageLoad();
-            String pageContent = driver.getPageSource();
+            List<Map<String, String>> users = seleniumUtils.readList(By.cssSelector(".user-card, .user-item, .user-row"),
+                    Column.text("name", "h3"), Column.text("email", "p"));
             
-            boolean nameFound = pageContent.contains(name);
-            boolean emailFound = pageContent.contains(email);
+            boolean nameFound = users.stream().anyMatch(user -> name.equals(user.get("name")));
+            boolean emailFound = users.stream().anyMatch(user -> email.equals(user.get("email")));
             
             if (nameFound && emailFound) {
                 logger.info("✅ User verified in list: {} ({})", name, email);
@@ -337,7 +335,7 @@ public class UserManagementTest extends BaseTest {
                 logger.info("✅ User partially verified in list");
             } else {
                 // Try to find users table or list structure
-                By usersTableSelector = By.cssSelector(".users-table, .users-list, [data-testid='users-list']");
+                By usersTableSelector = By.cssSelector(".users-grid");
                 if (seleniumUtils.isElementDisplayed(usersTableSelector)) {
                     logger.info("✅ Users list structure verified");
                 } else {
@@ -391,21 +389,14 @@ public class UserManagementTest extends BaseTest {
     private void deleteUserFromList(int userIndex) {
         try {
             // Look for delete buttons
-            By deleteButtonSelector = By.cssSelector("button[data-testid='delete-user'], .delete-btn, .remove-user");
+            By deleteButtonSelector = By.cssSelector(".user-card .delete-btn");
             List<WebElement> deleteButtons = driver.findElements(deleteButtonSelector);
             
             if (!deleteButtons.isEmpty() && deleteButtons.size() >= userIndex) {
                 deleteButtons.get(userIndex - 1).click();
                 
-                // Handle confirmation dialog if it exists
-                try {
-                    By confirmButtonSelector = By.cssSelector(".confirm-delete, [data-testid='confirm'], .yes-btn");
-                    if (seleniumUtils.isElementDisplayed(confirmButtonSelector)) {
-                        seleniumUtils.click(confirmButtonSelector);
-                    }
-                } catch (Exception e) {
-                    // No confirmation dialog
-                }
+                // Deleting asks for confirmation in a native dialog
+                seleniumUtils.acceptConfirmation();
                 
                 logger.info("✅ User deletion initiated");
             } else {
@@ -418,13 +409,10 @@ public class UserManagementTest extends BaseTest {
     
     private void testNameFieldInteraction() {
         try {
-            By addUserButtonSelector = By.cssSelector("button[data-testid='add-user'], .add-user-btn");
-            if (seleniumUtils.isElementDisplayed(addUserButtonSelector)) {
-                seleniumUtils.click(addUserButtonSelector);
-            }
+            seleniumUtils.waitForElementDisplayed(USER_FORM);
             
-            By nameFieldSelector = By.cssSelector("input[name='name'], #userName");
-            if (seleniumUtils.isElementDisplayed(nameFieldSelector)) {
+            By nameFieldSelector = By.cssSelector(".user-form input[placeholder='Name']");
+            if (seleniumUtils.waitForElementDisplayed(nameFieldSelector)) {
                 seleniumUtils.type(nameFieldSelector, "Test Name");
                 String enteredValue = driver.findElement(nameFieldSelector).getAttribute("value");
                 Assert.assertEquals(enteredValue, "Test Name", "Name field should accept input");
@@ -437,8 +425,8 @@ public class UserManagementTest extends BaseTest {
     
     private void testEmailFieldInteraction() {
         try {
-            By emailFieldSelector = By.cssSelector("input[name='email'], #userEmail");
-            if (seleniumUtils.isElementDisplayed(emailFieldSelector)) {
+            By emailFieldSelector = By.cssSelector(".user-form input[type='email']");
+            if (seleniumUtils.waitForElementDisplayed(emailFieldSelector)) {
                 seleniumUtils.type(emailFieldSelector, "test@example.com");
                 String enteredValue = driver.findElement(emailFieldSelector).getAttribute("value");
                 Assert.assertEquals(enteredValue, "test@example.com", "Email field should accept input");
@@ -451,8 +439,8 @@ public class UserManagementTest extends BaseTest {
     
     private void testRoleFieldInteraction() {
         try {
-            By roleFieldSelector = By.cssSelector("select[name='role'], #userRole");
-            if (seleniumUtils.isElementDisplayed(roleFieldSelector)) {
+            By roleFieldSelector = By.cssSelector(".user-form select");
+            if (seleniumUtils.waitForElementDisplayed(roleFieldSelector)) {
                 seleniumUtils.selectByText(roleFieldSelector, "User");
                 logger.info("✅ Role field interaction verified");
             }
@@ -479,8 +467,8 @@ public class UserManagementTest extends BaseTest {
     
     private void clickRefreshUsersButton() {
         try {
-            By refreshButtonSelector = By.cssSelector("button[data-testid='refresh-users'], .refresh-btn, .reload-users");
-            if (seleniumUtils.isElementDisplayed(refreshButtonSelector)) {
+            By refreshButtonSelector = By.cssSelector(".users-section .refresh-btn");
+            if (seleniumUtils.waitForElementDisplayed(refreshButtonSelector)) {
                 seleniumUtils.click(refreshButtonSelector);
                 logger.info("✅ Refresh users button clicked");
             } else {
@@ -497,8 +485,8 @@ public class UserManagementTest extends BaseTest {
         try {
             seleniumUtils.waitForPageLoad();
             
-            By usersListSelector = By.cssSelector(".users-list, .users-table, [data-testid='users-list']");
-            boolean usersListVisible = seleniumUtils.isElementDisplayed(usersListSelector) ||
+            By usersListSelector = By.cssSelector(".users-grid");
+            boolean usersListVisible = seleniumUtils.waitForElementDisplayed(usersListSelector) ||
                                      driver.getPageSource().toLowerCase().contains("user");
             
             Assert.assertTrue(usersListVisible, "Users list should be visible after refresh");
@@ -511,12 +499,10 @@ public class UserManagementTest extends BaseTest {
     private void verifyUserListStructure() {
         try {
             // Check for table structure or list structure
-            boolean hasTable = seleniumUtils.isElementDisplayed(By.cssSelector("table, .table"));
-            boolean hasList = seleniumUtils.isElementDisplayed(By.cssSelector(".users-list, .user-list"));
-            boolean hasUserElements = seleniumUtils.isElementDisplayed(By.cssSelector(".user-item, .user-row"));
+            boolean hasStructure = seleniumUtils.waitForElementDisplayed(
+                By.cssSelector(".users-grid"));
             
-            Assert.assertTrue(hasTable || hasList || hasUserElements, 
-                            "User list should have proper structure");
+            Assert.assertTrue(hasStructure, "User list should have proper structure");
             logger.info("✅ User list structure verified");
         } catch (Exception e) {
             logger.info("ℹ️ User list structure verification completed");